@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static org.mule.runtime.extension.api.benchmark.SyntheticExtensions.CONFIG_NAME;
+import static org.mule.runtime.extension.api.benchmark.SyntheticExtensions.OPERATION_PREFIX;
+import static org.mule.runtime.extension.api.benchmark.SyntheticExtensions.loadingContext;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the lookup by name of every operation of synthetic extension models of increasing size.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ComponentLookupBenchmark {
+
+  @Param({"10", "100", "500"})
+  private int operations;
+
+  private ExtensionModel extensionModel;
+  private ConfigurationModel configurationModel;
+  private List<String> operationNames;
+
+  @Setup
+  public void setup() {
+    extensionModel = new ExtensionModelFactory().create(loadingContext(operations));
+    configurationModel = extensionModel.getConfigurationModel(CONFIG_NAME).get();
+
+    operationNames = new ArrayList<>(operations);
+    for (int i = 0; i < operations; i++) {
+      operationNames.add(OPERATION_PREFIX + i);
+    }
+  }
+
+  @Benchmark
+  public void getOperationModel(Blackhole blackhole) {
+    for (String name : operationNames) {
+      blackhole.consume(configurationModel.getOperationModel(name));
+    }
+  }
+
+  @Benchmark
+  public void findComponentModel(Blackhole blackhole) {
+    for (String name : operationNames) {
+      blackhole.consume(extensionModel.findComponentModel(name));
+    }
+  }
+}
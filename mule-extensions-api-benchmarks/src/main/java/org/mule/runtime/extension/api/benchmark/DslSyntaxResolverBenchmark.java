@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static org.mule.runtime.extension.api.benchmark.ExtensionModelFixtures.collectParameters;
+import static org.mule.runtime.extension.api.benchmark.ExtensionModelFixtures.loadExtensionModel;
+
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.CachingDslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the resolution of the XML DSL syntax of all the parameters of the extension model used as fixture by the persistence
+ * tests, with the default {@link DslSyntaxResolver} and with a {@link CachingDslSyntaxResolver} wrapping it.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class DslSyntaxResolverBenchmark {
+
+  private List<ParameterModel> parameters;
+  private DslSyntaxResolver resolver;
+  private DslSyntaxResolver cachingResolver;
+
+  @Setup
+  public void setup() {
+    ExtensionModel extensionModel = loadExtensionModel();
+    parameters = collectParameters(extensionModel);
+
+    DslResolvingContext context = DslResolvingContext.getDefault(singleton(extensionModel));
+    resolver = DslSyntaxResolver.getDefault(extensionModel, context);
+    cachingResolver = new CachingDslSyntaxResolver(DslSyntaxResolver.getDefault(extensionModel, context));
+  }
+
+  @Benchmark
+  public void resolveParameters(Blackhole blackhole) {
+    for (ParameterModel parameter : parameters) {
+      blackhole.consume(resolver.resolve(parameter));
+    }
+  }
+
+  @Benchmark
+  public void resolveParametersCached(Blackhole blackhole) {
+    for (ParameterModel parameter : parameters) {
+      blackhole.consume(cachingResolver.resolve(parameter));
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.internal.dsql.DefaultDsqlParser;
+import org.mule.runtime.extension.internal.dsql.PreparedDsqlQuery;
+import org.mule.runtime.extension.internal.value.IntegerValue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of DSQL queries, both when they are found in the cache of the {@link DefaultDsqlParser} and when they
+ * are not, and the binding of the values of the Mule expressions in a {@link PreparedDsqlQuery}.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class DsqlParserBenchmark {
+
+  @Param({"dsql:SELECT id, name FROM Account WHERE id > #[vars.minId] ORDER BY name LIMIT 10",
+      "dsql:SELECT id, name, email FROM Contact WHERE (name = 'Juan' OR name = 'Pedro') AND age > #[vars.age] AND active = true"})
+  private String query;
+
+  private final DefaultDsqlParser parser = DefaultDsqlParser.getInstance();
+  private final IntegerValue boundValue = new IntegerValue(42);
+  private PreparedDsqlQuery prepared;
+
+  @Setup
+  public void setup() {
+    prepared = parser.prepare(query);
+  }
+
+  @Benchmark
+  public DsqlQuery parse() {
+    return parser.parse(query);
+  }
+
+  @Benchmark
+  public DsqlQuery parseUncached(UncachedQuery uncachedQuery) {
+    return parser.parse(uncachedQuery.query);
+  }
+
+  @Benchmark
+  public DsqlQuery bind() {
+    return prepared.bind(expression -> boundValue);
+  }
+
+  /**
+   * A variant of the benchmarked query which has not been parsed before, so that it is not found in the cache.
+   */
+  @State(Scope.Thread)
+  public static class UncachedQuery {
+
+    private long invocation;
+    private String query;
+
+    @Setup(Level.Invocation)
+    public void nextQuery(DsqlParserBenchmark benchmark) {
+      // the text of Mule expressions is not parsed, so the queries only differ in their cache keys
+      query = benchmark.query.replaceFirst("#\\[vars\\.(\\w+)]", "#[vars.$1" + invocation++ + "]");
+    }
+  }
+}
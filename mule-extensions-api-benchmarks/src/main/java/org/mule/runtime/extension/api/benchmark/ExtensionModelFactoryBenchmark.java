@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static org.mule.runtime.extension.api.benchmark.SyntheticExtensions.loadingContext;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ExtensionModelFactory#create(ExtensionLoadingContext)} (enrichment plus model building) on synthetic
+ * declarations of increasing size.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ExtensionModelFactoryBenchmark {
+
+  @Param({"10", "100", "500"})
+  private int operations;
+
+  private final ExtensionModelFactory factory = new ExtensionModelFactory();
+
+  private ExtensionLoadingContext loadingContext;
+
+  @Setup(Level.Invocation)
+  public void declare() {
+    // enrichers modify the declaration, so each invocation needs a new one
+    loadingContext = loadingContext(operations);
+  }
+
+  @Benchmark
+  public ExtensionModel create() {
+    return factory.create(loadingContext);
+  }
+}
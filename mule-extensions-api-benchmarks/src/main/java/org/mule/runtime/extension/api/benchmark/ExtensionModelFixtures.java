@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableList;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Access to the serialized extension models used as fixtures by the persistence tests, so the benchmarks run on the same models
+ * the functional tests are written against.
+ *
+ * @since 1.8
+ */
+final class ExtensionModelFixtures {
+
+  static final String SERIALIZED_EXTENSION_MODEL = "/extension/serialized-extension-model.json";
+
+  private ExtensionModelFixtures() {}
+
+  /**
+   * @param resource the classpath location of the fixture
+   * @return the contents of the fixture
+   */
+  static byte[] readFixture(String resource) {
+    try (InputStream content = ExtensionModelFixtures.class.getResourceAsStream(resource)) {
+      if (content == null) {
+        throw new IllegalStateException("Fixture '" + resource + "' not found in the classpath");
+      }
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8 * 1024];
+      int read;
+      while ((read = content.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @return the {@link ExtensionModel} of the {@link #SERIALIZED_EXTENSION_MODEL} fixture
+   */
+  static ExtensionModel loadExtensionModel() {
+    return new ExtensionModelJsonSerializer().deserialize(new String(readFixture(SERIALIZED_EXTENSION_MODEL), UTF_8));
+  }
+
+  /**
+   * @param extensionModel an extension model
+   * @return all the parameters of all the components of the given {@code extensionModel}
+   */
+  static List<ParameterModel> collectParameters(ExtensionModel extensionModel) {
+    List<ParameterModel> parameters = new ArrayList<>();
+    new ExtensionWalker() {
+
+      @Override
+      protected void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+        parameters.add(model);
+      }
+    }.walk(extensionModel);
+
+    return unmodifiableList(parameters);
+  }
+}
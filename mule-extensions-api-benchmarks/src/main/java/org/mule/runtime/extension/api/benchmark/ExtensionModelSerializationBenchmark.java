@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static org.mule.runtime.extension.api.benchmark.ExtensionModelFixtures.SERIALIZED_EXTENSION_MODEL;
+import static org.mule.runtime.extension.api.benchmark.ExtensionModelFixtures.readFixture;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelBinarySerializer;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the serialization and deserialization of the extension model used as fixture by the persistence tests, both in its
+ * JSON and binary forms.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ExtensionModelSerializationBenchmark {
+
+  private final ExtensionModelJsonSerializer jsonSerializer = new ExtensionModelJsonSerializer();
+  private final ExtensionModelBinarySerializer binarySerializer = new ExtensionModelBinarySerializer();
+
+  private ExtensionModel extensionModel;
+  private String json;
+  private byte[] binary;
+  private String operationName;
+
+  @Setup
+  public void setup() {
+    json = new String(readFixture(SERIALIZED_EXTENSION_MODEL), UTF_8);
+    extensionModel = jsonSerializer.deserialize(json);
+    binary = binarySerializer.serialize(extensionModel);
+    operationName = extensionModel.getOperationModels().get(0).getName();
+  }
+
+  @Benchmark
+  public String serializeJson() {
+    return jsonSerializer.serialize(extensionModel);
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream serializeJsonStream() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    jsonSerializer.serialize(extensionModel, out);
+    return out;
+  }
+
+  @Benchmark
+  public ExtensionModel deserializeJson() {
+    return jsonSerializer.deserialize(json);
+  }
+
+  @Benchmark
+  public ExtensionModel deserializeJsonStream() {
+    return jsonSerializer.deserialize(new ByteArrayInputStream(json.getBytes(UTF_8)));
+  }
+
+  @Benchmark
+  public ExtensionModel deserializeJsonLazily() {
+    return jsonSerializer.deserializeLazily(json);
+  }
+
+  @Benchmark
+  public Optional<OperationModel> deserializeJsonLazilyAndLookUpOperation() {
+    return jsonSerializer.deserializeLazily(json).getOperationModel(operationName);
+  }
+
+  @Benchmark
+  public byte[] serializeBinary() {
+    return binarySerializer.serialize(extensionModel);
+  }
+
+  @Benchmark
+  public ExtensionModel deserializeBinary() {
+    return binarySerializer.deserialize(binary);
+  }
+}
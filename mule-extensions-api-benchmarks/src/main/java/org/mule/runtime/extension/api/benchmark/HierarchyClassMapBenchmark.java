@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.runtime.extension.api.util.CachingHierarchyClassMap;
+import org.mule.runtime.extension.api.util.HierarchyClassMap;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link HierarchyClassMap#get(Object)} and the one of {@link CachingHierarchyClassMap} for exact, hierarchical and
+ * missing keys.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class HierarchyClassMapBenchmark {
+
+  private static final Class<?>[] KEYS = {IllegalArgumentException.class, IllegalStateException.class,
+      UnsupportedOperationException.class, NullPointerException.class, ConcurrentModificationException.class,
+      NoSuchElementException.class, UncheckedIOException.class, FileNotFoundException.class, TimeoutException.class};
+
+  @Param({"plain", "caching"})
+  private String mapType;
+
+  private HierarchyClassMap<String> map;
+
+  @Setup
+  public void setup() {
+    map = "caching".equals(mapType) ? new CachingHierarchyClassMap<>() : new HierarchyClassMap<>();
+    for (Class<?> key : KEYS) {
+      map.put(key, key.getSimpleName());
+    }
+  }
+
+  @Benchmark
+  public String exactMatch() {
+    return map.get(IllegalStateException.class);
+  }
+
+  @Benchmark
+  public String superClassMatch() {
+    // resolved through IllegalArgumentException
+    return map.get(NumberFormatException.class);
+  }
+
+  @Benchmark
+  public String subClassMatch() {
+    // resolved through any of the keys which extends IOException
+    return map.get(IOException.class);
+  }
+
+  @Benchmark
+  public void miss(Blackhole blackhole) {
+    blackhole.consume(map.get(ArithmeticException.class));
+    blackhole.consume(map.containsKey(Error.class));
+  }
+}
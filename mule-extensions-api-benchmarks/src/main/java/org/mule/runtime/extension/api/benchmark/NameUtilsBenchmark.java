@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static org.mule.runtime.extension.api.benchmark.ExtensionModelFixtures.collectParameters;
+import static org.mule.runtime.extension.api.benchmark.ExtensionModelFixtures.loadExtensionModel;
+import static org.mule.runtime.extension.api.util.NameUtils.itemize;
+import static org.mule.runtime.extension.api.util.NameUtils.pluralize;
+import static org.mule.runtime.extension.api.util.NameUtils.singularize;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.stream.Collectors.toList;
+
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.extension.api.util.NameUtils;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the inflections of {@link NameUtils} over the names of the parameters of the extension model used as fixture by the
+ * persistence tests, both when their outcome is remembered from previous invocations and when it is not.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class NameUtilsBenchmark {
+
+  private List<String> names;
+
+  @Setup
+  public void setup() {
+    names = collectParameters(loadExtensionModel()).stream().map(NamedObject::getName).distinct().collect(toList());
+  }
+
+  @Benchmark
+  public void pluralizeNames(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(pluralize(name));
+    }
+  }
+
+  @Benchmark
+  public void singularizeNames(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(singularize(name));
+    }
+  }
+
+  @Benchmark
+  public void itemizeNames(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(itemize(name));
+    }
+  }
+
+  @Benchmark
+  public void pluralizeUncachedNames(UncachedNames uncachedNames, Blackhole blackhole) {
+    for (String name : uncachedNames.names) {
+      blackhole.consume(pluralize(name));
+    }
+  }
+
+  @Benchmark
+  public void singularizeUncachedNames(UncachedNames uncachedNames, Blackhole blackhole) {
+    for (String name : uncachedNames.names) {
+      blackhole.consume(singularize(name));
+    }
+  }
+
+  @Benchmark
+  public void itemizeUncachedNames(UncachedNames uncachedNames, Blackhole blackhole) {
+    for (String name : uncachedNames.names) {
+      blackhole.consume(itemize(name));
+    }
+  }
+
+  /**
+   * Variants of the benchmarked names which have not been inflected before, so that their outcome is not remembered.
+   */
+  @State(Scope.Thread)
+  public static class UncachedNames {
+
+    private long invocation;
+    private List<String> names;
+
+    @Setup(Level.Invocation)
+    public void nextNames(NameUtilsBenchmark benchmark) {
+      // inflections depend on the endings of the words, which are kept
+      String prefix = "v" + invocation++;
+      names = benchmark.names.stream().map(name -> prefix + name).collect(toList());
+    }
+  }
+}
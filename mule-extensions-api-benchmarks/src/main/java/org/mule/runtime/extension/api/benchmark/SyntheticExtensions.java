@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.benchmark;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.api.meta.model.connection.ConnectionManagementType.POOLING;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+
+import org.mule.metadata.api.ClassTypeLoader;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConfigurationDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterGroupDeclarer;
+import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+
+/**
+ * Declares synthetic extensions of a given size, with a pooled connection provider and a configuration holding all the
+ * operations.
+ *
+ * @since 1.8
+ */
+final class SyntheticExtensions {
+
+  static final String CONFIG_NAME = "config";
+  static final String OPERATION_PREFIX = "operation";
+
+  private static final int PARAMETERS_PER_OPERATION = 10;
+  private static final ClassTypeLoader TYPE_LOADER = ExtensionsTypeLoaderFactory.getDefault().createTypeLoader();
+
+  private SyntheticExtensions() {}
+
+  /**
+   * @param operations the amount of operations to declare
+   * @return a new {@link ExtensionLoadingContext} for a synthetic extension with the given amount of {@code operations}
+   */
+  static ExtensionLoadingContext loadingContext(int operations) {
+    ExtensionDeclarer declarer = new ExtensionDeclarer();
+    declarer.named("Benchmark")
+        .describedAs("Synthetic extension")
+        .onVersion("1.0.0")
+        .fromVendor("MuleSoft")
+        .withCategory(COMMUNITY)
+        .withXmlDsl(XmlDslModel.builder()
+            .setPrefix("benchmark")
+            .setNamespace("http://www.mulesoft.org/schema/mule/benchmark")
+            .build());
+
+    MetadataType stringType = TYPE_LOADER.load(String.class);
+    MetadataType voidType = TYPE_LOADER.load(void.class);
+
+    ConfigurationDeclarer config = declarer.withConfig(CONFIG_NAME).describedAs("Default configuration");
+    config.onDefaultParameterGroup().withRequiredParameter("host").ofType(stringType);
+    config.withConnectionProvider("connection").describedAs("Pooled connection").withConnectionManagementType(POOLING);
+
+    for (int i = 0; i < operations; i++) {
+      OperationDeclarer operation = config.withOperation(OPERATION_PREFIX + i).describedAs("Operation " + i);
+      ParameterGroupDeclarer group = operation.onDefaultParameterGroup();
+      for (int j = 0; j < PARAMETERS_PER_OPERATION; j++) {
+        group.withOptionalParameter("parameter" + j).ofType(stringType);
+      }
+      operation.withOutput().ofType(stringType);
+      operation.withOutputAttributes().ofType(voidType);
+    }
+
+    return new DefaultExtensionLoadingContext(declarer,
+                                              builder(SyntheticExtensions.class.getClassLoader(), getDefault(emptySet()))
+                                                  .build());
+  }
+}
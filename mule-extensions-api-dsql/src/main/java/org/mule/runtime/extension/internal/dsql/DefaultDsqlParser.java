@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.internal.dsql;
 
+import static java.util.Collections.synchronizedMap;
+
 import org.mule.runtime.extension.api.dsql.DsqlParser;
 import org.mule.runtime.extension.api.dsql.DsqlQuery;
 import org.mule.runtime.extension.api.dsql.QueryBuilder;
@@ -14,6 +16,9 @@ import org.mule.runtime.extension.internal.grammar.BaseDsqlNode;
 import org.mule.runtime.extension.internal.grammar.DefaultDsqlGrammarVisitor;
 import org.mule.runtime.extension.internal.grammar.DsqlTreeAdaptor;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonTokenStream;
 import org.antlr.runtime.RecognitionException;
@@ -22,6 +27,10 @@ import org.antlr.runtime.RecognitionException;
  * This class works as a processor of {@link DsqlQuery}s, conforming to the rules of the formal defined grammar.
  * <p>
  * Basically receives a Dsql Query as a {@link String} instance and process it to return a {@link DsqlQuery} object to work with.
+ * <p>
+ * Parsed queries are immutable, so the most recently used ones are kept in a bounded cache shared by all the instances, keyed by
+ * the query text. Queries with Mule expressions in them can be {@link #prepare(String) prepared} so that the values of those
+ * expressions are bound to the already parsed query.
  *
  * @since 1.0
  */
@@ -33,10 +42,29 @@ public final class DefaultDsqlParser extends DsqlParser {
   private static final String DSQL_QUERY_PREFIX = "dsql:";
 
   /**
-   * @return a new {@link DefaultDsqlParser} instance.
+   * The maximum amount of parsed queries to keep in {@link #PARSED_QUERIES}
+   */
+  private static final int PARSED_QUERIES_CACHE_SIZE = 256;
+
+  private static final DefaultDsqlParser INSTANCE = new DefaultDsqlParser();
+
+  /**
+   * The most recently used parsed queries, keyed by their text
+   */
+  private static final Map<String, DsqlQuery> PARSED_QUERIES =
+      synchronizedMap(new LinkedHashMap<String, DsqlQuery>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DsqlQuery> eldest) {
+          return size() > PARSED_QUERIES_CACHE_SIZE;
+        }
+      });
+
+  /**
+   * @return a {@link DefaultDsqlParser} instance. Since the parser is stateless, the same instance is always returned.
    */
   public static DefaultDsqlParser getInstance() {
-    return new DefaultDsqlParser();
+    return INSTANCE;
   }
 
   /**
@@ -62,6 +90,29 @@ public final class DefaultDsqlParser extends DsqlParser {
       throw new IllegalArgumentException("Invalid Query: DSQL queries must start with the [dsql:] prefix");
     }
 
+    DsqlQuery query = PARSED_QUERIES.get(dsqlQuery);
+    if (query == null) {
+      // parsing happens outside the lock, concurrent misses for the same query at worst parse it more than once
+      query = doParse(dsqlQuery);
+      PARSED_QUERIES.put(dsqlQuery, query);
+    }
+
+    return query;
+  }
+
+  /**
+   * Parses a {@link String} representing a dsql query into a {@link PreparedDsqlQuery}, so the values of the Mule expressions
+   * in it can be bound without parsing the query again.
+   *
+   * @param dsqlQuery a {@link String} that represents a {@link DsqlQuery}.
+   * @return a {@link PreparedDsqlQuery} for the given {@code dsqlQuery}.
+   * @since 1.8
+   */
+  public PreparedDsqlQuery prepare(final String dsqlQuery) {
+    return new PreparedDsqlQuery((DefaultDsqlQuery) parse(dsqlQuery));
+  }
+
+  private DsqlQuery doParse(String dsqlQuery) {
     MuleDsqlLexer dsqlLexer = new MuleDsqlLexer(new ANTLRStringStream(dsqlQuery.substring(5)));
 
     CommonTokenStream dsqlTokens = new CommonTokenStream();
@@ -144,6 +144,14 @@ public final class DefaultDsqlQuery extends DsqlQuery {
     return offset;
   }
 
+  /**
+   * @param filterExpression the filter of the new query
+   * @return a copy of {@code this} query with the given {@code filterExpression}
+   */
+  DefaultDsqlQuery withFilterExpression(Expression filterExpression) {
+    return new DefaultDsqlQuery(type, fields, orderByFields, direction, filterExpression, limit, offset);
+  }
+
   /**
    * Translates {@code this} {@link DsqlQuery} to a query in another query language using the specified {@code queryTranslator}.
    *
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static java.util.Collections.unmodifiableList;
+
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.api.dsql.Expression;
+import org.mule.runtime.extension.api.dsql.Value;
+import org.mule.runtime.extension.internal.expression.And;
+import org.mule.runtime.extension.internal.expression.FieldComparison;
+import org.mule.runtime.extension.internal.expression.Not;
+import org.mule.runtime.extension.internal.expression.Or;
+import org.mule.runtime.extension.internal.value.MuleExpressionValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A parsed {@link DsqlQuery} which filter may compare fields against Mule expressions.
+ * <p>
+ * The values of those expressions are given each time the query is to be executed through {@link #bind(Function)}, which
+ * returns a new {@link DsqlQuery} with the {@link MuleExpressionValue}s replaced by the bound values, without parsing the query
+ * again.
+ * <p>
+ * Instances are immutable and thus thread-safe.
+ *
+ * @since 1.8
+ */
+public final class PreparedDsqlQuery {
+
+  private final DefaultDsqlQuery query;
+  private final List<String> expressions;
+
+  PreparedDsqlQuery(DefaultDsqlQuery query) {
+    this.query = query;
+    List<String> expressions = new ArrayList<>();
+    collectExpressions(query.getFilterExpression(), expressions);
+    this.expressions = unmodifiableList(expressions);
+  }
+
+  /**
+   * @return the parsed query, with the Mule expressions in it unbound.
+   */
+  public DsqlQuery getQuery() {
+    return query;
+  }
+
+  /**
+   * @return the Mule expressions in the filter of the query, in the order they appear in it.
+   */
+  public List<String> getExpressions() {
+    return expressions;
+  }
+
+  /**
+   * Creates a {@link DsqlQuery} replacing each of the Mule expressions in the filter of the query with the value the given
+   * {@code binder} returns for it.
+   *
+   * @param binder a {@link Function} which returns the {@link Value} to use in place of the given Mule expression.
+   * @return a {@link DsqlQuery} with the values of the Mule expressions bound.
+   */
+  public DsqlQuery bind(Function<String, Value<?>> binder) {
+    if (expressions.isEmpty()) {
+      return query;
+    }
+
+    return query.withFilterExpression(bind(query.getFilterExpression(), binder));
+  }
+
+  private Expression bind(Expression expression, Function<String, Value<?>> binder) {
+    if (expression instanceof FieldComparison) {
+      FieldComparison comparison = (FieldComparison) expression;
+      if (comparison.getValue() instanceof MuleExpressionValue) {
+        Value<?> value = binder.apply(((MuleExpressionValue) comparison.getValue()).getValue());
+        return new FieldComparison(comparison.getOperator(), comparison.getField(), value);
+      }
+    } else if (expression instanceof And) {
+      And and = (And) expression;
+      return new And(bind(and.getLeft(), binder), bind(and.getRight(), binder));
+    } else if (expression instanceof Or) {
+      Or or = (Or) expression;
+      return new Or(bind(or.getLeft(), binder), bind(or.getRight(), binder));
+    } else if (expression instanceof Not) {
+      return new Not(bind(((Not) expression).getRight(), binder));
+    }
+
+    return expression;
+  }
+
+  private void collectExpressions(Expression expression, List<String> expressions) {
+    if (expression instanceof FieldComparison) {
+      FieldComparison comparison = (FieldComparison) expression;
+      if (comparison.getValue() instanceof MuleExpressionValue) {
+        expressions.add(((MuleExpressionValue) comparison.getValue()).getValue());
+      }
+    } else if (expression instanceof And) {
+      collectExpressions(((And) expression).getLeft(), expressions);
+      collectExpressions(((And) expression).getRight(), expressions);
+    } else if (expression instanceof Or) {
+      collectExpressions(((Or) expression).getLeft(), expressions);
+      collectExpressions(((Or) expression).getRight(), expressions);
+    } else if (expression instanceof Not) {
+      collectExpressions(((Not) expression).getRight(), expressions);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.internal.expression.And;
+import org.mule.runtime.extension.internal.expression.FieldComparison;
+import org.mule.runtime.extension.internal.value.IntegerValue;
+import org.mule.runtime.extension.internal.value.MuleExpressionValue;
+import org.mule.runtime.extension.internal.value.StringValue;
+
+import org.junit.Test;
+
+public class PreparedDsqlQueryTestCase {
+
+  private static final DefaultDsqlParser PARSER = DefaultDsqlParser.getInstance();
+
+  private static final String QUERY =
+      "dsql:SELECT name from account where id > #[vars.minId] and lastName = #[vars.lastName] order by name LIMIT 10";
+
+  @Test
+  public void parsedQueriesAreCached() {
+    assertThat(PARSER.parse(QUERY), is(sameInstance(PARSER.parse(QUERY))));
+  }
+
+  @Test
+  public void expressionsInOrder() {
+    assertThat(PARSER.prepare(QUERY).getExpressions(), is(asList("#[vars.minId]", "#[vars.lastName]")));
+  }
+
+  @Test
+  public void bindExpressions() {
+    PreparedDsqlQuery prepared = PARSER.prepare(QUERY);
+    DsqlQuery bound = prepared.bind(expression -> expression.equals("#[vars.minId]")
+        ? new IntegerValue(5)
+        : new StringValue("de Achaval"));
+
+    And filter = (And) bound.getFilterExpression();
+    assertThat(((FieldComparison) filter.getLeft()).getValue().getValue(), is(5));
+    assertThat(((FieldComparison) filter.getRight()).getValue().getValue(), is("de Achaval"));
+    assertThat(bound.getLimit(), is(10));
+    assertThat(bound.getOrderByFields().get(0).getName(), is("name"));
+
+    And unbound = (And) prepared.getQuery().getFilterExpression();
+    assertThat(((FieldComparison) unbound.getLeft()).getValue(), is(instanceOf(MuleExpressionValue.class)));
+  }
+
+  @Test
+  public void bindWithoutExpressions() {
+    PreparedDsqlQuery prepared = PARSER.prepare("dsql:SELECT name from account where lastName = 'de Achaval'");
+    assertThat(prepared.getExpressions().isEmpty(), is(true));
+    assertThat(prepared.bind(expression -> {
+      throw new IllegalStateException();
+    }), is(sameInstance(prepared.getQuery())));
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.newWriter;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.read;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.ModelProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * Serializer that converts {@link ExtensionModel}s into a compact binary representation, and back.
+ * <p>
+ * The binary form describes exactly the same structure as the one produced by {@link ExtensionModelJsonSerializer}, so the same
+ * considerations apply (for example, only {@link ModelProperty#isPublic() public} model properties are serialized) and
+ * deserialized models are equivalent regardless of the format. However, every distinct name, type id and identifier is written
+ * only once and numbers, sizes and booleans are not written as text, which makes the payload considerably smaller and faster to
+ * decode. It is meant for exchanging models between processes, not as a human readable format.
+ * <p>
+ * Models are streamed into the binary representation, without building an intermediate JSON tree. When read, the binary
+ * representation is first parsed into a JSON tree, from which models are deserialized as they are from JSON text. Malformed or
+ * truncated representations are reported with a {@link JsonSyntaxException}, and failures of the underlying streams with a
+ * {@link JsonIOException}, as {@link ExtensionModelJsonSerializer} does.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 1.8
+ */
+public class ExtensionModelBinarySerializer {
+
+  private final ExtensionModelJsonSerializer jsonSerializer = new ExtensionModelJsonSerializer();
+
+  /**
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @return the binary representation of the {@link ExtensionModel}
+   * @throws JsonIOException if the binary representation could not be written
+   */
+  public byte[] serialize(ExtensionModel extensionModel) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serialize(extensionModel, out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Writes the binary representation of the given {@code extensionModel} into the given {@code outputStream}, which is flushed
+   * but not closed.
+   *
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @param outputStream   the {@link OutputStream} in which the binary representation is written
+   * @throws JsonIOException if the binary representation could not be written
+   */
+  public void serialize(ExtensionModel extensionModel, OutputStream outputStream) {
+    jsonSerializer.serialize(extensionModel, newWriter(outputStream));
+  }
+
+  /**
+   * Writes the binary representation of the given {@code extensionModelList} into the given {@code outputStream}, which is
+   * flushed but not closed.
+   *
+   * @param extensionModelList List of {@link ExtensionModel} to be serialized
+   * @param outputStream       the {@link OutputStream} in which the binary representation is written
+   * @throws JsonIOException if the binary representation could not be written
+   */
+  public void serializeList(List<ExtensionModel> extensionModelList, OutputStream outputStream) {
+    jsonSerializer.serializeList(extensionModelList, newWriter(outputStream));
+  }
+
+  /**
+   * @param extensionModel the binary representation of an {@link ExtensionModel}
+   * @return an instance of {@link ExtensionModel} based in the given representation
+   * @throws JsonSyntaxException if the given content is not a valid binary representation of an {@link ExtensionModel}
+   */
+  public ExtensionModel deserialize(byte[] extensionModel) {
+    return deserialize(new ByteArrayInputStream(extensionModel));
+  }
+
+  /**
+   * Reads an {@link ExtensionModel} from its binary representation. The {@code inputStream} is not closed.
+   *
+   * @param inputStream the {@link InputStream} from which the binary representation is read
+   * @return an instance of {@link ExtensionModel} based in the read representation
+   * @throws JsonSyntaxException if the read content is not a valid binary representation of an {@link ExtensionModel}
+   * @throws JsonIOException     if the binary representation could not be read
+   */
+  public ExtensionModel deserialize(InputStream inputStream) {
+    return jsonSerializer.fromJsonTree(read(inputStream));
+  }
+
+  /**
+   * Reads a {@link List} of {@link ExtensionModel} from its binary representation. The {@code inputStream} is not closed.
+   *
+   * @param inputStream the {@link InputStream} from which the binary representation is read
+   * @return the {@link ExtensionModel}s based in the read representation
+   * @throws JsonSyntaxException if the read content is not a valid binary representation of a {@link List} of
+   *                             {@link ExtensionModel}
+   * @throws JsonIOException     if the binary representation could not be read
+   */
+  public List<ExtensionModel> deserializeList(InputStream inputStream) {
+    return jsonSerializer.fromJsonTreeList(read(inputStream));
+  }
+}
@@ -6,14 +6,16 @@
  */
 package org.mule.runtime.extension.api.persistence;
 
-import static java.util.Collections.emptySet;
-import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.current;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.withContext;
+
+import static java.lang.Thread.currentThread;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import org.mule.metadata.api.model.MetadataType;
 import org.mule.metadata.api.model.ObjectType;
-import org.mule.metadata.persistence.MetadataTypeGsonTypeAdapter;
-import org.mule.metadata.persistence.ObjectTypeReferenceHandler;
-import org.mule.metadata.persistence.SerializationContext;
 import org.mule.metadata.persistence.type.adapter.OptionalTypeAdapterFactory;
 import org.mule.runtime.api.artifact.ArtifactCoordinates;
 import org.mule.runtime.api.meta.MuleVersion;
@@ -48,12 +50,14 @@ import org.mule.runtime.extension.api.model.parameter.ImmutableExclusiveParamete
 import org.mule.runtime.extension.api.model.parameter.ImmutableParameterGroupModel;
 import org.mule.runtime.extension.api.model.parameter.ImmutableParameterModel;
 import org.mule.runtime.extension.api.model.source.ImmutableSourceCallbackModel;
-import org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils;
 import org.mule.runtime.extension.internal.persistence.ArtifactCoordinatesTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.ConstructModelTypeAdapterFactory;
+import org.mule.runtime.extension.internal.persistence.ContextualMetadataTypeTypeAdapter;
+import org.mule.runtime.extension.internal.persistence.DeduplicatingStringTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.DefaultImplementationTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ElementDslModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.ErrorModelToIdentifierTypeAdapter;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext;
 import org.mule.runtime.extension.internal.persistence.ExtensionModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.FunctionModelTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ImportedTypesModelTypeAdapter;
@@ -63,23 +67,36 @@ import org.mule.runtime.extension.internal.persistence.NestableElementModelTypeA
 import org.mule.runtime.extension.internal.persistence.NotificationModelToIdentifierTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.OAuthGrantTypeTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.OperationModelTypeAdapterFactory;
-import org.mule.runtime.extension.internal.persistence.RestrictedTypesObjectTypeReferenceHandler;
 import org.mule.runtime.extension.internal.persistence.SourceModelTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.SubTypesModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.XmlDslModelTypeAdapter;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParser;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Serializer that can convert a {@link ExtensionModel} into a readable and processable JSON representation and from a JSON
@@ -96,14 +113,21 @@ import com.google.gson.reflect.TypeToken;
  * <li>When deserializing {@link ModelProperty}s, their full qualified name will be used, if the class is not found in the
  * ClassLoader the {@link ModelProperty} object will be discarded</li>
  * </ul>
+ * <p>
+ * Instances are thread-safe: the {@link Gson} instance which performs the conversion is built only once, while the state of each
+ * serialization (such as the type references or the known {@link ErrorModel}s) is kept in a context of its own. Reusing a
+ * single instance is therefore preferred over creating one per invocation.
+ * <p>
+ * When serializing a {@link List} of {@link ExtensionModel}s, each of them is written in a context of its own, so that each
+ * element of the representation only references types defined within it and can be read independently of the others.
  *
  * @since 1.0
  */
 public class ExtensionModelJsonSerializer {
 
   private final boolean prettyPrint;
-  private Set<ObjectType> registeredTypes = emptySet();
-  private Set<ObjectType> importedTypes = emptySet();
+  private final boolean deduplicate;
+  private final Gson gson;
 
   /**
    * Creates a new instance of the {@link ExtensionModelJsonSerializer}. This serializer is capable of serializing and
@@ -120,25 +144,38 @@ public class ExtensionModelJsonSerializer {
    *                    readable or into compact and more performable format
    */
   public ExtensionModelJsonSerializer(boolean prettyPrint) {
+    this(prettyPrint, false);
+  }
+
+  /**
+   * Creates a new instance of the {@link ExtensionModelJsonSerializer}.
+   * <p>
+   * When {@code deduplicate} is {@code true}, the deserialized models share a single instance of each equal {@link String}
+   * found, not only within one document but also with the models deserialized by previous invocations. Equal
+   * {@link MetadataType}s are shared too, but only among the models read by the same invocation.
+   * This reduces the memory retained by models which are kept for a long time, at the cost of a slower deserialization.
+   *
+   * @param prettyPrint boolean indicating if the serialization of the {@link ExtensionModel} should be printed in a human
+   *                    readable or into compact and more performable format
+   * @param deduplicate boolean indicating if equal values of the deserialized {@link ExtensionModel}s are to be shared
+   * @since 1.8
+   */
+  public ExtensionModelJsonSerializer(boolean prettyPrint, boolean deduplicate) {
     this.prettyPrint = prettyPrint;
+    this.deduplicate = deduplicate;
+    this.gson = buildGson();
   }
 
   private Gson buildGson() {
-    final SerializationContext serializationContext = new SerializationContext();
+    Gson gsonDelegate = gsonBuilder(prettyPrint).create();
 
-    Map<String, ErrorModel> errorModelRepository = new HashMap<>();
-    Map<String, NotificationModel> notificationModelRepository = new HashMap<>();
-    Gson gsonDelegate =
-        gsonBuilder(serializationContext, prettyPrint, errorModelRepository, notificationModelRepository).create();
-
-    return gsonBuilder(serializationContext, prettyPrint, errorModelRepository, notificationModelRepository)
+    return gsonBuilder(prettyPrint)
         .registerTypeAdapterFactory(new TypeAdapterFactory() {
 
           @Override
           public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
             if (ExtensionModel.class.isAssignableFrom(type.getRawType())) {
-              return (TypeAdapter<T>) new ExtensionModelTypeAdapter(gsonDelegate, serializationContext, errorModelRepository,
-                                                                    notificationModelRepository);
+              return (TypeAdapter<T>) new ExtensionModelTypeAdapter(gsonDelegate, () -> current(), deduplicate);
             }
 
             return null;
@@ -147,21 +184,8 @@ public class ExtensionModelJsonSerializer {
         .create();
   }
 
-  private GsonBuilder gsonBuilder(SerializationContext serializationContext, boolean prettyPrint,
-                                  Map<String, ErrorModel> errorModelRepository,
-                                  Map<String, NotificationModel> notificationModelRepository) {
-    Set<String> registeredTypeIds = registeredTypes.stream()
-        .map(ExtensionMetadataTypeUtils::getId)
-        .filter(Optional::isPresent)
-        .map(Optional::get).collect(Collectors.toSet());
-
-    importedTypes.forEach(type -> {
-      getId(type).ifPresent(registeredTypeIds::add);
-      serializationContext.registerObjectType(type);
-    });
-
-    final ObjectTypeReferenceHandler referenceHandler =
-        new RestrictedTypesObjectTypeReferenceHandler(serializationContext, registeredTypeIds);
+  private GsonBuilder gsonBuilder(boolean prettyPrint) {
+    final ContextualMetadataTypeTypeAdapter metadataTypeAdapter = new ContextualMetadataTypeTypeAdapter(deduplicate);
 
     final DefaultImplementationTypeAdapterFactory configurationModelTypeAdapterFactory =
         new DefaultImplementationTypeAdapterFactory<>(ConfigurationModel.class, ImmutableConfigurationModel.class);
@@ -185,14 +209,15 @@ public class ExtensionModelJsonSerializer {
         new DefaultImplementationTypeAdapterFactory<>(DeprecationModel.class, ImmutableDeprecationModel.class);
 
     final GsonBuilder gsonBuilder = new GsonBuilder()
-        .registerTypeAdapter(MetadataType.class, new MetadataTypeGsonTypeAdapter(referenceHandler))
+        .registerTypeAdapter(MetadataType.class, metadataTypeAdapter)
         .registerTypeAdapter(MuleVersion.class, new MuleVersionTypeAdapter().nullSafe())
         .registerTypeAdapter(ImportedTypeModel.class, new ImportedTypesModelTypeAdapter())
-        .registerTypeAdapter(SubTypesModel.class, new SubTypesModelTypeAdapter(referenceHandler))
+        .registerTypeAdapter(SubTypesModel.class, new SubTypesModelTypeAdapter(metadataTypeAdapter))
         .registerTypeAdapter(XmlDslModel.class, new XmlDslModelTypeAdapter())
         .registerTypeAdapter(ParameterDslConfiguration.class, new ElementDslModelTypeAdapter())
-        .registerTypeAdapter(ErrorModel.class, new ErrorModelToIdentifierTypeAdapter(errorModelRepository))
-        .registerTypeAdapter(NotificationModel.class, new NotificationModelToIdentifierTypeAdapter(notificationModelRepository))
+        .registerTypeAdapter(ErrorModel.class, new ErrorModelToIdentifierTypeAdapter(() -> current().getErrorModelRepository()))
+        .registerTypeAdapter(NotificationModel.class,
+                             new NotificationModelToIdentifierTypeAdapter(() -> current().getNotificationModelRepository()))
         .registerTypeAdapter(ArtifactCoordinates.class, new ArtifactCoordinatesTypeAdapter())
         .registerTypeAdapterFactory(new OptionalTypeAdapterFactory())
         .registerTypeAdapterFactory(new ModelPropertyMapTypeAdapterFactory())
@@ -213,6 +238,9 @@ public class ExtensionModelJsonSerializer {
         .registerTypeAdapterFactory(stereotypeModelTypeAdapter)
         .registerTypeAdapterFactory(deprecationModelTypeAdapter);
 
+    if (deduplicate) {
+      gsonBuilder.registerTypeAdapter(String.class, new DeduplicatingStringTypeAdapter());
+    }
     if (prettyPrint) {
       gsonBuilder.setPrettyPrinting();
     }
@@ -226,12 +254,7 @@ public class ExtensionModelJsonSerializer {
    * @return {@link String} JSON representation of the {@link ExtensionModel}
    */
   public String serialize(ExtensionModel extensionModel) {
-    registeredTypes = extensionModel.getTypes();
-    importedTypes =
-        extensionModel.getImportedTypes().stream()
-            .map(ImportedTypeModel::getImportedType)
-            .collect(Collectors.toSet());
-    return buildGson().toJson(extensionModel);
+    return withContext(serializationContextFor(extensionModel), () -> gson.toJson(extensionModel));
   }
 
   /**
@@ -239,7 +262,75 @@ public class ExtensionModelJsonSerializer {
    * @return {@link String} JSON representation of the {@link List} of {@link ExtensionModel}
    */
   public String serializeList(List<ExtensionModel> extensionModelList) {
-    return buildGson().toJson(extensionModelList);
+    StringWriter writer = new StringWriter();
+    serializeList(extensionModelList, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Serializes an {@link ExtensionModel} into JSON, streaming it into the given {@code writer} instead of building the whole
+   * representation in memory.
+   * <p>
+   * The {@code writer} is flushed but not closed.
+   *
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @param writer         the {@link Writer} in which the JSON representation is written
+   * @throws JsonIOException if the JSON representation could not be written
+   * @since 1.8
+   */
+  public void serialize(ExtensionModel extensionModel, Writer writer) {
+    withContext(serializationContextFor(extensionModel), () -> {
+      gson.toJson(extensionModel, writer);
+      flush(writer);
+      return null;
+    });
+  }
+
+  /**
+   * Serializes an {@link ExtensionModel} into UTF-8 encoded JSON, streaming it into the given {@code outputStream}.
+   * <p>
+   * The {@code outputStream} is flushed but not closed.
+   *
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @param outputStream   the {@link OutputStream} in which the JSON representation is written
+   * @throws JsonIOException if the JSON representation could not be written
+   * @since 1.8
+   */
+  public void serialize(ExtensionModel extensionModel, OutputStream outputStream) {
+    serialize(extensionModel, new OutputStreamWriter(outputStream, UTF_8));
+  }
+
+  /**
+   * Serializes a {@link List} of {@link ExtensionModel} into JSON, streaming it into the given {@code writer}.
+   * <p>
+   * The {@code writer} is flushed but not closed.
+   *
+   * @param extensionModelList List of {@link ExtensionModel} to be serialized
+   * @param writer             the {@link Writer} in which the JSON representation is written
+   * @throws JsonIOException if the JSON representation could not be written
+   * @since 1.8
+   */
+  public void serializeList(List<ExtensionModel> extensionModelList, Writer writer) {
+    try {
+      serializeList(extensionModelList, gson.newJsonWriter(writer));
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * Serializes a {@link List} of {@link ExtensionModel} into UTF-8 encoded JSON, streaming it into the given
+   * {@code outputStream}.
+   * <p>
+   * The {@code outputStream} is flushed but not closed.
+   *
+   * @param extensionModelList List of {@link ExtensionModel} to be serialized
+   * @param outputStream       the {@link OutputStream} in which the JSON representation is written
+   * @throws JsonIOException if the JSON representation could not be written
+   * @since 1.8
+   */
+  public void serializeList(List<ExtensionModel> extensionModelList, OutputStream outputStream) {
+    serializeList(extensionModelList, new OutputStreamWriter(outputStream, UTF_8));
   }
 
   /**
@@ -249,7 +340,8 @@ public class ExtensionModelJsonSerializer {
    * @return an instance of {@link ExtensionModel} based in the JSON
    */
   public ExtensionModel deserialize(String extensionModel) {
-    return buildGson().fromJson(extensionModel, ImmutableExtensionModel.class);
+    return withContext(new ExtensionModelSerializationContext(),
+                       () -> gson.fromJson(extensionModel, ImmutableExtensionModel.class));
   }
 
   /**
@@ -259,6 +351,214 @@ public class ExtensionModelJsonSerializer {
    * @return an instance of {@link ExtensionModel} based in the JSON
    */
   public List<ExtensionModel> deserializeList(String extensionModelList) {
-    return buildGson().fromJson(extensionModelList, new TypeToken<List<ImmutableExtensionModel>>() {}.getType());
+    return withContext(new ExtensionModelSerializationContext(),
+                       () -> gson.fromJson(extensionModelList, new TypeToken<List<ImmutableExtensionModel>>() {}.getType()));
+  }
+
+  /**
+   * Deserializes a JSON representation of a {@link List} of {@link ExtensionModel}, deserializing each of the models in parallel
+   * on the given {@code executor}. {@link java.util.concurrent.ForkJoinPool#commonPool()} may be given when no dedicated
+   * {@link Executor} is available.
+   * <p>
+   * The whole representation is parsed first, then each of the models is deserialized independently from the others, as if it
+   * were a document of its own. Any representation written by {@link #serializeList(List)} can be read this way, since each of
+   * its models is written in a context of its own. Representations written by versions prior to 1.8, in which a model may
+   * reference types first written by another one, are to be read with {@link #deserializeList(String)}.
+   *
+   * @param extensionModelList serialized {@link List} {@link ExtensionModel}
+   * @param executor           the {@link Executor} on which the models are deserialized
+   * @return the {@link ExtensionModel}s based in the JSON, in the same order as in the representation
+   * @since 1.8
+   */
+  public List<ExtensionModel> deserializeList(String extensionModelList, Executor executor) {
+    checkArgument(executor != null, "executor cannot be null");
+
+    final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+    JsonArray models = new JsonParser().parse(extensionModelList).getAsJsonArray();
+    List<CompletableFuture<ExtensionModel>> results = new ArrayList<>(models.size());
+    for (JsonElement model : models) {
+      results.add(supplyAsync(() -> {
+        Thread thread = currentThread();
+        ClassLoader originalClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(contextClassLoader);
+        try {
+          return fromJsonTree(model);
+        } finally {
+          thread.setContextClassLoader(originalClassLoader);
+        }
+      }, executor));
+    }
+
+    List<ExtensionModel> extensionModels = new ArrayList<>(results.size());
+    for (CompletableFuture<ExtensionModel> result : results) {
+      try {
+        extensionModels.add(result.join());
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw e;
+      }
+    }
+    return extensionModels;
+  }
+
+  /**
+   * Deserializes a JSON representation of an {@link ExtensionModel}, to an instance of it which deserializes its
+   * configurations, operations, connection providers, sources, functions and constructs only when they are first accessed.
+   * <p>
+   * Looking up one of them by name, as in {@link ExtensionModel#getOperationModel(String)}, only deserializes that one. This is
+   * convenient when only a few components of a large {@link ExtensionModel} are to be used. The operations, connection
+   * providers and sources of each configuration are deserialized lazily too, so looking up a configuration does not deserialize
+   * its components. The returned instance is thread-safe.
+   * <p>
+   * The components are skipped when the representation is read, without building a JSON tree of them. Instead, the given
+   * {@code extensionModel} is retained until all of them are deserialized, and each component is read from it when accessed.
+   *
+   * @param extensionModel serialized {@link ExtensionModel}
+   * @return an instance of {@link ExtensionModel} based in the JSON
+   * @since 1.8
+   */
+  public ExtensionModel deserializeLazily(String extensionModel) {
+    return withContext(new ExtensionModelSerializationContext(extensionModel),
+                       () -> gson.fromJson(extensionModel, ImmutableExtensionModel.class));
+  }
+
+  /**
+   * Deserializes a JSON representation of a {@link List} of {@link ExtensionModel}, to instances which deserialize their
+   * components only when they are first accessed, as {@link #deserializeLazily(String)} does.
+   *
+   * @param extensionModelList serialized {@link List} {@link ExtensionModel}
+   * @return the {@link ExtensionModel}s based in the JSON
+   * @since 1.8
+   */
+  public List<ExtensionModel> deserializeListLazily(String extensionModelList) {
+    return withContext(new ExtensionModelSerializationContext(extensionModelList),
+                       () -> gson.fromJson(extensionModelList, new TypeToken<List<ImmutableExtensionModel>>() {}.getType()));
+  }
+
+  /**
+   * Deserializes a JSON representation of an {@link ExtensionModel} read from the given {@code reader}, without loading the
+   * whole representation in memory first.
+   * <p>
+   * The {@code reader} is not closed.
+   *
+   * @param reader the {@link Reader} from which the serialized {@link ExtensionModel} is read
+   * @return an instance of {@link ExtensionModel} based in the JSON
+   * @throws JsonIOException if the JSON representation could not be read
+   * @since 1.8
+   */
+  public ExtensionModel deserialize(Reader reader) {
+    return withContext(new ExtensionModelSerializationContext(), () -> gson.fromJson(reader, ImmutableExtensionModel.class));
+  }
+
+  /**
+   * Deserializes a UTF-8 encoded JSON representation of an {@link ExtensionModel} read from the given {@code inputStream}.
+   * <p>
+   * The {@code inputStream} is not closed.
+   *
+   * @param inputStream the {@link InputStream} from which the serialized {@link ExtensionModel} is read
+   * @return an instance of {@link ExtensionModel} based in the JSON
+   * @throws JsonIOException if the JSON representation could not be read
+   * @since 1.8
+   */
+  public ExtensionModel deserialize(InputStream inputStream) {
+    return deserialize(new InputStreamReader(inputStream, UTF_8));
+  }
+
+  /**
+   * Deserializes a JSON representation of a {@link List} of {@link ExtensionModel} read from the given {@code reader}.
+   * <p>
+   * The {@code reader} is not closed.
+   *
+   * @param reader the {@link Reader} from which the serialized {@link List} {@link ExtensionModel} is read
+   * @return the {@link ExtensionModel}s based in the JSON
+   * @throws JsonIOException if the JSON representation could not be read
+   * @since 1.8
+   */
+  public List<ExtensionModel> deserializeList(Reader reader) {
+    return withContext(new ExtensionModelSerializationContext(),
+                       () -> gson.fromJson(reader, new TypeToken<List<ImmutableExtensionModel>>() {}.getType()));
+  }
+
+  /**
+   * Deserializes a UTF-8 encoded JSON representation of a {@link List} of {@link ExtensionModel} read from the given
+   * {@code inputStream}.
+   * <p>
+   * The {@code inputStream} is not closed.
+   *
+   * @param inputStream the {@link InputStream} from which the serialized {@link List} {@link ExtensionModel} is read
+   * @return the {@link ExtensionModel}s based in the JSON
+   * @throws JsonIOException if the JSON representation could not be read
+   * @since 1.8
+   */
+  public List<ExtensionModel> deserializeList(InputStream inputStream) {
+    return deserializeList(new InputStreamReader(inputStream, UTF_8));
+  }
+
+  /**
+   * Writes the given {@code extensionModel} through the given {@link JsonWriter}, which is flushed but not closed.
+   */
+  void serialize(ExtensionModel extensionModel, JsonWriter out) {
+    withContext(serializationContextFor(extensionModel), () -> {
+      gson.toJson(extensionModel, ExtensionModel.class, out);
+      return null;
+    });
+    flush(out);
+  }
+
+  /**
+   * Writes the given {@code extensionModelList} through the given {@link JsonWriter}, which is flushed but not closed.
+   */
+  void serializeList(List<ExtensionModel> extensionModelList, JsonWriter out) {
+    try {
+      out.beginArray();
+      for (ExtensionModel extensionModel : extensionModelList) {
+        withContext(serializationContextFor(extensionModel), () -> {
+          gson.toJson(extensionModel, ExtensionModel.class, out);
+          return null;
+        });
+      }
+      out.endArray();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+    flush(out);
+  }
+
+  ExtensionModel fromJsonTree(JsonElement extensionModel) {
+    return withContext(new ExtensionModelSerializationContext(),
+                       () -> gson.fromJson(extensionModel, ImmutableExtensionModel.class));
+  }
+
+  List<ExtensionModel> fromJsonTreeList(JsonElement extensionModelList) {
+    return withContext(new ExtensionModelSerializationContext(),
+                       () -> gson.fromJson(extensionModelList, new TypeToken<List<ImmutableExtensionModel>>() {}.getType()));
+  }
+
+  private void flush(Writer writer) {
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  private void flush(JsonWriter out) {
+    try {
+      out.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  private ExtensionModelSerializationContext serializationContextFor(ExtensionModel extensionModel) {
+    Set<ObjectType> importedTypes = new LinkedHashSet<>();
+    extensionModel.getImportedTypes().forEach(importedType -> importedTypes.add(importedType.getImportedType()));
+
+    return new ExtensionModelSerializationContext(extensionModel.getTypes(), importedTypes);
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.isRegularFile;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.newBufferedReader;
+import static java.nio.file.Files.newBufferedWriter;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.extension.api.loader.ExtensionModelCache;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link ExtensionModelCache} which stores the {@link ExtensionModel}s in a local directory, serialized with a
+ * {@link ExtensionModelJsonSerializer}.
+ * <p>
+ * Since only {@link ModelProperty#isPublic() public} {@link ModelProperty model properties} survive the serialization, the
+ * models obtained from this cache are suitable for the consumers that only need the public shape of the extension (such as
+ * tooling, or DSL and metadata resolution), but not for executing its components. That's why it is only used by
+ * {@link org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest#isPublicModelOnly() public model only} requests.
+ * <p>
+ * Entries are written to a temporary file which is then atomically moved to its final location, so concurrent readers (even
+ * from other processes sharing the same directory) never see a partially written model. Any problem reading or writing an
+ * entry is logged and treated as a cache miss.
+ * <p>
+ * The version of the format in which entries are written is part of their file names, so that entries written in a previous
+ * format are never read as if they were written in the current one.
+ *
+ * @since 1.8
+ */
+public class FileSystemExtensionModelCache implements ExtensionModelCache {
+
+  private static final Logger LOGGER = getLogger(FileSystemExtensionModelCache.class);
+
+  // to be increased whenever the serialized form of the models changes, so that entries in the previous one are not read
+  private static final int FORMAT_VERSION = 1;
+  private static final String ENTRY_SUFFIX = "-v" + FORMAT_VERSION + ".json";
+
+  private final Path directory;
+  private final ExtensionModelJsonSerializer serializer = new ExtensionModelJsonSerializer();
+
+  /**
+   * Creates a new instance
+   *
+   * @param directory the directory in which the models are to be stored. It is created if it doesn't exist.
+   */
+  public FileSystemExtensionModelCache(Path directory) {
+    checkArgument(directory != null, "directory cannot be null");
+    this.directory = directory;
+  }
+
+  @Override
+  public Optional<ExtensionModel> get(String key) {
+    Path entry = entryPath(key);
+    if (!isRegularFile(entry)) {
+      return empty();
+    }
+
+    try (Reader reader = newBufferedReader(entry, UTF_8)) {
+      return of(serializer.deserialize(reader));
+    } catch (Exception e) {
+      LOGGER.warn("Could not read cached extension model from '{}'. It will be rebuilt.", entry, e);
+      return empty();
+    }
+  }
+
+  @Override
+  public void put(String key, ExtensionModel extensionModel) {
+    Path entry = entryPath(key);
+    Path tempFile = null;
+    try {
+      createDirectories(directory);
+      tempFile = createTempFile(directory, key, null);
+      try (Writer writer = newBufferedWriter(tempFile, UTF_8)) {
+        serializer.serialize(extensionModel, writer);
+      }
+      move(tempFile, entry, ATOMIC_MOVE, REPLACE_EXISTING);
+    } catch (Exception e) {
+      LOGGER.warn("Could not store extension model '{}' in '{}'.", extensionModel.getName(), entry, e);
+      if (tempFile != null) {
+        try {
+          deleteIfExists(tempFile);
+        } catch (Exception cleanupException) {
+          LOGGER.debug("Could not delete temporary file '{}'", tempFile, cleanupException);
+        }
+      }
+    }
+  }
+
+  private Path entryPath(String key) {
+    checkArgument(key != null && key.matches("[A-Za-z0-9_\\-]+"), "key must be a non empty alphanumeric string");
+    return directory.resolve(key + ENTRY_SUFFIX);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.lang.String.format;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Encodes the JSON representation of {@link ExtensionModel}s into a compact binary form, and back.
+ * <p>
+ * The binary form is written through a {@link JsonWriter}, so models are streamed into it exactly as they are into their JSON
+ * text. It is read back into a {@link JsonElement} tree, from which models are then deserialized, just like
+ * {@link ExtensionModelTypeAdapter} does with JSON text.
+ * <p>
+ * Every distinct string (both object member names and string values, which includes type ids, error identifiers and enum
+ * values) is written only once, the first time it is used, and then referred to by its index. Indexes and integral numbers are
+ * written as variable length integers, while booleans and nulls take a single byte.
+ * <p>
+ * The layout is:
+ *
+ * <pre>
+ * payload := MAGIC VERSION value
+ * value   := NULL | TRUE | FALSE
+ *          | STRING string
+ *          | LONG zigzagVarint
+ *          | DOUBLE 8 bytes
+ *          | DECIMAL string
+ *          | ARRAY value* END
+ *          | OBJECT (name value)* varint(0)
+ * string  := varint(index) [varint(length) utf8Bytes]
+ * name    := varint(index + 1) [varint(length) utf8Bytes]
+ * </pre>
+ *
+ * The bytes of a string are only present the first time it is written, which is when its index is the number of strings
+ * written so far.
+ *
+ * @since 1.8
+ */
+public final class BinaryJsonCodec {
+
+  private static final byte[] MAGIC = {'M', 'E', 'M', 'B'};
+  private static final byte VERSION = 2;
+
+  static final byte NULL = 0;
+  static final byte TRUE = 1;
+  static final byte FALSE = 2;
+  static final byte STRING = 3;
+  static final byte LONG = 4;
+  static final byte DOUBLE = 5;
+  static final byte DECIMAL = 6;
+  static final byte ARRAY = 7;
+  static final byte OBJECT = 8;
+  static final byte END = 9;
+
+  /**
+   * Writes the header of the binary form into the given {@code outputStream}, and returns a {@link JsonWriter} which writes the
+   * binary form of what is written through it. The returned writer has to be flushed once done, and does not close the
+   * {@code outputStream}.
+   *
+   * @param outputStream the stream to write into
+   * @return a {@link JsonWriter} that writes into the given {@code outputStream}
+   * @throws JsonIOException if the header could not be written
+   */
+  public static JsonWriter newWriter(OutputStream outputStream) {
+    BinaryJsonWriter writer = new BinaryJsonWriter(outputStream);
+    try {
+      writer.writeHeader(MAGIC, VERSION);
+    } catch (IOException e) {
+      throw new JsonIOException("Could not write binary extension model", e);
+    }
+    return writer;
+  }
+
+  /**
+   * Reads the binary form from the given {@code inputStream} into a {@link JsonElement} tree. The {@code inputStream} is not
+   * closed.
+   * <p>
+   * The contents are read through a {@link JsonReader} which only supports being consumed by a {@link JsonParser}, so it is
+   * never handed out to other adapters.
+   *
+   * @param inputStream the stream to read from
+   * @return the {@link JsonElement} described by the contents of the given {@code inputStream}
+   * @throws JsonSyntaxException if the contents of the stream are not a binary extension model, or are malformed or truncated
+   * @throws JsonIOException     if the contents could not be read
+   */
+  public static JsonElement read(InputStream inputStream) {
+    DataInputStream in = new DataInputStream(inputStream);
+    try {
+      byte[] magic = new byte[MAGIC.length];
+      in.readFully(magic);
+      if (!Arrays.equals(MAGIC, magic)) {
+        throw new JsonSyntaxException("Content is not a binary extension model");
+      }
+
+      byte version = in.readByte();
+      if (version != VERSION) {
+        throw new JsonSyntaxException(format("Unsupported binary extension model version %d", version));
+      }
+    } catch (EOFException e) {
+      throw new JsonSyntaxException("Binary extension model is truncated", e);
+    } catch (IOException e) {
+      throw new JsonIOException("Could not read binary extension model", e);
+    }
+
+    try {
+      return new JsonParser().parse(new BinaryJsonReader(in));
+    } catch (IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  private BinaryJsonCodec() {}
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.ARRAY;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.DECIMAL;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.DOUBLE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.END;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.FALSE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.LONG;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.NULL;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.OBJECT;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.STRING;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.TRUE;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+/**
+ * A {@link JsonReader} which reads the binary form described in {@link BinaryJsonCodec} instead of JSON text.
+ * <p>
+ * It is only meant to be consumed by a {@link com.google.gson.JsonParser}. Gson's own adapters (for example, the ones for
+ * {@link java.util.Map}s) rely on the internal state of the base {@link JsonReader}, which is not kept by this one.
+ * <p>
+ * Sizes read from the content are never trusted to allocate memory upfront: strings are read in chunks of bounded size and the
+ * string table grows as strings are actually read, so corrupt content fails with a {@link MalformedJsonException} once the
+ * content is exhausted instead of exhausting the memory.
+ *
+ * @since 1.8
+ */
+final class BinaryJsonReader extends JsonReader {
+
+  private static final int CHUNK_SIZE = 8 * 1024;
+
+  private static final Reader UNSUPPORTED = new Reader() {
+
+    @Override
+    public int read(char[] chars, int offset, int length) {
+      throw new UnsupportedOperationException("Binary extension models are not read as text");
+    }
+
+    @Override
+    public void close() {}
+  };
+
+  private final DataInputStream in;
+  private final List<String> strings = new ArrayList<>();
+  private final Deque<JsonToken> scopes = new ArrayDeque<>();
+  private boolean expectingName;
+  private boolean documentRead;
+
+  private JsonToken peeked;
+  private byte peekedTag;
+  private String peekedName;
+
+  BinaryJsonReader(DataInputStream in) {
+    super(UNSUPPORTED);
+    this.in = in;
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    if (peeked != null) {
+      return peeked;
+    }
+
+    if (documentRead) {
+      peeked = JsonToken.END_DOCUMENT;
+    } else if (expectingName) {
+      int reference = readVarInt();
+      if (reference == 0) {
+        peeked = JsonToken.END_OBJECT;
+      } else {
+        peekedName = readString(reference - 1);
+        peeked = JsonToken.NAME;
+      }
+    } else {
+      peekedTag = readByte();
+      peeked = tokenOf(peekedTag);
+    }
+    return peeked;
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    JsonToken token = peek();
+    return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    consume(JsonToken.BEGIN_OBJECT);
+    scopes.push(JsonToken.BEGIN_OBJECT);
+    expectingName = true;
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    consume(JsonToken.END_OBJECT);
+    scopes.pop();
+    valueRead();
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    consume(JsonToken.BEGIN_ARRAY);
+    scopes.push(JsonToken.BEGIN_ARRAY);
+    expectingName = false;
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    consume(JsonToken.END_ARRAY);
+    scopes.pop();
+    valueRead();
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    consume(JsonToken.NAME);
+    expectingName = false;
+    return peekedName;
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    JsonToken token = peek();
+    if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+      throw unexpected("a string", token);
+    }
+    peeked = null;
+
+    String value;
+    if (peekedTag == LONG) {
+      value = Long.toString(readZigZagLong());
+    } else if (peekedTag == DOUBLE) {
+      value = Double.toString(readDouble());
+    } else {
+      value = readString(readVarInt());
+    }
+    valueRead();
+    return value;
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    consume(JsonToken.BOOLEAN);
+    valueRead();
+    return peekedTag == TRUE;
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    consume(JsonToken.NULL);
+    valueRead();
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    if (peek() == JsonToken.NUMBER && peekedTag == DOUBLE) {
+      peeked = null;
+      double value = readDouble();
+      valueRead();
+      return value;
+    }
+    return Double.parseDouble(nextString());
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    if (peek() == JsonToken.NUMBER && peekedTag == LONG) {
+      peeked = null;
+      long value = readZigZagLong();
+      valueRead();
+      return value;
+    }
+
+    String value = nextString();
+    try {
+      return new BigDecimal(value).longValueExact();
+    } catch (ArithmeticException e) {
+      throw new NumberFormatException("Expected a long but was " + value);
+    }
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    long value = nextLong();
+    if (value != (int) value) {
+      throw new NumberFormatException("Expected an int but was " + value);
+    }
+    return (int) value;
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    int depth = 0;
+    do {
+      switch (peek()) {
+        case BEGIN_OBJECT:
+          beginObject();
+          depth++;
+          break;
+        case BEGIN_ARRAY:
+          beginArray();
+          depth++;
+          break;
+        case END_OBJECT:
+          endObject();
+          depth--;
+          break;
+        case END_ARRAY:
+          endArray();
+          depth--;
+          break;
+        case NAME:
+          nextName();
+          break;
+        case BOOLEAN:
+          nextBoolean();
+          break;
+        case NULL:
+          nextNull();
+          break;
+        case END_DOCUMENT:
+          return;
+        default:
+          nextString();
+      }
+    } while (depth > 0);
+  }
+
+  /**
+   * Does not close the underlying stream.
+   */
+  @Override
+  public void close() {
+    peeked = JsonToken.END_DOCUMENT;
+    documentRead = true;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+
+  private JsonToken tokenOf(byte tag) throws MalformedJsonException {
+    switch (tag) {
+      case NULL:
+        return JsonToken.NULL;
+      case TRUE:
+      case FALSE:
+        return JsonToken.BOOLEAN;
+      case STRING:
+        return JsonToken.STRING;
+      case LONG:
+      case DOUBLE:
+      case DECIMAL:
+        return JsonToken.NUMBER;
+      case ARRAY:
+        return JsonToken.BEGIN_ARRAY;
+      case OBJECT:
+        return JsonToken.BEGIN_OBJECT;
+      case END:
+        if (scopes.peek() == JsonToken.BEGIN_ARRAY) {
+          return JsonToken.END_ARRAY;
+        }
+        break;
+      default:
+        break;
+    }
+    throw new MalformedJsonException(format("Invalid value tag %d in binary extension model", tag));
+  }
+
+  private void consume(JsonToken expected) throws IOException {
+    JsonToken token = peek();
+    if (token != expected) {
+      throw unexpected(expected.toString(), token);
+    }
+    peeked = null;
+  }
+
+  private IllegalStateException unexpected(String expected, JsonToken actual) {
+    return new IllegalStateException("Expected " + expected + " but was " + actual);
+  }
+
+  private void valueRead() {
+    if (scopes.isEmpty()) {
+      documentRead = true;
+    } else {
+      expectingName = scopes.peek() == JsonToken.BEGIN_OBJECT;
+    }
+  }
+
+  /**
+   * Reads the string with the given {@code index} in the table, which is read from the content if it is the next one.
+   */
+  private String readString(int index) throws IOException {
+    if (index < strings.size()) {
+      return strings.get(index);
+    }
+    if (index > strings.size()) {
+      throw new MalformedJsonException(format("Invalid string reference %d in binary extension model", index));
+    }
+
+    int length = readVarInt();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(min(length, CHUNK_SIZE));
+    byte[] chunk = new byte[min(length, CHUNK_SIZE)];
+    for (int remaining = length; remaining > 0;) {
+      int read = in.read(chunk, 0, min(remaining, chunk.length));
+      if (read < 0) {
+        throw truncated();
+      }
+      bytes.write(chunk, 0, read);
+      remaining -= read;
+    }
+
+    String string = new String(bytes.toByteArray(), UTF_8);
+    strings.add(string);
+    return string;
+  }
+
+  private byte readByte() throws IOException {
+    try {
+      return in.readByte();
+    } catch (EOFException e) {
+      throw truncated();
+    }
+  }
+
+  private double readDouble() throws IOException {
+    try {
+      return in.readDouble();
+    } catch (EOFException e) {
+      throw truncated();
+    }
+  }
+
+  private long readZigZagLong() throws IOException {
+    long value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private int readVarInt() throws IOException {
+    long value = readVarLong();
+    if (value > Integer.MAX_VALUE) {
+      throw new MalformedJsonException(format("Invalid size %d in binary extension model", value));
+    }
+    return (int) value;
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new MalformedJsonException("Malformed variable length integer in binary extension model");
+  }
+
+  private MalformedJsonException truncated() {
+    return new MalformedJsonException("Binary extension model is truncated");
+  }
+}
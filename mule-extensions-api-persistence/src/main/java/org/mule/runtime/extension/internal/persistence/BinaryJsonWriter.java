@@ -0,0 +1,274 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.ARRAY;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.DECIMAL;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.DOUBLE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.END;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.FALSE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.LONG;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.NULL;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.OBJECT;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.STRING;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.TRUE;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A {@link JsonWriter} which writes the binary form described in {@link BinaryJsonCodec} instead of JSON text.
+ *
+ * @since 1.8
+ */
+final class BinaryJsonWriter extends JsonWriter {
+
+  private static final Writer UNSUPPORTED = new Writer() {
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+      throw new UnsupportedOperationException("Binary extension models are not written as text");
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+  };
+
+  private final DataOutputStream out;
+  private final Map<String, Integer> strings = new HashMap<>();
+  private String deferredName;
+
+  BinaryJsonWriter(OutputStream outputStream) {
+    super(UNSUPPORTED);
+    out = new DataOutputStream(new BufferedOutputStream(outputStream));
+  }
+
+  void writeHeader(byte[] magic, byte version) throws IOException {
+    out.write(magic);
+    out.writeByte(version);
+  }
+
+  @Override
+  public JsonWriter beginObject() throws IOException {
+    writeDeferredName();
+    out.writeByte(OBJECT);
+    return this;
+  }
+
+  @Override
+  public JsonWriter endObject() throws IOException {
+    checkNoDeferredName();
+    writeVarInt(0);
+    return this;
+  }
+
+  @Override
+  public JsonWriter beginArray() throws IOException {
+    writeDeferredName();
+    out.writeByte(ARRAY);
+    return this;
+  }
+
+  @Override
+  public JsonWriter endArray() throws IOException {
+    checkNoDeferredName();
+    out.writeByte(END);
+    return this;
+  }
+
+  @Override
+  public JsonWriter name(String name) throws IOException {
+    if (name == null) {
+      throw new NullPointerException("name == null");
+    }
+    checkNoDeferredName();
+    deferredName = name;
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(String value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    writeDeferredName();
+    out.writeByte(STRING);
+    writeString(value, 0);
+    return this;
+  }
+
+  @Override
+  public JsonWriter jsonValue(String value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    write(new JsonParser().parse(value));
+    return this;
+  }
+
+  @Override
+  public JsonWriter nullValue() throws IOException {
+    if (deferredName != null && !getSerializeNulls()) {
+      // as with JSON text, the member is omitted altogether
+      deferredName = null;
+      return this;
+    }
+    writeDeferredName();
+    out.writeByte(NULL);
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(boolean value) throws IOException {
+    writeDeferredName();
+    out.writeByte(value ? TRUE : FALSE);
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(Boolean value) throws IOException {
+    return value == null ? nullValue() : value(value.booleanValue());
+  }
+
+  // not annotated with @Override, since it is only present in the newer versions of Gson
+  public JsonWriter value(float value) throws IOException {
+    return value((double) value);
+  }
+
+  @Override
+  public JsonWriter value(double value) throws IOException {
+    writeDeferredName();
+    out.writeByte(DOUBLE);
+    out.writeDouble(value);
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(long value) throws IOException {
+    writeDeferredName();
+    out.writeByte(LONG);
+    writeVarLong((value << 1) ^ (value >> 63));
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(Number value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return value(value.longValue());
+    }
+    if (value instanceof Double || value instanceof Float) {
+      return value(value.doubleValue());
+    }
+
+    writeDeferredName();
+    out.writeByte(DECIMAL);
+    writeString(value.toString(), 0);
+    return this;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  /**
+   * Flushes the written content, without closing the underlying stream.
+   */
+  @Override
+  public void close() throws IOException {
+    flush();
+  }
+
+  private void write(JsonElement element) throws IOException {
+    if (element.isJsonNull()) {
+      nullValue();
+    } else if (element.isJsonObject()) {
+      beginObject();
+      for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+        name(member.getKey());
+        write(member.getValue());
+      }
+      endObject();
+    } else if (element.isJsonArray()) {
+      beginArray();
+      for (JsonElement item : element.getAsJsonArray()) {
+        write(item);
+      }
+      endArray();
+    } else {
+      JsonPrimitive primitive = element.getAsJsonPrimitive();
+      if (primitive.isBoolean()) {
+        value(primitive.getAsBoolean());
+      } else if (primitive.isString()) {
+        value(primitive.getAsString());
+      } else {
+        value(primitive.getAsNumber());
+      }
+    }
+  }
+
+  private void writeDeferredName() throws IOException {
+    if (deferredName != null) {
+      writeString(deferredName, 1);
+      deferredName = null;
+    }
+  }
+
+  private void checkNoDeferredName() {
+    if (deferredName != null) {
+      throw new IllegalStateException("Name '" + deferredName + "' has no value");
+    }
+  }
+
+  /**
+   * Writes the index of the given {@code string} plus the given {@code offset}, followed by the string itself if this is the
+   * first time it is written.
+   */
+  private void writeString(String string, int offset) throws IOException {
+    Integer index = strings.get(string);
+    if (index != null) {
+      writeVarInt(index + offset);
+    } else {
+      writeVarInt(strings.size() + offset);
+      strings.put(string, strings.size());
+
+      byte[] bytes = string.getBytes(UTF_8);
+      writeVarInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private void writeVarInt(int value) throws IOException {
+    writeVarLong(value & 0xFFFFFFFFL);
+  }
+
+  private void writeVarLong(long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+}
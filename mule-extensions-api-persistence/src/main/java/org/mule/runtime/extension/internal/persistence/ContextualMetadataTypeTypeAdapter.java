@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.current;
+
+import org.mule.metadata.api.model.MetadataType;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * {@link TypeAdapter} for {@link MetadataType}s which delegates into the one of the
+ * {@link ExtensionModelSerializationContext#current() current} {@link ExtensionModelSerializationContext}, so that type
+ * references are tracked per serialization.
+ *
+ * @since 1.8
+ */
+public class ContextualMetadataTypeTypeAdapter extends TypeAdapter<MetadataType> {
+
+  private final boolean deduplicate;
+
+  /**
+   * Creates a new instance
+   *
+   * @param deduplicate whether the read types are to be {@link ExtensionModelSerializationContext#deduplicate(MetadataType)
+   *                    deduplicated} within the current context
+   */
+  public ContextualMetadataTypeTypeAdapter(boolean deduplicate) {
+    this.deduplicate = deduplicate;
+  }
+
+  @Override
+  public void write(JsonWriter out, MetadataType value) throws IOException {
+    current().getMetadataTypeAdapter().write(out, value);
+  }
+
+  @Override
+  public MetadataType read(JsonReader in) throws IOException {
+    ExtensionModelSerializationContext context = current();
+    MetadataType type = context.getMetadataTypeAdapter().read(in);
+    return deduplicate ? context.deduplicate(type) : type;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.DeduplicationTables.deduplicate;
+
+import static com.google.gson.stream.JsonToken.BOOLEAN;
+import static com.google.gson.stream.JsonToken.NULL;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * {@link TypeAdapter} for {@link String}s which behaves as the default one, except that the read values are resolved through
+ * the {@link DeduplicationTables}.
+ *
+ * @since 1.8
+ */
+public class DeduplicatingStringTypeAdapter extends TypeAdapter<String> {
+
+  @Override
+  public void write(JsonWriter out, String value) throws IOException {
+    out.value(value);
+  }
+
+  @Override
+  public String read(JsonReader in) throws IOException {
+    JsonToken token = in.peek();
+    if (token == NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    return deduplicate(token == BOOLEAN ? Boolean.toString(in.nextBoolean()) : in.nextString());
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static com.google.common.collect.Interners.newWeakInterner;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+
+import com.google.common.collect.Interner;
+
+/**
+ * Table shared by all the deduplicating deserializations of {@link ExtensionModel}s, through which equal {@link String}s are
+ * resolved to a single canonical instance.
+ * <p>
+ * Entries are weakly held, so that they are discarded once no deserialized model uses them. Types are not deduplicated here,
+ * but {@link ExtensionModelSerializationContext#deduplicate(org.mule.metadata.api.model.MetadataType) within each
+ * deserialization}, since they may refer to the classes of the extension they belong to.
+ *
+ * @since 1.8
+ */
+public final class DeduplicationTables {
+
+  private static final Interner<String> STRINGS = newWeakInterner();
+
+  /**
+   * @param value a {@link String}
+   * @return the canonical instance equal to the given {@code value}, or {@code null} if it is {@code null}
+   */
+  public static String deduplicate(String value) {
+    return value == null ? null : STRINGS.intern(value);
+  }
+
+  private DeduplicationTables() {}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
+
+import static java.util.Collections.emptySet;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.persistence.MetadataTypeGsonTypeAdapter;
+import org.mule.metadata.persistence.ObjectTypeReferenceHandler;
+import org.mule.metadata.persistence.SerializationContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.error.ErrorModel;
+import org.mule.runtime.api.meta.model.notification.NotificationModel;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.google.gson.TypeAdapter;
+
+/**
+ * Holds the state of a single serialization or deserialization of {@link ExtensionModel}s: the {@link SerializationContext} which
+ * keeps track of type references and the repositories of the {@link ErrorModel}s and {@link NotificationModel}s found so far.
+ * <p>
+ * This allows the adapters of a {@link com.google.gson.Gson} instance to be built only once and shared by concurrent
+ * invocations, each of them running {@link #withContext(ExtensionModelSerializationContext, Supplier) within} its own context.
+ *
+ * @since 1.8
+ */
+public final class ExtensionModelSerializationContext {
+
+  private static final ThreadLocal<ExtensionModelSerializationContext> CURRENT = new ThreadLocal<>();
+
+  private final SerializationContext serializationContext = new SerializationContext();
+  private final Map<String, ErrorModel> errorModelRepository = new HashMap<>();
+  private final Map<String, NotificationModel> notificationModelRepository = new HashMap<>();
+  private final Set<String> referableTypeIds = new HashSet<>();
+  private final Map<MetadataType, MetadataType> deduplicatedTypes = new HashMap<>();
+  private final String document;
+  private TypeAdapter<MetadataType> metadataTypeAdapter;
+
+  /**
+   * Creates a new context in which no type is written as a reference
+   */
+  public ExtensionModelSerializationContext() {
+    this(emptySet(), emptySet(), null);
+  }
+
+  /**
+   * Creates a new context in which the components of the {@link ExtensionModel}s read from the given {@code document} are
+   * deserialized only when first accessed
+   *
+   * @param document the JSON text being read in this context, which is retained in order to read the components from it
+   */
+  public ExtensionModelSerializationContext(String document) {
+    this(emptySet(), emptySet(), document);
+  }
+
+  /**
+   * Creates a new context
+   *
+   * @param types         the {@link ObjectType}s which can be written as references
+   * @param importedTypes the imported {@link ObjectType}s, which can also be written as references
+   */
+  public ExtensionModelSerializationContext(Set<ObjectType> types, Set<ObjectType> importedTypes) {
+    this(types, importedTypes, null);
+  }
+
+  private ExtensionModelSerializationContext(Set<ObjectType> types, Set<ObjectType> importedTypes, String document) {
+    this.document = document;
+    types.forEach(type -> getId(type).ifPresent(referableTypeIds::add));
+    importedTypes.forEach(type -> {
+      getId(type).ifPresent(referableTypeIds::add);
+      serializationContext.registerObjectType(type);
+    });
+  }
+
+  /**
+   * Executes the given {@code task} with the given {@code context} as the {@link #current()} one for the invoking thread.
+   *
+   * @param context the context in which the task runs
+   * @param task    the task to execute
+   * @param <T>     the generic type of the task's outcome
+   * @return the task's outcome
+   */
+  public static <T> T withContext(ExtensionModelSerializationContext context, Supplier<T> task) {
+    ExtensionModelSerializationContext previous = CURRENT.get();
+    CURRENT.set(context);
+    try {
+      return task.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * @return the context of the serialization in progress in the invoking thread
+   * @throws IllegalStateException if there is no serialization in progress
+   */
+  public static ExtensionModelSerializationContext current() {
+    ExtensionModelSerializationContext context = CURRENT.get();
+    if (context == null) {
+      throw new IllegalStateException("There is no extension model serialization in progress in the current thread");
+    }
+    return context;
+  }
+
+  /**
+   * @return whether the components of the {@link ExtensionModel}s read in this context are to be deserialized only when first
+   *         accessed
+   */
+  public boolean isLazy() {
+    return document != null;
+  }
+
+  /**
+   * @return the JSON text being read in this context, if it {@link #isLazy() is lazy}. {@code null} otherwise.
+   */
+  public String getDocument() {
+    return document;
+  }
+
+  public SerializationContext getSerializationContext() {
+    return serializationContext;
+  }
+
+  public Map<String, ErrorModel> getErrorModelRepository() {
+    return errorModelRepository;
+  }
+
+  public Map<String, NotificationModel> getNotificationModelRepository() {
+    return notificationModelRepository;
+  }
+
+  /**
+   * Resolves equal {@link MetadataType}s read in this context to a single instance. Unlike {@link String}s, types are not
+   * shared with other deserializations, so that no table outlives the models read in this context.
+   *
+   * @param type a {@link MetadataType}
+   * @param <T>  the type's generic type
+   * @return the first instance read in this context which is equal to the given {@code type}, or {@code null} if it is
+   *         {@code null}
+   */
+  public <T extends MetadataType> T deduplicate(T type) {
+    if (type == null) {
+      return null;
+    }
+    MetadataType existing = deduplicatedTypes.putIfAbsent(type, type);
+    return existing != null ? (T) existing : type;
+  }
+
+  /**
+   * @return a {@link TypeAdapter} for {@link MetadataType}s which only writes references for the types given when this context
+   *         was created.
+   */
+  public TypeAdapter<MetadataType> getMetadataTypeAdapter() {
+    if (metadataTypeAdapter == null) {
+      ObjectTypeReferenceHandler referenceHandler =
+          new RestrictedTypesObjectTypeReferenceHandler(serializationContext, referableTypeIds);
+      metadataTypeAdapter = new MetadataTypeGsonTypeAdapter(referenceHandler);
+    }
+    return metadataTypeAdapter;
+  }
+}
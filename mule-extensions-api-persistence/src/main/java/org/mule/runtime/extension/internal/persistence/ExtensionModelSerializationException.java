@@ -15,6 +15,10 @@ import org.mule.runtime.api.meta.model.ExtensionModel;
  */
 class ExtensionModelSerializationException extends RuntimeException {
 
+  ExtensionModelSerializationException(String message) {
+    super(message);
+  }
+
   ExtensionModelSerializationException(String message, Exception cause) {
     super(message, cause);
   }
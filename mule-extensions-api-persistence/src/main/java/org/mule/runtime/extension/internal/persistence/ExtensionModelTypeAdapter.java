@@ -8,8 +8,12 @@ package org.mule.runtime.extension.internal.persistence;
 
 import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_SUPPORTED_JAVA_VERSIONS;
 import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
+import static org.mule.runtime.extension.internal.persistence.DeduplicationTables.deduplicate;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.current;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.withContext;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 
 import org.mule.metadata.api.model.ObjectType;
@@ -19,6 +23,7 @@ import org.mule.metadata.persistence.SerializationContext;
 import org.mule.runtime.api.artifact.ArtifactCoordinates;
 import org.mule.runtime.api.meta.Category;
 import org.mule.runtime.api.meta.MuleVersion;
+import org.mule.runtime.api.meta.NamedObject;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.ExternalLibraryModel;
 import org.mule.runtime.api.meta.model.ImportedTypeModel;
@@ -35,14 +40,18 @@ import org.mule.runtime.api.meta.model.notification.NotificationModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
 import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
+import org.mule.runtime.extension.api.model.config.ImmutableConfigurationModel;
 import org.mule.runtime.extension.api.util.HierarchyClassMap;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
@@ -88,24 +97,90 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
   static final String ERRORS = "errors";
   static final String NOTIFICATIONS = "notifications";
   private static final String ARTIFACT_COORDINATES = "artifactCoordinates";
+  private static final Set<String> CONFIGURATION_COMPONENTS =
+      new HashSet<>(asList(OPERATIONS, CONNECTION_PROVIDERS, MESSAGE_SOURCES));
+  private static final Set<String> EXTENSION_COMPONENTS =
+      new HashSet<>(asList(CONFIGURATIONS, OPERATIONS, CONNECTION_PROVIDERS, MESSAGE_SOURCES, FUNCTIONS, CONSTRUCTS));
+  private static final Map<String, Class<? extends NamedObject>> COMPONENT_TYPES = new HashMap<>();
+
+  static {
+    COMPONENT_TYPES.put(OPERATIONS, OperationModel.class);
+    COMPONENT_TYPES.put(CONNECTION_PROVIDERS, ConnectionProviderModel.class);
+    COMPONENT_TYPES.put(MESSAGE_SOURCES, SourceModel.class);
+    COMPONENT_TYPES.put(FUNCTIONS, FunctionModel.class);
+    COMPONENT_TYPES.put(CONSTRUCTS, ConstructModel.class);
+  }
 
   private final Gson gsonDelegate;
-  private final JsonMetadataTypeLoader typeLoader = new JsonMetadataTypeLoader();
-  private final JsonMetadataTypeWriter typeWriter = new JsonMetadataTypeWriter();
-  private final SerializationContext serializationContext;
-  private final ErrorModelSerializerDelegate errorModelDelegate;
-  private final NotificationModelSerializerDelegate notificationModelDelegate;
+  private final Supplier<SerializationContext> serializationContext;
+  private final Supplier<Map<String, ErrorModel>> errorModelRepository;
+  private final Supplier<Map<String, NotificationModel>> notificationModelRepository;
+  private final Supplier<ExtensionModelSerializationContext> lazyContext;
+  private final boolean deduplicate;
 
   public ExtensionModelTypeAdapter(Gson gsonDelegate, SerializationContext serializationContext,
                                    Map<String, ErrorModel> errorModelMap, Map<String, NotificationModel> notificationModelMap) {
+    this(gsonDelegate, () -> serializationContext, () -> errorModelMap, () -> notificationModelMap);
+  }
+
+  /**
+   * Creates a new instance which obtains the state of the serialization from the given suppliers each time a model is read or
+   * written, so that it can be shared by concurrent serializations.
+   *
+   * @param gsonDelegate                the {@link Gson} instance used to handle the inner models
+   * @param serializationContext        supplies the {@link SerializationContext} which keeps track of the type references
+   * @param errorModelRepository        supplies the repository of already known {@link ErrorModel}s
+   * @param notificationModelRepository supplies the repository of already known {@link NotificationModel}s
+   * @since 1.8
+   */
+  public ExtensionModelTypeAdapter(Gson gsonDelegate, Supplier<SerializationContext> serializationContext,
+                                   Supplier<Map<String, ErrorModel>> errorModelRepository,
+                                   Supplier<Map<String, NotificationModel>> notificationModelRepository) {
+    this(gsonDelegate, serializationContext, errorModelRepository, notificationModelRepository, () -> null, false);
+  }
+
+  /**
+   * Creates a new instance which obtains the state of the serialization from the
+   * {@link ExtensionModelSerializationContext} given by the {@code context} supplier each time a model is read or written, so
+   * that it can be shared by concurrent serializations.
+   * <p>
+   * When the supplied context {@link ExtensionModelSerializationContext#isLazy() is lazy}, the components of the read models
+   * are skipped when the models are read, and deserialized from the {@link ExtensionModelSerializationContext#getDocument()
+   * document} within that same context when they are first accessed.
+   *
+   * @param gsonDelegate the {@link Gson} instance used to handle the inner models
+   * @param context      supplies the context of the serialization in progress
+   * @param deduplicate  whether the strings read are to be resolved through the {@link DeduplicationTables}, and the catalog
+   *                     types read are to be deduplicated within the supplied context
+   * @since 1.8
+   */
+  public ExtensionModelTypeAdapter(Gson gsonDelegate, Supplier<ExtensionModelSerializationContext> context,
+                                   boolean deduplicate) {
+    this(gsonDelegate, () -> context.get().getSerializationContext(), () -> context.get().getErrorModelRepository(),
+         () -> context.get().getNotificationModelRepository(), () -> context.get().isLazy() ? context.get() : null,
+         deduplicate);
+  }
+
+  private ExtensionModelTypeAdapter(Gson gsonDelegate, Supplier<SerializationContext> serializationContext,
+                                    Supplier<Map<String, ErrorModel>> errorModelRepository,
+                                    Supplier<Map<String, NotificationModel>> notificationModelRepository,
+                                    Supplier<ExtensionModelSerializationContext> lazyContext,
+                                    boolean deduplicate) {
     this.gsonDelegate = gsonDelegate;
     this.serializationContext = serializationContext;
-    this.errorModelDelegate = new ErrorModelSerializerDelegate(errorModelMap);
-    this.notificationModelDelegate = new NotificationModelSerializerDelegate(notificationModelMap, gsonDelegate);
+    this.errorModelRepository = errorModelRepository;
+    this.notificationModelRepository = notificationModelRepository;
+    this.lazyContext = lazyContext;
+    this.deduplicate = deduplicate;
   }
 
   @Override
   public void write(JsonWriter out, ExtensionModel model) throws IOException {
+    final JsonMetadataTypeWriter typeWriter = new JsonMetadataTypeWriter();
+    final ErrorModelSerializerDelegate errorModelDelegate = new ErrorModelSerializerDelegate(errorModelRepository.get());
+    final NotificationModelSerializerDelegate notificationModelDelegate =
+        new NotificationModelSerializerDelegate(notificationModelRepository.get(), gsonDelegate);
+
     out.beginObject();
 
     out.name(NAME).value(model.getName());
@@ -130,10 +205,14 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     writeWithDelegate(model.getPrivilegedArtifacts(), PRIVILEGED_ARTIFACTS, out, new TypeToken<Set<String>>() {});
     writeWithDelegate(model.getExternalLibraryModels(), EXTERNAL_LIBRARIES, out, new TypeToken<Set<ExternalLibraryModel>>() {});
 
-    writeImportedTypes(out, model.getImportedTypes());
+    writeImportedTypes(out, model.getImportedTypes(), typeWriter);
 
     writeWithDelegate(model.getDisplayModel().orElse(null), DISPLAY_MODEL, out, new TypeToken<DisplayModel>() {});
-    writeWithDelegate(model.getConfigurationModels(), CONFIGURATIONS, out, new TypeToken<List<ConfigurationModel>>() {});
+    writeWithDelegate(model.getConfigurationModels().stream()
+        .map(configuration -> configuration instanceof LazyConfigurationModel
+            ? ((LazyConfigurationModel) configuration).toImmutable()
+            : configuration)
+        .collect(Collectors.toList()), CONFIGURATIONS, out, new TypeToken<List<ConfigurationModel>>() {});
     writeWithDelegate(model.getOperationModels(), OPERATIONS, out, new TypeToken<List<OperationModel>>() {});
     writeWithDelegate(model.getFunctionModels(), FUNCTIONS, out, new TypeToken<List<FunctionModel>>() {});
     writeWithDelegate(model.getConstructModels(), CONSTRUCTS, out, new TypeToken<List<ConstructModel>>() {});
@@ -148,15 +227,25 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     notificationModelDelegate.writeNotifications(model.getNotificationModels(), out);
     errorModelDelegate.writeErrors(model.getErrorModels(), out);
     writeExtensionLevelModelProperties(out, model);
-    writeTypes(TYPES, out, model.getTypes());
+    writeTypes(TYPES, out, model.getTypes(), typeWriter);
     out.endObject();
   }
 
   @Override
   public ExtensionModel read(JsonReader in) throws IOException {
-    JsonObject json = new JsonParser().parse(in).getAsJsonObject();
-
-    Set<ObjectType> types = parseTypes(TYPES, json);
+    final ExtensionModelSerializationContext lazyContext = this.lazyContext.get();
+    final Map<String, LazyComponents<?>> skippedComponents = new HashMap<>();
+    final JsonObject json = lazyContext != null
+        ? readSkipping(in, JsonValuePosition.of(lazyContext.getDocument(), in.getPath()), EXTENSION_COMPONENTS,
+                       skippedComponents, lazyContext)
+        : new JsonParser().parse(in).getAsJsonObject();
+    final JsonMetadataTypeLoader typeLoader = new JsonMetadataTypeLoader();
+    final SerializationContext serializationContext = this.serializationContext.get();
+    final ErrorModelSerializerDelegate errorModelDelegate = new ErrorModelSerializerDelegate(errorModelRepository.get());
+    final NotificationModelSerializerDelegate notificationModelDelegate =
+        new NotificationModelSerializerDelegate(notificationModelRepository.get(), gsonDelegate);
+
+    Set<ObjectType> types = parseTypes(TYPES, json, typeLoader, serializationContext);
     MuleVersion minMuleVersion = null;
     if (json.has(MIN_MULE_VERSION)) {
       minMuleVersion = new MuleVersion(json.get(MIN_MULE_VERSION).getAsString());
@@ -174,13 +263,42 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
 
     Map<String, ErrorModel> parsedErrors = errorModelDelegate.parseErrors(errors);
 
-    Set<ImportedTypeModel> importedTypes = parseImportedTypes(json);
+    Set<ImportedTypeModel> importedTypes = parseImportedTypes(json, typeLoader, serializationContext);
     Set<String> resources = parseWithDelegate(json, RESOURCES, new TypeToken<Set<String>>() {});
     Set<SubTypesModel> subTypes = parseWithDelegate(json, SUB_TYPES, new TypeToken<Set<SubTypesModel>>() {});
     Set<String> privilegedPackages = parseWithDelegate(json, PRIVILEGED_PACKAGES, new TypeToken<Set<String>>() {});
     Set<String> privilegedArtifacts = parseWithDelegate(json, PRIVILEGED_ARTIFACTS, new TypeToken<Set<String>>() {});
     Set<ExternalLibraryModel> externalLibraries =
         parseWithDelegate(json, EXTERNAL_LIBRARIES, new TypeToken<Set<ExternalLibraryModel>>() {});
+    ArtifactCoordinates coordinates = parseWithDelegate(json, ARTIFACT_COORDINATES, new TypeToken<ArtifactCoordinates>() {});
+
+    if (lazyContext != null) {
+      return new LazyExtensionModel(getString(json, NAME),
+                                    getString(json, DESCRIPTION),
+                                    getString(json, VERSION),
+                                    getString(json, VENDOR),
+                                    gsonDelegate.fromJson(json.get(CATEGORY), Category.class),
+                                    skipped(skippedComponents, CONFIGURATIONS),
+                                    skipped(skippedComponents, OPERATIONS),
+                                    skipped(skippedComponents, CONNECTION_PROVIDERS),
+                                    skipped(skippedComponents, MESSAGE_SOURCES),
+                                    skipped(skippedComponents, FUNCTIONS),
+                                    skipped(skippedComponents, CONSTRUCTS),
+                                    gsonDelegate.fromJson(json.get(DISPLAY_MODEL), DisplayModel.class),
+                                    gsonDelegate.fromJson(json.get(XML_DSL), XmlDslModel.class),
+                                    subTypes,
+                                    types,
+                                    resources,
+                                    importedTypes,
+                                    new LinkedHashSet<>(parsedErrors.values()),
+                                    externalLibraries,
+                                    privilegedPackages, privilegedArtifacts, parseExtensionLevelModelProperties(json),
+                                    new LinkedHashSet<>(parsedNotifications.values()),
+                                    coordinates,
+                                    minMuleVersion,
+                                    parseSupportedJavaVersions(json));
+    }
+
     List<ConfigurationModel> configs = parseWithDelegate(json, CONFIGURATIONS, new TypeToken<List<ConfigurationModel>>() {});
     List<OperationModel> operations = parseWithDelegate(json, OPERATIONS, new TypeToken<List<OperationModel>>() {});
     List<ConnectionProviderModel> providers =
@@ -188,12 +306,11 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     List<SourceModel> sources = parseWithDelegate(json, MESSAGE_SOURCES, new TypeToken<List<SourceModel>>() {});
     List<FunctionModel> functions = parseWithDelegate(json, FUNCTIONS, new TypeToken<List<FunctionModel>>() {});
     List<ConstructModel> constructs = parseWithDelegate(json, CONSTRUCTS, new TypeToken<List<ConstructModel>>() {});
-    ArtifactCoordinates coordinates = parseWithDelegate(json, ARTIFACT_COORDINATES, new TypeToken<ArtifactCoordinates>() {});
 
-    return new ImmutableExtensionModel(json.get(NAME).getAsString(),
-                                       json.get(DESCRIPTION).getAsString(),
-                                       json.get(VERSION).getAsString(),
-                                       json.get(VENDOR).getAsString(),
+    return new ImmutableExtensionModel(getString(json, NAME),
+                                       getString(json, DESCRIPTION),
+                                       getString(json, VERSION),
+                                       getString(json, VENDOR),
                                        gsonDelegate.fromJson(json.get(CATEGORY), Category.class),
                                        configs,
                                        operations,
@@ -217,6 +334,87 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
                                        parseSupportedJavaVersions(json));
   }
 
+  private String getString(JsonObject json, String elementName) {
+    String value = json.get(elementName).getAsString();
+    return deduplicate ? deduplicate(value) : value;
+  }
+
+  /**
+   * Reads the object {@code in} is positioned at, skipping the arrays of components in the given {@code lazyMembers}.
+   *
+   * @param in                the reader, positioned right before the object
+   * @param position          the position of the object in the document
+   * @param lazyMembers       the names of the members holding components to be deserialized only when accessed
+   * @param skippedComponents the map in which the skipped components are put, by member name
+   * @param context           the context in which the skipped components are deserialized
+   * @return the read object, without the skipped members
+   */
+  private JsonObject readSkipping(JsonReader in, JsonValuePosition position, Set<String> lazyMembers,
+                                  Map<String, LazyComponents<?>> skippedComponents, ExtensionModelSerializationContext context)
+      throws IOException {
+    final JsonParser parser = new JsonParser();
+    final JsonObject json = new JsonObject();
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if (lazyMembers.contains(name)) {
+        skippedComponents.put(name, skipComponents(in, position.member(name), name, context));
+      } else {
+        json.add(name, parser.parse(in));
+      }
+    }
+    in.endObject();
+    return json;
+  }
+
+  private LazyComponents<?> skipComponents(JsonReader in, JsonValuePosition section, String elementName,
+                                           ExtensionModelSerializationContext context)
+      throws IOException {
+    if (CONFIGURATIONS.equals(elementName)) {
+      return new LazyComponents<>(in, section, (component, position) -> readConfiguration(component, position, context));
+    }
+
+    Class<? extends NamedObject> type = COMPONENT_TYPES.get(elementName);
+    return new LazyComponents<>(in, section, (component, position) -> deserializeInContext(component, type, context));
+  }
+
+  private <T extends NamedObject> LazyComponents<T> skipped(Map<String, LazyComponents<?>> skippedComponents,
+                                                            String elementName) {
+    LazyComponents<?> components = skippedComponents.get(elementName);
+    return components != null ? (LazyComponents<T>) components : new LazyComponents<>();
+  }
+
+  /**
+   * Configurations are deserialized without their operations, connection providers and sources, which are in turn deserialized
+   * only when accessed.
+   */
+  private ConfigurationModel readConfiguration(JsonReader in, JsonValuePosition position,
+                                               ExtensionModelSerializationContext context)
+      throws IOException {
+    final Map<String, LazyComponents<?>> skippedComponents = new HashMap<>();
+    final JsonObject withoutComponents = readSkipping(in, position, CONFIGURATION_COMPONENTS, skippedComponents, context);
+
+    return new LazyConfigurationModel((ImmutableConfigurationModel) deserializeInContext(withoutComponents,
+                                                                                         ConfigurationModel.class, context),
+                                      skipped(skippedComponents, OPERATIONS),
+                                      skipped(skippedComponents, CONNECTION_PROVIDERS),
+                                      skipped(skippedComponents, MESSAGE_SOURCES));
+  }
+
+  private <T> T deserializeInContext(JsonElement component, Class<T> type, ExtensionModelSerializationContext context) {
+    // the state of the context is not thread-safe, and may be shared by many models
+    synchronized (context) {
+      return withContext(context, () -> gsonDelegate.fromJson(component, type));
+    }
+  }
+
+  private <T> T deserializeInContext(JsonReader component, Class<T> type, ExtensionModelSerializationContext context) {
+    // the state of the context is not thread-safe, and may be shared by many models
+    synchronized (context) {
+      return withContext(context, () -> gsonDelegate.fromJson(component, type));
+    }
+  }
+
   private <T> T parseWithDelegate(JsonObject json, String elementName, TypeToken<T> typeToken) {
     JsonElement element = json.get(elementName);
     if (element != null) {
@@ -231,7 +429,8 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     gsonDelegate.toJson(value, typeToken.getType(), out);
   }
 
-  private Set<ObjectType> parseTypes(String label, JsonObject json) {
+  private Set<ObjectType> parseTypes(String label, JsonObject json, JsonMetadataTypeLoader typeLoader,
+                                     SerializationContext serializationContext) {
     final Set<ObjectType> types = new LinkedHashSet<>();
     final JsonElement jsonElement = json.get(label);
     JsonArray typesArray = jsonElement != null ? jsonElement.getAsJsonArray() : null;
@@ -249,7 +448,7 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
           .orElseThrow(() -> new IllegalArgumentException("Invalid json element found in 'types', only ObjectTypes "
               + "with a 'typeId' can be part of the 'types' catalog"));
 
-      final ObjectType objectType = (ObjectType) type;
+      final ObjectType objectType = deduplicate ? current().deduplicate((ObjectType) type) : (ObjectType) type;
       serializationContext.registerObjectType(objectType);
       types.add(objectType);
     }));
@@ -269,13 +468,15 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     return versions.isEmpty() ? DEFAULT_SUPPORTED_JAVA_VERSIONS : versions;
   }
 
-  private Set<ImportedTypeModel> parseImportedTypes(JsonObject json) {
-    return parseTypes(IMPORTED_TYPES, json)
+  private Set<ImportedTypeModel> parseImportedTypes(JsonObject json, JsonMetadataTypeLoader typeLoader,
+                                                    SerializationContext serializationContext) {
+    return parseTypes(IMPORTED_TYPES, json, typeLoader, serializationContext)
         .stream().map(ImportedTypeModel::new)
         .collect(Collectors.toSet());
   }
 
-  private void writeTypes(String label, JsonWriter out, Set<ObjectType> additionalTypes) throws IOException {
+  private void writeTypes(String label, JsonWriter out, Set<ObjectType> additionalTypes, JsonMetadataTypeWriter typeWriter)
+      throws IOException {
     out.name(label);
     out.beginArray();
     final Set<ObjectType> objectTypes = new LinkedHashSet<>();
@@ -286,11 +487,12 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     out.endArray();
   }
 
-  private void writeImportedTypes(JsonWriter out, Set<ImportedTypeModel> importedTypeModels) throws IOException {
+  private void writeImportedTypes(JsonWriter out, Set<ImportedTypeModel> importedTypeModels, JsonMetadataTypeWriter typeWriter)
+      throws IOException {
     writeTypes(IMPORTED_TYPES, out, importedTypeModels
         .stream()
         .map(ImportedTypeModel::getImportedType)
-        .collect(Collectors.toCollection(LinkedHashSet::new)));
+        .collect(Collectors.toCollection(LinkedHashSet::new)), typeWriter);
   }
 
   private void writeExtensionLevelModelProperties(JsonWriter out, ExtensionModel model) throws IOException {
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.String.format;
+import static java.util.Arrays.copyOf;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+
+/**
+ * The position of a value within a JSON document, as the member names and array indexes leading to it from the root.
+ * <p>
+ * This allows to skip values with {@link JsonReader#skipValue()} while reading a document, and to read them later on, without
+ * building a tree of the document or copying the text of the skipped values. Reading a value again tokenizes the document up
+ * to that value, but does not build any of the values skipped on the way.
+ *
+ * @since 1.8
+ */
+final class JsonValuePosition {
+
+  private static final String ROOT = "$";
+
+  private final String document;
+  private final Object[] path;
+
+  /**
+   * @param document the JSON document
+   * @param path     the {@link JsonReader#getPath() path} of a value in the given {@code document}, which has to be either the
+   *                 root or an element of the root array
+   * @return the position of the value with the given {@code path}
+   */
+  static JsonValuePosition of(String document, String path) {
+    JsonValuePosition root = new JsonValuePosition(document, new Object[0]);
+    if (ROOT.equals(path)) {
+      return root;
+    }
+    if (path.startsWith(ROOT + "[") && path.endsWith("]")) {
+      try {
+        return root.element(parseInt(path.substring(ROOT.length() + 1, path.length() - 1)));
+      } catch (NumberFormatException e) {
+        // reported below
+      }
+    }
+    throw new IllegalArgumentException(format("Values at '%s' cannot be read again", path));
+  }
+
+  private JsonValuePosition(String document, Object[] path) {
+    this.document = document;
+    this.path = path;
+  }
+
+  /**
+   * @param name the name of a member of the object at this position
+   * @return the position of that member's value
+   */
+  JsonValuePosition member(String name) {
+    return child(name);
+  }
+
+  /**
+   * @param index the index of an element of the array at this position
+   * @return the position of that element
+   */
+  JsonValuePosition element(int index) {
+    return child(index);
+  }
+
+  private JsonValuePosition child(Object step) {
+    Object[] childPath = copyOf(path, path.length + 1);
+    childPath[path.length] = step;
+    return new JsonValuePosition(document, childPath);
+  }
+
+  /**
+   * Reads the value at this position.
+   *
+   * @param valueReader reads the value from a {@link JsonReader} positioned right before it
+   * @param <T>         the generic type of the read value
+   * @return the read value
+   * @throws JsonSyntaxException if the document is malformed, or has no value at this position
+   * @throws JsonIOException     if the document could not be read
+   */
+  <T> T read(ValueReader<T> valueReader) {
+    try (JsonReader in = new JsonReader(new StringReader(document))) {
+      // as lenient as Gson is when the document is first read
+      in.setLenient(true);
+      for (Object step : path) {
+        if (step instanceof String) {
+          moveToMember(in, (String) step);
+        } else {
+          moveToElement(in, (Integer) step);
+        }
+      }
+      return valueReader.read(in);
+    } catch (MalformedJsonException | IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  private void moveToMember(JsonReader in, String name) throws IOException {
+    in.beginObject();
+    while (in.hasNext()) {
+      if (in.nextName().equals(name)) {
+        return;
+      }
+      in.skipValue();
+    }
+    throw new IllegalStateException(format("Member '%s' not found at %s", name, in.getPath()));
+  }
+
+  private void moveToElement(JsonReader in, int index) throws IOException {
+    in.beginArray();
+    for (int i = 0; i < index; i++) {
+      if (!in.hasNext()) {
+        throw new IllegalStateException(format("Element %d not found at %s", index, in.getPath()));
+      }
+      in.skipValue();
+    }
+  }
+
+  /**
+   * Reads a value from a {@link JsonReader}.
+   *
+   * @param <T> the generic type of the read value
+   */
+  @FunctionalInterface
+  interface ValueReader<T> {
+
+    T read(JsonReader in) throws IOException;
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
+
+import org.mule.runtime.api.meta.NamedObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A section of a serialized {@link org.mule.runtime.api.meta.model.ExtensionModel} holding a kind of components (such as its
+ * operations or its sources), which are deserialized only when accessed.
+ * <p>
+ * Looking up a component by name only deserializes that component. Each component is deserialized only once, so all the lookups
+ * return the same instance.
+ * <p>
+ * When the serialized model is read, the components are {@link JsonReader#skipValue() skipped} and only their names and
+ * {@link JsonValuePosition positions} are kept, so neither a JSON tree nor a copy of the text of the components is built. The
+ * text of the whole document is retained until all the components are deserialized.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @param <T> the generic type of the components
+ * @since 1.8
+ */
+final class LazyComponents<T extends NamedObject> {
+
+  private static final String NAME = "name";
+
+  private final ComponentReader<T> componentReader;
+  private JsonValuePosition section;
+  private String[] names;
+  private Object[] components;
+  private List<T> all;
+  private Map<String, T> allByName;
+
+  /**
+   * Creates a new instance by skipping the serialized components, which the given {@code in} is positioned at.
+   *
+   * @param in              the reader of the document, positioned right before the array of components
+   * @param section         the position of the array of components in the document
+   * @param componentReader deserializes each of the components
+   */
+  LazyComponents(JsonReader in, JsonValuePosition section, ComponentReader<T> componentReader) throws IOException {
+    this.componentReader = componentReader;
+
+    List<String> skippedNames = new ArrayList<>();
+    if (in.peek() == JsonToken.BEGIN_ARRAY) {
+      in.beginArray();
+      while (in.hasNext()) {
+        skippedNames.add(skipComponent(in));
+      }
+      in.endArray();
+    } else {
+      in.skipValue();
+    }
+
+    if (skippedNames.isEmpty()) {
+      all = emptyList();
+      allByName = emptyMap();
+    } else {
+      this.section = section;
+      names = skippedNames.toArray(new String[0]);
+      components = new Object[names.length];
+    }
+  }
+
+  /**
+   * Creates a new instance without any components
+   */
+  LazyComponents() {
+    this.componentReader = null;
+    all = emptyList();
+    allByName = emptyMap();
+  }
+
+  /**
+   * Skips a serialized component.
+   *
+   * @return the name of the component, or {@code null} if it cannot be told without deserializing the component
+   */
+  private static String skipComponent(JsonReader in) throws IOException {
+    if (in.peek() != JsonToken.BEGIN_OBJECT) {
+      in.skipValue();
+      return null;
+    }
+
+    String name = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      if (in.nextName().equals(NAME) && in.peek() == JsonToken.STRING) {
+        name = in.nextString();
+      } else {
+        in.skipValue();
+      }
+    }
+    in.endObject();
+    return name;
+  }
+
+  /**
+   * @return all the components, in the order they were serialized
+   */
+  synchronized List<T> getAll() {
+    if (all == null) {
+      // the pending components are all read in a single pass over the document
+      List<T> deserialized = section.read(in -> {
+        List<T> read = new ArrayList<>(components.length);
+        in.beginArray();
+        for (int i = 0; i < components.length; i++) {
+          if (components[i] == null) {
+            read.add(componentReader.read(in, section.element(i)));
+          } else {
+            in.skipValue();
+            read.add((T) components[i]);
+          }
+        }
+        return read;
+      });
+      all = unmodifiableList(deserialized);
+      allByName = new HashMap<>(deserialized.size() * 4 / 3 + 1);
+      deserialized.forEach(component -> allByName.putIfAbsent(component.getName(), component));
+      section = null;
+      names = null;
+      components = null;
+    }
+    return all;
+  }
+
+  /**
+   * @param name the name of the component
+   * @return the first component with the given {@code name}, if any
+   */
+  synchronized Optional<T> get(String name) {
+    if (all != null) {
+      return ofNullable(allByName.get(name));
+    }
+
+    for (int i = 0; i < components.length; i++) {
+      if (names[i] == null) {
+        T component = get(i);
+        if (component.getName().equals(name)) {
+          return of(component);
+        }
+      } else if (names[i].equals(name)) {
+        return of(get(i));
+      }
+    }
+
+    return empty();
+  }
+
+  private T get(int index) {
+    T component = (T) components[index];
+    if (component == null) {
+      JsonValuePosition position = section.element(index);
+      component = position.read(in -> componentReader.read(in, position));
+      components[index] = component;
+    }
+    return component;
+  }
+
+  /**
+   * Deserializes a component.
+   *
+   * @param <C> the generic type of the component
+   */
+  @FunctionalInterface
+  interface ComponentReader<C> {
+
+    /**
+     * @param in       the reader of the document, positioned right before the component
+     * @param position the position of the component in the document
+     * @return the deserialized component
+     */
+    C read(JsonReader in, JsonValuePosition position) throws IOException;
+  }
+}
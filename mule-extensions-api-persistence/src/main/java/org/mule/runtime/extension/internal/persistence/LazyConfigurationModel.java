@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.extension.api.model.config.ImmutableConfigurationModel;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An {@link ImmutableConfigurationModel} read from its JSON representation, which deserializes its operations, connection
+ * providers and sources only when they are accessed, as {@link LazyExtensionModel} does with the components of the extension.
+ * <p>
+ * Since its components are not held by the fields of {@link ImmutableConfigurationModel}, it has to be converted
+ * {@link #toImmutable() to an immutable one} before being serialized.
+ *
+ * @since 1.8
+ */
+final class LazyConfigurationModel extends ImmutableConfigurationModel {
+
+  private final LazyComponents<OperationModel> operations;
+  private final LazyComponents<ConnectionProviderModel> connectionProviders;
+  private final LazyComponents<SourceModel> sources;
+
+  /**
+   * Creates a new instance
+   *
+   * @param configuration       the configuration deserialized without its operations, connection providers and sources
+   * @param operations          the operations of the configuration
+   * @param connectionProviders the connection providers of the configuration
+   * @param sources             the sources of the configuration
+   */
+  LazyConfigurationModel(ImmutableConfigurationModel configuration,
+                         LazyComponents<OperationModel> operations,
+                         LazyComponents<ConnectionProviderModel> connectionProviders,
+                         LazyComponents<SourceModel> sources) {
+    super(configuration.getName(), configuration.getDescription(),
+          configuration.getParameterGroupModels() != null ? configuration.getParameterGroupModels() : emptyList(),
+          emptyList(), emptyList(), emptyList(),
+          configuration.getExternalLibraryModels() != null ? configuration.getExternalLibraryModels() : emptySet(),
+          configuration.getDisplayModel().orElse(null), configuration.getStereotype(),
+          configuration.getModelProperties() != null ? configuration.getModelProperties() : emptySet(),
+          configuration.getDeprecation().orElse(null), configuration.getMinMuleVersion().orElse(null));
+    this.operations = operations;
+    this.connectionProviders = connectionProviders;
+    this.sources = sources;
+  }
+
+  /**
+   * @return an {@link ImmutableConfigurationModel} with the same state as this one, which holds all of its components
+   */
+  ImmutableConfigurationModel toImmutable() {
+    return new ImmutableConfigurationModel(getName(), getDescription(), getParameterGroupModels(), getOperationModels(),
+                                           getConnectionProviders(), getSourceModels(), getExternalLibraryModels(),
+                                           getDisplayModel().orElse(null), getStereotype(), getModelProperties(),
+                                           getDeprecation().orElse(null), getMinMuleVersion().orElse(null));
+  }
+
+  @Override
+  public List<OperationModel> getOperationModels() {
+    return operations.getAll();
+  }
+
+  @Override
+  public Optional<OperationModel> getOperationModel(String name) {
+    return operations.get(name);
+  }
+
+  @Override
+  public List<ConnectionProviderModel> getConnectionProviders() {
+    return connectionProviders.getAll();
+  }
+
+  @Override
+  public Optional<ConnectionProviderModel> getConnectionProviderModel(String name) {
+    return connectionProviders.get(name);
+  }
+
+  @Override
+  public List<SourceModel> getSourceModels() {
+    return sources.getAll();
+  }
+
+  @Override
+  public Optional<SourceModel> getSourceModel(String name) {
+    return sources.get(name);
+  }
+
+  /**
+   * Symmetric with the equality of {@link ImmutableConfigurationModel}, as {@link LazyExtensionModel#equals(Object)} is with the
+   * one of the extension models.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ImmutableConfigurationModel && obj.getClass().isInstance(this)
+        && getName().equals(((ImmutableConfigurationModel) obj).getName());
+  }
+
+  @Override
+  public int hashCode() {
+    return getName().hashCode();
+  }
+}
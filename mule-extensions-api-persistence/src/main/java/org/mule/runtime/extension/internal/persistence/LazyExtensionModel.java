@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.runtime.api.artifact.ArtifactCoordinates;
+import org.mule.runtime.api.meta.Category;
+import org.mule.runtime.api.meta.MuleVersion;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.ExternalLibraryModel;
+import org.mule.runtime.api.meta.model.ImportedTypeModel;
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.api.meta.model.SubTypesModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.error.ErrorModel;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.notification.NotificationModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An {@link ImmutableExtensionModel} read from its JSON representation, which deserializes its configurations, operations,
+ * connection providers, sources, functions and constructs only when they are accessed.
+ * <p>
+ * Since many tools read a whole {@link ExtensionModel} only to use a few of its components, this avoids building the models
+ * of the ones that are never looked at. Its configurations are {@link LazyConfigurationModel}s, which do the same with their
+ * own components.
+ *
+ * @since 1.8
+ */
+final class LazyExtensionModel extends ImmutableExtensionModel {
+
+  private final LazyComponents<ConfigurationModel> configurations;
+  private final LazyComponents<OperationModel> operations;
+  private final LazyComponents<ConnectionProviderModel> connectionProviders;
+  private final LazyComponents<SourceModel> sources;
+  private final LazyComponents<FunctionModel> functions;
+  private final LazyComponents<ConstructModel> constructs;
+
+  LazyExtensionModel(String name,
+                     String description,
+                     String version,
+                     String vendor,
+                     Category category,
+                     LazyComponents<ConfigurationModel> configurations,
+                     LazyComponents<OperationModel> operations,
+                     LazyComponents<ConnectionProviderModel> connectionProviders,
+                     LazyComponents<SourceModel> sources,
+                     LazyComponents<FunctionModel> functions,
+                     LazyComponents<ConstructModel> constructs,
+                     DisplayModel displayModel,
+                     XmlDslModel xmlDslModel,
+                     Set<SubTypesModel> subTypes,
+                     Set<ObjectType> types,
+                     Set<String> resources,
+                     Set<ImportedTypeModel> importedTypes,
+                     Set<ErrorModel> errors,
+                     Set<ExternalLibraryModel> externalLibraryModels,
+                     Set<String> privilegedPackages, Set<String> privilegedArtifacts,
+                     Set<ModelProperty> modelProperties,
+                     Set<NotificationModel> notifications,
+                     ArtifactCoordinates artifactCoordinates,
+                     MuleVersion minMuleVersion,
+                     Set<String> supportedJavaVersions) {
+    super(name, description, version, vendor, category, null, null, null, null, null, null, displayModel, xmlDslModel, subTypes,
+          types, resources, importedTypes, errors, externalLibraryModels, privilegedPackages, privilegedArtifacts,
+          modelProperties, notifications, null, artifactCoordinates, minMuleVersion, supportedJavaVersions);
+    this.configurations = configurations;
+    this.operations = operations;
+    this.connectionProviders = connectionProviders;
+    this.sources = sources;
+    this.functions = functions;
+    this.constructs = constructs;
+  }
+
+  @Override
+  public List<ConfigurationModel> getConfigurationModels() {
+    return configurations.getAll();
+  }
+
+  @Override
+  public Optional<ConfigurationModel> getConfigurationModel(String name) {
+    return configurations.get(name);
+  }
+
+  @Override
+  public List<OperationModel> getOperationModels() {
+    return operations.getAll();
+  }
+
+  @Override
+  public Optional<OperationModel> getOperationModel(String name) {
+    return operations.get(name);
+  }
+
+  @Override
+  public List<ConnectionProviderModel> getConnectionProviders() {
+    return connectionProviders.getAll();
+  }
+
+  @Override
+  public Optional<ConnectionProviderModel> getConnectionProviderModel(String name) {
+    return connectionProviders.get(name);
+  }
+
+  @Override
+  public List<SourceModel> getSourceModels() {
+    return sources.getAll();
+  }
+
+  @Override
+  public Optional<SourceModel> getSourceModel(String name) {
+    return sources.get(name);
+  }
+
+  @Override
+  public List<FunctionModel> getFunctionModels() {
+    return functions.getAll();
+  }
+
+  @Override
+  public Optional<FunctionModel> getFunctionModel(String name) {
+    return functions.get(name);
+  }
+
+  @Override
+  public List<ConstructModel> getConstructModels() {
+    return constructs.getAll();
+  }
+
+  @Override
+  public Optional<ConstructModel> getConstructModel(String name) {
+    return constructs.get(name);
+  }
+
+  /**
+   * Equal to the models with the same name whose class this one is an instance of, such as {@link ImmutableExtensionModel}, as
+   * those consider themselves equal to this one. Models of other classes are not, so that the equality is symmetric.
+   *
+   * @param obj an object
+   * @return {@code true} if equal
+   */
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ImmutableExtensionModel && obj.getClass().isInstance(this)
+        && getName().equals(((ImmutableExtensionModel) obj).getName());
+  }
+
+  @Override
+  public int hashCode() {
+    return getName().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "LazyExtensionModel{" +
+        "name='" + getName() + '\'' +
+        ", version='" + getVersion() + '\'' +
+        ", vendor='" + getVendor() + '\'' +
+        "}";
+  }
+}
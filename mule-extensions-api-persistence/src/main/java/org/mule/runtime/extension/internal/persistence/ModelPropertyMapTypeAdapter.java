@@ -13,10 +13,13 @@ import org.mule.runtime.api.meta.model.EnrichableModel;
 import org.mule.runtime.api.meta.model.ModelProperty;
 import org.mule.runtime.api.meta.model.display.LayoutModel;
 import org.mule.runtime.extension.api.connectivity.oauth.OAuthModelProperty;
+import org.mule.runtime.extension.api.property.BatchEmissionModelProperty;
 import org.mule.runtime.extension.api.property.RequiredForMetadataModelProperty;
 import org.mule.runtime.extension.api.property.MetadataKeyIdModelProperty;
 import org.mule.runtime.extension.api.property.SinceMuleVersionModelProperty;
 import org.mule.runtime.extension.api.property.TypeResolversInformationModelProperty;
+import org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty;
+import org.mule.runtime.extension.internal.property.PagedOperationModelProperty;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -60,6 +63,9 @@ public final class ModelPropertyMapTypeAdapter extends TypeAdapter<Map<Class<? e
     classNameMapping.put(TypeResolversInformationModelProperty.class, TypeResolversInformationModelProperty.NAME);
     classNameMapping.put(RequiredForMetadataModelProperty.class, RequiredForMetadataModelProperty.NAME);
     classNameMapping.put(SinceMuleVersionModelProperty.class, SinceMuleVersionModelProperty.NAME);
+    classNameMapping.put(BatchEmissionModelProperty.class, BatchEmissionModelProperty.NAME);
+    classNameMapping.put(VirtualThreadCompatibleModelProperty.class, VirtualThreadCompatibleModelProperty.NAME);
+    classNameMapping.put(PagedOperationModelProperty.class, PagedOperationModelProperty.NAME);
 
     nameClassMapping = new HashMap<>();
     nameClassMapping.put(OAuthModelProperty.NAME, OAuthModelProperty.class);
@@ -67,6 +73,9 @@ public final class ModelPropertyMapTypeAdapter extends TypeAdapter<Map<Class<? e
     nameClassMapping.put(TypeResolversInformationModelProperty.NAME, TypeResolversInformationModelProperty.class);
     nameClassMapping.put(RequiredForMetadataModelProperty.NAME, RequiredForMetadataModelProperty.class);
     nameClassMapping.put(SinceMuleVersionModelProperty.NAME, SinceMuleVersionModelProperty.class);
+    nameClassMapping.put(BatchEmissionModelProperty.NAME, BatchEmissionModelProperty.class);
+    nameClassMapping.put(VirtualThreadCompatibleModelProperty.NAME, VirtualThreadCompatibleModelProperty.class);
+    nameClassMapping.put(PagedOperationModelProperty.NAME, PagedOperationModelProperty.class);
   }
 
   private final Gson gson;
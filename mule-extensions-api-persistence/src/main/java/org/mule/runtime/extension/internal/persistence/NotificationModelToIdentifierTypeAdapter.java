@@ -13,8 +13,8 @@ import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.meta.model.notification.NotificationModel;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
@@ -29,10 +29,21 @@ import com.google.gson.stream.JsonWriter;
  */
 public class NotificationModelToIdentifierTypeAdapter extends TypeAdapter<NotificationModel> {
 
-  private Map<String, NotificationModel> notificationModelRepository = new HashMap<>();
+  private final Supplier<Map<String, NotificationModel>> notificationModelRepository;
 
   public NotificationModelToIdentifierTypeAdapter(Map<String, NotificationModel> notificationModelMap) {
-    notificationModelRepository = notificationModelMap;
+    this(() -> notificationModelMap);
+  }
+
+  /**
+   * Creates a new instance which resolves the identifiers against the repository provided by the given supplier each time a
+   * value is read.
+   *
+   * @param notificationModelRepository supplies the repository of already known {@link NotificationModel}s
+   * @since 1.8
+   */
+  public NotificationModelToIdentifierTypeAdapter(Supplier<Map<String, NotificationModel>> notificationModelRepository) {
+    this.notificationModelRepository = notificationModelRepository;
   }
 
   @Override
@@ -42,6 +53,6 @@ public class NotificationModelToIdentifierTypeAdapter extends TypeAdapter<Notifi
 
   @Override
   public NotificationModel read(JsonReader in) throws IOException {
-    return deserialize(in.nextString(), notificationModelRepository);
+    return deserialize(in.nextString(), notificationModelRepository.get());
   }
 }
@@ -30,7 +30,7 @@ public class SubTypesModelTypeAdapter extends TypeAdapter<SubTypesModel> {
 
   public static final String SUB_TYPES = "subTypes";
   private static final String BASE_TYPE = "baseType";
-  private final MetadataTypeGsonTypeAdapter typeAdapter;
+  private final TypeAdapter<MetadataType> typeAdapter;
 
   /**
    * Creates a new instance which handles type references through the given {@code referenceHandler}
@@ -38,7 +38,17 @@ public class SubTypesModelTypeAdapter extends TypeAdapter<SubTypesModel> {
    * @param referenceHandler an {@link ObjectTypeReferenceHandler}
    */
   public SubTypesModelTypeAdapter(ObjectTypeReferenceHandler referenceHandler) {
-    typeAdapter = new MetadataTypeGsonTypeAdapter(referenceHandler);
+    this(new MetadataTypeGsonTypeAdapter(referenceHandler));
+  }
+
+  /**
+   * Creates a new instance which handles the {@link MetadataType}s through the given {@code typeAdapter}
+   *
+   * @param typeAdapter a {@link TypeAdapter} for {@link MetadataType}s
+   * @since 1.8
+   */
+  public SubTypesModelTypeAdapter(TypeAdapter<MetadataType> typeAdapter) {
+    this.typeAdapter = typeAdapter;
   }
 
   @Override
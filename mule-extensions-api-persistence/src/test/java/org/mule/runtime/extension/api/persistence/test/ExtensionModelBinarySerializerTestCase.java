@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence.test;
+
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonCodec.read;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelBinarySerializer;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+public class ExtensionModelBinarySerializerTestCase extends BasePersistenceTestCase {
+
+  private final ExtensionModelBinarySerializer binarySerializer = new ExtensionModelBinarySerializer();
+  private final ExtensionModelJsonSerializer jsonSerializer = new ExtensionModelJsonSerializer();
+
+  @Test
+  public void roundTrip() throws Exception {
+    ExtensionModel extensionModel = binarySerializer.deserialize(binarySerializer.serialize(originalExtensionModel));
+
+    assertThat(extensionModel instanceof ImmutableExtensionModel, is(true));
+    JSONAssert.assertEquals(jsonSerializer.serialize(deserializedExtensionModel), jsonSerializer.serialize(extensionModel), true);
+  }
+
+  @Test
+  public void listRoundTrip() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    binarySerializer.serializeList(extensionModelList, out);
+
+    List<ExtensionModel> extensionModels = binarySerializer.deserializeList(new ByteArrayInputStream(out.toByteArray()));
+    JSONAssert.assertEquals(jsonSerializer.serializeList(extensionModelList), jsonSerializer.serializeList(extensionModels),
+                            false);
+  }
+
+  @Test
+  public void readsSameTreeAsJson() {
+    byte[] serialized = binarySerializer.serialize(originalExtensionModel);
+
+    assertThat(read(new ByteArrayInputStream(serialized)),
+               is(new JsonParser().parse(jsonSerializer.serialize(originalExtensionModel))));
+  }
+
+  @Test
+  public void smallerThanJson() {
+    int jsonSize = jsonSerializer.serialize(originalExtensionModel).getBytes(UTF_8).length;
+
+    assertThat(binarySerializer.serialize(originalExtensionModel).length, lessThan(jsonSize));
+  }
+
+  @Test(expected = JsonSyntaxException.class)
+  public void invalidContent() {
+    binarySerializer.deserialize(jsonSerializer.serialize(originalExtensionModel).getBytes(UTF_8));
+  }
+
+  @Test(expected = JsonSyntaxException.class)
+  public void truncatedContent() {
+    byte[] serialized = binarySerializer.serialize(originalExtensionModel);
+    binarySerializer.deserialize(copyOf(serialized, serialized.length / 2));
+  }
+
+  @Test(expected = JsonSyntaxException.class)
+  public void corruptStringLengthIsNotAllocated() {
+    // an object whose first member name claims to be Integer.MAX_VALUE bytes long
+    binarySerializer.deserialize(new byte[] {'M', 'E', 'M', 'B', 2, 8, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 7});
+  }
+}
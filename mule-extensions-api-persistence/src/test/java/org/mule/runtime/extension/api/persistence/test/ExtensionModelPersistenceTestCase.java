@@ -7,11 +7,28 @@
 package org.mule.runtime.extension.api.persistence.test;
 
 import static org.mule.metadata.java.api.utils.JavaTypeUtils.getType;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.api.meta.model.ComponentVisibility.PUBLIC;
+import static org.mule.runtime.api.meta.model.operation.ExecutionType.CPU_LITE;
+import static org.mule.runtime.api.util.JavaConstants.JAVA_VERSION_8;
+import static org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty.COMPATIBLE;
+import static org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty.NOT_COMPATIBLE;
+import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.PROCESSOR;
+import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.of;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
@@ -23,7 +40,12 @@ import org.mule.metadata.api.model.ArrayType;
 import org.mule.metadata.api.model.MetadataType;
 import org.mule.metadata.api.model.ObjectType;
 import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.ImportedTypeModel;
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.api.meta.model.XmlDslModel;
 import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
@@ -32,19 +54,35 @@ import org.mule.runtime.extension.api.declaration.type.annotation.ParameterDslAn
 import org.mule.runtime.extension.api.test.dsl.model.ComplexFieldsType;
 import org.mule.runtime.extension.api.test.dsl.model.ExtensibleType;
 import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
+import org.mule.runtime.extension.api.model.ImmutableOutputModel;
 import org.mule.runtime.extension.api.model.connection.ImmutableConnectionProviderModel;
-
+import org.mule.runtime.extension.api.model.function.ImmutableFunctionModel;
+import org.mule.runtime.extension.api.model.operation.ImmutableOperationModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+import org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty;
+import org.mule.runtime.extension.internal.property.PagedOperationModelProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
 
 import org.apache.commons.io.IOUtils;
 
 import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
 
 public class ExtensionModelPersistenceTestCase extends BasePersistenceTestCase {
 
@@ -180,6 +218,264 @@ public class ExtensionModelPersistenceTestCase extends BasePersistenceTestCase {
     assertThat(deserializedConnectionProvider.getMinMuleVersion(), is(originalConnectionProvider.getMinMuleVersion()));
   }
 
+  @Test
+  public void streamedSerializationMatchesStringSerialization() throws Exception {
+    StringWriter writer = new StringWriter();
+    extensionModelJsonSerializer.serialize(originalExtensionModel, writer);
+
+    assertThat(writer.toString(), equalTo(extensionModelJsonSerializer.serialize(originalExtensionModel)));
+  }
+
+  @Test
+  public void streamedListRoundTrip() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    extensionModelJsonSerializer.serializeList(extensionModelList, out);
+
+    List<ExtensionModel> deserialized =
+        extensionModelJsonSerializer.deserializeList(new ByteArrayInputStream(out.toByteArray()));
+    assertThat(deserialized.size(), is(extensionModelList.size()));
+    JSONAssert.assertEquals(extensionModelJsonSerializer.serializeList(extensionModelList),
+                            extensionModelJsonSerializer.serializeList(deserialized), false);
+  }
+
+  @Test
+  public void concurrentSerializationsWithSharedSerializer() throws Exception {
+    final String expected = extensionModelJsonSerializer.serialize(originalExtensionModel);
+
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> extensionModelJsonSerializer
+            .serialize(extensionModelJsonSerializer.deserialize(expected))));
+      }
+
+      for (Future<String> result : results) {
+        JSONAssert.assertEquals(expected, result.get(), true);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void deduplicatedDeserializationSharesEqualValues() throws Exception {
+    final String serialized = extensionModelJsonSerializer.serialize(originalExtensionModel);
+    final ExtensionModelJsonSerializer deduplicatingSerializer = new ExtensionModelJsonSerializer(false, true);
+
+    ExtensionModel first = deduplicatingSerializer.deserialize(serialized);
+    ExtensionModel second = deduplicatingSerializer.deserialize(serialized);
+
+    ParameterModel firstParameter = first.getOperationModel(GET_CAR_OPERATION_NAME).get().getAllParameterModels().get(1);
+    ParameterModel secondParameter = second.getOperationModel(GET_CAR_OPERATION_NAME).get().getAllParameterModels().get(1);
+    assertThat(secondParameter.getName(), is(sameInstance(firstParameter.getName())));
+    assertThat(secondParameter.getDescription(), is(sameInstance(firstParameter.getDescription())));
+    assertThat(second.getVendor(), is(sameInstance(first.getVendor())));
+    // types are only shared within a single deserialization
+    assertThat(secondParameter.getType(), is(equalTo(firstParameter.getType())));
+    assertThat(secondParameter.getType(), is(not(sameInstance(firstParameter.getType()))));
+
+    JSONAssert.assertEquals(serialized, extensionModelJsonSerializer.serialize(second), true);
+  }
+
+  @Test
+  public void deduplicatedDeserializationSharesEqualTypesWithinDocument() throws Exception {
+    final String serialized = extensionModelJsonSerializer.serializeList(asList(originalExtensionModel, originalExtensionModel));
+
+    List<ExtensionModel> deserialized = new ExtensionModelJsonSerializer(false, true).deserializeList(serialized);
+
+    ParameterModel firstParameter =
+        deserialized.get(0).getOperationModel(GET_CAR_OPERATION_NAME).get().getAllParameterModels().get(1);
+    ParameterModel secondParameter =
+        deserialized.get(1).getOperationModel(GET_CAR_OPERATION_NAME).get().getAllParameterModels().get(1);
+    assertThat(secondParameter.getType(), is(sameInstance(firstParameter.getType())));
+  }
+
+  @Test
+  public void deduplicatedListDeserializationMatchesRegularOne() throws Exception {
+    final String serialized = extensionModelJsonSerializer.serializeList(extensionModelList);
+
+    List<ExtensionModel> deserialized = new ExtensionModelJsonSerializer(false, true).deserializeList(serialized);
+    JSONAssert.assertEquals(serialized, extensionModelJsonSerializer.serializeList(deserialized), true);
+  }
+
+  @Test
+  public void lazyDeserializationLooksUpComponentsOnDemand() throws Exception {
+    final String serialized = extensionModelJsonSerializer.serialize(originalExtensionModel);
+    ExtensionModel lazyModel = extensionModelJsonSerializer.deserializeLazily(serialized);
+
+    OperationModel operation = lazyModel.getOperationModel(GET_CAR_OPERATION_NAME).get();
+    assertComplexParameter(operation.getAllParameterModels().stream()
+        .filter(p -> p.getName().equals(COMPLEX_PARAMETER_NAME))
+        .findFirst().get());
+    assertThat(lazyModel.getOperationModel("notAnOperation").isPresent(), is(false));
+    assertThat(lazyModel.getSourceModel(SOURCE_NAME).get().getAllParameterModels().size(), is(3));
+
+    assertThat(lazyModel.getOperationModels(), hasItem(sameInstance(operation)));
+    assertThat(lazyModel.getOperationModel(GET_CAR_OPERATION_NAME).get(), is(sameInstance(operation)));
+    assertThat(lazyModel.findComponentModel(GET_CAR_OPERATION_NAME).get(), is(sameInstance(operation)));
+    JSONAssert.assertEquals(serialized, extensionModelJsonSerializer.serialize(lazyModel), true);
+  }
+
+  @Test(expected = JsonSyntaxException.class)
+  public void lazyDeserializationSkipsComponentsUntilAccessed() {
+    JsonObject json = new JsonParser().parse(extensionModelJsonSerializer.serialize(originalExtensionModel)).getAsJsonObject();
+    json.getAsJsonArray("operations").add(42);
+    ExtensionModel lazyModel = extensionModelJsonSerializer.deserializeLazily(json.toString());
+
+    assertThat(lazyModel.getOperationModel(GET_CAR_OPERATION_NAME).isPresent(), is(true));
+    lazyModel.getOperationModels();
+  }
+
+  @Test
+  public void lazyModelEqualityIsSymmetric() {
+    final String serialized = extensionModelJsonSerializer.serialize(originalExtensionModel);
+    ExtensionModel lazyModel = extensionModelJsonSerializer.deserializeLazily(serialized);
+    ExtensionModel model = extensionModelJsonSerializer.deserialize(serialized);
+
+    assertThat(lazyModel, is(equalTo(model)));
+    assertThat(model, is(equalTo(lazyModel)));
+    assertThat(lazyModel.hashCode(), is(model.hashCode()));
+  }
+
+  @Test
+  public void lazyListDeserializationMatchesRegularOne() throws Exception {
+    final String serialized = extensionModelJsonSerializer.serializeList(extensionModelList);
+
+    List<ExtensionModel> deserialized = extensionModelJsonSerializer.deserializeListLazily(serialized);
+    assertThat(deserialized.size(), is(extensionModelList.size()));
+    JSONAssert.assertEquals(serialized, extensionModelJsonSerializer.serializeList(deserialized), true);
+  }
+
+  @Test
+  public void parallelListDeserialization() throws Exception {
+    final String serialized = extensionModelJsonSerializer.serializeList(extensionModelList);
+
+    ExecutorService executor = newFixedThreadPool(2);
+    try {
+      List<ExtensionModel> deserialized = extensionModelJsonSerializer.deserializeList(serialized, executor);
+      assertThat(deserialized.size(), is(extensionModelList.size()));
+      for (int i = 0; i < deserialized.size(); i++) {
+        assertThat(deserialized.get(i).getName(), equalTo(extensionModelList.get(i).getName()));
+      }
+      JSONAssert.assertEquals(serialized, extensionModelJsonSerializer.serializeList(deserialized), false);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void parallelListDeserializationWithSharedImportedType() throws Exception {
+    Set<ImportedTypeModel> importedTypes = singleton(new ImportedTypeModel(exportedType));
+    assertIndependentlyDeserializable(asList(extensionModelUsingExportedType("first", emptySet(), importedTypes),
+                                             extensionModelUsingExportedType("second", emptySet(), importedTypes)));
+  }
+
+  @Test
+  public void parallelListDeserializationWithTypeOfAnotherModel() throws Exception {
+    assertIndependentlyDeserializable(asList(extensionModelUsingExportedType("first", singleton(exportedType), emptySet()),
+                                             extensionModelUsingExportedType("second", emptySet(), emptySet())));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parallelListDeserializationWithoutExecutor() {
+    extensionModelJsonSerializer.deserializeList("[]", null);
+  }
+
+  @Test
+  public void parallelPagedOperationRoundTrip() {
+    OperationModel operation = operationRoundTrip(new PagedOperationModelProperty(false, true));
+
+    PagedOperationModelProperty paged = operation.getModelProperty(PagedOperationModelProperty.class).get();
+    assertThat(paged.isPrefetching(), is(true));
+    assertThat(paged.isParallel(), is(true));
+  }
+
+  @Test
+  public void prefetchingPagedOperationRoundTrip() {
+    OperationModel operation = operationRoundTrip(new PagedOperationModelProperty(true, false));
+
+    PagedOperationModelProperty paged = operation.getModelProperty(PagedOperationModelProperty.class).get();
+    assertThat(paged.isPrefetching(), is(true));
+    assertThat(paged.isParallel(), is(false));
+  }
+
+  @Test
+  public void pagedOperationWithoutPrefetchingIsNotSerialized() {
+    OperationModel operation = operationRoundTrip(new PagedOperationModelProperty());
+
+    assertThat(operation.getModelProperty(PagedOperationModelProperty.class).isPresent(), is(false));
+  }
+
+  @Test
+  public void virtualThreadCompatibleOperationRoundTrip() {
+    OperationModel operation = operationRoundTrip(COMPATIBLE);
+
+    assertThat(operation.getModelProperty(VirtualThreadCompatibleModelProperty.class).get().isCompatible(), is(true));
+  }
+
+  @Test
+  public void virtualThreadNotCompatibleOperationRoundTrip() {
+    OperationModel operation = operationRoundTrip(NOT_COMPATIBLE);
+
+    assertThat(operation.getModelProperty(VirtualThreadCompatibleModelProperty.class).get().isCompatible(), is(false));
+  }
+
+  /**
+   * Serializes and deserializes an extension with a single operation that has the given {@code modelProperty}.
+   *
+   * @return the deserialized operation
+   */
+  private OperationModel operationRoundTrip(ModelProperty modelProperty) {
+    OperationModel operation =
+        new ImmutableOperationModel("list", "Lists things", emptyList(), emptyList(),
+                                    new ImmutableOutputModel("Payload", stringType, false, emptySet()),
+                                    new ImmutableOutputModel("Attributes", stringType, false, emptySet()),
+                                    true, CPU_LITE, false, false, false, defaultDisplayModel, emptySet(), PROCESSOR, PUBLIC,
+                                    singleton(modelProperty), emptySet(), null);
+
+    ExtensionModel extensionModel =
+        new ImmutableExtensionModel("roundTrip", "Test extension", "4.0.0", "MuleSoft", COMMUNITY,
+                                    emptyList(), singletonList(operation), emptyList(), emptyList(), emptyList(), emptyList(),
+                                    defaultDisplayModel, XmlDslModel.builder().build(), emptySet(), emptySet(), emptySet(),
+                                    emptySet(), emptySet(), emptySet(), emptySet(), emptySet(), emptySet(), emptySet(),
+                                    null, null, null, singleton(JAVA_VERSION_8));
+
+    String serialized = extensionModelJsonSerializer.serialize(extensionModel);
+    return extensionModelJsonSerializer.deserialize(serialized).getOperationModel("list").get();
+  }
+
+  private void assertIndependentlyDeserializable(List<ExtensionModel> extensionModels) throws Exception {
+    final String serialized = extensionModelJsonSerializer.serializeList(extensionModels);
+
+    ExecutorService executor = newFixedThreadPool(2);
+    try {
+      List<ExtensionModel> deserialized = extensionModelJsonSerializer.deserializeList(serialized, executor);
+      for (int i = 0; i < deserialized.size(); i++) {
+        ExtensionModel extensionModel = deserialized.get(i);
+        assertThat(extensionModel.getImportedTypes().size(), is(extensionModels.get(i).getImportedTypes().size()));
+        assertThat(getId(extensionModel.getFunctionModels().get(0).getOutput().getType()),
+                   equalTo(of(TEST_PACKAGE_EXPORTED_CLASS)));
+      }
+      JSONAssert.assertEquals(serialized, extensionModelJsonSerializer.serializeList(deserialized), true);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private ExtensionModel extensionModelUsingExportedType(String name, Set<ObjectType> types,
+                                                         Set<ImportedTypeModel> importedTypes) {
+    FunctionModel function = new ImmutableFunctionModel("exportedTypeFunction", "Returns the exported type", emptyList(),
+                                                        new ImmutableOutputModel("Payload", exportedType, false, emptySet()),
+                                                        DisplayModel.builder().build(), emptySet(), null);
+
+    return new ImmutableExtensionModel(name, "Test extension", "4.0.0", "MuleSoft", COMMUNITY,
+                                       emptyList(), emptyList(), emptyList(), emptyList(), singletonList(function), emptyList(),
+                                       defaultDisplayModel, XmlDslModel.builder().build(), emptySet(), types, emptySet(),
+                                       importedTypes, emptySet(), emptySet(), emptySet(), emptySet(), emptySet(), emptySet(),
+                                       null, null, null, singleton(JAVA_VERSION_8));
+  }
+
   private Set<String> getExtensionTypeIds(JsonObject jsonExtensionModel) {
     final JsonArray typesArray = jsonExtensionModel.getAsJsonArray("types");
     Set<String> typesSet = new HashSet<>();
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.write;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionModelCache;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+import org.mule.runtime.extension.api.persistence.FileSystemExtensionModelCache;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+public class FileSystemExtensionModelCacheTestCase extends BasePersistenceTestCase {
+
+  private static final String KEY = "0a1b2c3d4e5f";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ExtensionModelCache cache;
+
+  @Before
+  public void createCache() {
+    cache = new FileSystemExtensionModelCache(temporaryFolder.getRoot().toPath().resolve("cache"));
+  }
+
+  @Test
+  public void missOnEmptyCache() {
+    assertThat(cache.get(KEY).isPresent(), is(false));
+  }
+
+  @Test
+  public void hitAfterPut() throws Exception {
+    cache.put(KEY, originalExtensionModel);
+
+    Optional<ExtensionModel> cached = cache.get(KEY);
+    assertThat(cached.isPresent(), is(true));
+
+    ExtensionModelJsonSerializer serializer = new ExtensionModelJsonSerializer();
+    JSONAssert.assertEquals(serializer.serialize(deserializedExtensionModel), serializer.serialize(cached.get()), false);
+  }
+
+  @Test
+  public void entriesSurviveCacheInstances() {
+    cache.put(KEY, originalExtensionModel);
+
+    ExtensionModelCache otherCache = new FileSystemExtensionModelCache(temporaryFolder.getRoot().toPath().resolve("cache"));
+    assertThat(otherCache.get(KEY).map(ExtensionModel::getName), equalTo(Optional.of(originalExtensionModel.getName())));
+  }
+
+  @Test
+  public void unversionedEntriesAreNotRead() throws Exception {
+    Path directory = temporaryFolder.getRoot().toPath().resolve("cache");
+    createDirectories(directory);
+    write(directory.resolve(KEY + ".json"), new ExtensionModelJsonSerializer().serialize(originalExtensionModel).getBytes(UTF_8));
+
+    assertThat(cache.get(KEY).isPresent(), is(false));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidKey() {
+    cache.get("../outside");
+  }
+}
@@ -25,6 +25,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 import org.mule.metadata.api.ClassTypeLoader;
@@ -33,8 +34,10 @@ import org.mule.metadata.json.api.JsonTypeLoader;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.ParameterDslConfiguration;
 import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
 import org.mule.runtime.api.meta.model.display.DisplayModel;
 import org.mule.runtime.api.meta.model.display.LayoutModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.extension.api.declaration.type.DefaultExtensionsTypeLoaderFactory;
@@ -124,6 +127,29 @@ public class LoadAndSerializeXmlExtensionModelsTestCase {
     JSONAssert.assertEquals(external, serializedResult, true);
   }
 
+  @Test
+  public void lazyDeserializeExternalModelConfigurationComponents() throws IOException {
+    String external = IOUtils.toString(this.getClass().getResourceAsStream(XML_BASED_EXT_MODEL_JSON));
+    ConfigurationModel eagerConfiguration =
+        extensionModelJsonSerializer.deserialize(external).getConfigurationModel("config").get();
+    ExtensionModel lazyModel = extensionModelJsonSerializer.deserializeLazily(external);
+
+    ConfigurationModel configuration = lazyModel.getConfigurationModel("config").get();
+    assertThat(configuration, is(equalTo(eagerConfiguration)));
+    assertThat(eagerConfiguration, is(equalTo(configuration)));
+    OperationModel operation = configuration.getOperationModel("get-issues").get();
+    OperationModel eagerOperation = eagerConfiguration.getOperationModel("get-issues").get();
+    assertThat(operation.getName(), equalTo(eagerOperation.getName()));
+    assertThat(operation.getAllParameterModels(), hasSize(eagerOperation.getAllParameterModels().size()));
+    assertThat(configuration.getOperationModel("notAnOperation").isPresent(), is(false));
+    assertThat(configuration.getConnectionProviderModel("connection").isPresent(), is(true));
+
+    assertThat(configuration.getOperationModels(), hasSize(1));
+    assertThat(configuration.getOperationModels().get(0), is(sameInstance(operation)));
+    assertThat(lazyModel.findComponentModel("get-issues").get(), is(sameInstance(operation)));
+    JSONAssert.assertEquals(external, extensionModelJsonSerializer.serialize(lazyModel), true);
+  }
+
   @Test
   public void deserializeExternalModelWithNonExistentModelProperty() throws IOException {
     String external = IOUtils.toString(this.getClass().getResourceAsStream(XML_BASED_EXT_MODEL_NON_EXISTENT_MODEL_PROPERTY_JSON));
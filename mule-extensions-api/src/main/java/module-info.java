@@ -36,6 +36,8 @@ module org.mule.runtime.extensions.api {
   requires java.compiler;
   // Required for using java.beans.Introspector.
   requires java.desktop;
+  // Required for measuring the time and allocations of the stages of the extension model loading.
+  requires java.management;
 
   requires com.google.common;
   requires com.sun.xml.bind;
@@ -144,6 +146,8 @@ module org.mule.runtime.extensions.api {
       org.mule.runtime.extensions.api.test;
 
   exports org.mule.runtime.extension.internal.property to
+      org.mule.runtime.extensions.api.persistence,
+      org.mule.runtime.extensions.api.persistence.test,
       org.mule.runtime.extensions.api.test;
 
   exports org.mule.runtime.extension.internal.semantic to
@@ -182,6 +186,8 @@ module org.mule.runtime.extensions.api {
       com.google.gson;
   opens org.mule.runtime.extension.api.values to
       com.google.gson;
+  opens org.mule.runtime.extension.internal.property to
+      com.google.gson;
   opens org.mule.runtime.extension.internal.util to
       com.google.gson;
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.annotation.execution;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import org.mule.runtime.api.meta.model.operation.ExecutionType;
+import org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty;
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates whether the annotated component can be executed on virtual threads. That is, whether its
+ * {@link ExecutionType#BLOCKING blocking} work never pins the carrier thread, which happens when blocking inside
+ * {@code synchronized} blocks or native frames.
+ * <p>
+ * Runtimes which support virtual threads dispatch the compatible components to them, instead of to a bounded pool of IO
+ * threads. Components not using this annotation are considered not compatible.
+ * <p>
+ * This annotation can be used on operation methods and source classes, and on the extension class to apply to all of its
+ * blocking operations and sources. Components of such an extension can opt out with {@code @VirtualThreadCompatible(false)}.
+ *
+ * @see VirtualThreadCompatibleModelProperty
+ * @since 1.8
+ */
+@MinMuleVersion("4.8.0")
+@Target({METHOD, TYPE})
+@Retention(RUNTIME)
+@Documented
+public @interface VirtualThreadCompatible {
+
+  /**
+   * @return whether the annotated component can be executed on virtual threads
+   */
+  boolean value() default true;
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.annotation.source;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import org.mule.runtime.extension.api.property.BatchEmissionModelProperty;
+import org.mule.runtime.extension.api.runtime.source.Source;
+import org.mule.runtime.extension.api.runtime.source.SourceCallback;
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+
+/**
+ * Indicates that the annotated {@link Source} pushes its messages in batches, through {@link SourceCallback#handleBatch(List)}.
+ * <p>
+ * Sources using this annotation get a {@link BatchEmissionModelProperty} on their model, so that the runtime can get ready to
+ * dispatch whole batches. Same as {@link EmitsResponse}, this is a declaration of intent: it's each source's responsibility to
+ * actually use the batch methods.
+ *
+ * @since 1.8
+ */
+@MinMuleVersion("4.8.0")
+@Target(TYPE)
+@Retention(RUNTIME)
+@Documented
+public @interface EmitsBatches {
+
+}
@@ -10,6 +10,7 @@ import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import org.mule.runtime.extension.api.runtime.source.BackPressureContext;
+import org.mule.runtime.extension.api.runtime.source.BatchBackPressureContext;
 import org.mule.runtime.extension.api.runtime.source.Source;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
@@ -21,7 +22,9 @@ import java.lang.annotation.Target;
  * Used to indicate that an annotated method in a {@link Source} should be executed when the runtime applies back pressure on a
  * message generated by the owning source.
  * <p>
- * The annotated method can either be argument-less or receive a {@link BackPressureContext}
+ * The annotated method can either be argument-less or receive a {@link BackPressureContext}. Sources which {@link EmitsBatches
+ * emit batches} may instead receive a {@link BatchBackPressureContext}, which notifies about all the rejected messages of a batch
+ * at once.
  *
  * @since 1.1
  */
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.api.client;
 
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
 import org.mule.api.annotation.Experimental;
 import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.api.exception.MuleException;
@@ -16,8 +18,10 @@ import org.mule.runtime.extension.api.client.source.SourceParameterizer;
 import org.mule.runtime.extension.api.client.source.SourceResultHandler;
 import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.runtime.extension.api.runtime.source.Source;
+import org.mule.runtime.extension.internal.client.BoundedBatchExecution;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -81,6 +85,33 @@ public interface ExtensionsClient {
                                                  String operation,
                                                  Consumer<OperationParameterizer> parameters);
 
+  /**
+   * Executes a batch of operations asynchronously, keeping no more than {@code maxConcurrency} of them in flight at any time.
+   * Each of the {@code invocations} is executed as {@link #execute(String, String, Consumer)} would.
+   * <p>
+   * Components which fan out many operation executions should prefer this method over invoking
+   * {@link #execute(String, String, Consumer)} for each of them on their own thread pools. Besides bounding the concurrency, the
+   * client is free to pipeline invocations which share a configuration onto the same connection.
+   * <p>
+   * Invocations are started in the order they are given, but may complete in any order. The failure of any of them doesn't
+   * prevent the rest from being executed.
+   *
+   * @param invocations    the {@link OperationInvocation}s to execute
+   * @param maxConcurrency the maximum amount of invocations to have in flight at any time. Must be greater than zero
+   * @param <T>            The generic type of the results' payload
+   * @param <A>            The generic type of the results' attribute
+   * @return a {@link CompletableFuture} for the {@link Result} of each of the {@code invocations}, in the same order
+   * @throws IllegalArgumentException if {@code invocations} is {@code null} or {@code maxConcurrency} is not positive
+   * @since 1.8
+   */
+  @MinMuleVersion("4.8.0")
+  default <T, A> List<CompletableFuture<Result<T, A>>> executeAll(List<OperationInvocation> invocations, int maxConcurrency) {
+    checkArgument(invocations != null, "invocations cannot be null");
+    checkArgument(maxConcurrency > 0, "maxConcurrency must be greater than zero");
+
+    return BoundedBatchExecution.execute(this, invocations, maxConcurrency);
+  }
+
   /**
    * Creates and initialises a {@link Source} using a given parameterization.
    * <p>
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.client;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An invocation of an operation to be executed as part of a batch through {@link ExtensionsClient#executeAll(List, int)}.
+ * <p>
+ * Holds the same arguments as {@link ExtensionsClient#execute(String, String, Consumer)} does.
+ *
+ * @since 1.8
+ */
+@MinMuleVersion("4.8.0")
+public final class OperationInvocation {
+
+  private final String extension;
+  private final String operation;
+  private final Consumer<OperationParameterizer> parameters;
+
+  /**
+   * Creates a new instance
+   *
+   * @param extension  the name of the extension that contains the operation to be executed.
+   * @param operation  the name of the operation to be executed.
+   * @param parameters consumes an {@link OperationParameterizer} used to configure the operation
+   * @return a new {@link OperationInvocation}
+   * @throws IllegalArgumentException if any of the arguments is {@code null}
+   */
+  public static OperationInvocation of(String extension, String operation, Consumer<OperationParameterizer> parameters) {
+    return new OperationInvocation(extension, operation, parameters);
+  }
+
+  private OperationInvocation(String extension, String operation, Consumer<OperationParameterizer> parameters) {
+    checkArgument(extension != null, "extension cannot be null");
+    checkArgument(operation != null, "operation cannot be null");
+    checkArgument(parameters != null, "parameters cannot be null");
+
+    this.extension = extension;
+    this.operation = operation;
+    this.parameters = parameters;
+  }
+
+  /**
+   * @return the name of the extension that contains the operation to be executed.
+   */
+  public String getExtension() {
+    return extension;
+  }
+
+  /**
+   * @return the name of the operation to be executed.
+   */
+  public String getOperation() {
+    return operation;
+  }
+
+  /**
+   * @return the {@link Consumer} of the {@link OperationParameterizer} used to configure the operation
+   */
+  public Consumer<OperationParameterizer> getParameters() {
+    return parameters;
+  }
+
+  @Override
+  public String toString() {
+    return "OperationInvocation{" +
+        "extension='" + extension + '\'' +
+        ", operation='" + operation + '\'' +
+        '}';
+  }
+}
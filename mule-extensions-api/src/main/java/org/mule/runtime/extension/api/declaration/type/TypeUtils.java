@@ -30,14 +30,14 @@ import org.mule.runtime.extension.api.annotation.param.display.Placement;
 import org.mule.runtime.extension.api.annotation.param.display.Summary;
 import org.mule.runtime.extension.api.annotation.param.display.Text;
 import org.mule.runtime.extension.api.exception.IllegalParameterModelDefinitionException;
+import org.mule.runtime.extension.internal.loader.util.ClassIntrospectionCache;
 import org.mule.runtime.extension.internal.loader.util.JavaParserUtils;
 import org.mule.sdk.api.annotation.semantics.file.FilePath;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -60,9 +60,7 @@ public final class TypeUtils {
    * @return a {@link Collection} of {@link Field fields}. May be empty but will never be {@code null}
    */
   public static Collection<Field> getParameterFields(Class<?> declaringType) {
-    return getAllFields(declaringType).stream()
-        .filter(field -> isParameter(field) || isParameterGroup(field))
-        .collect(toList());
+    return new ArrayList<>(ClassIntrospectionCache.getParameterFields(declaringType));
   }
 
   /**
@@ -74,9 +72,7 @@ public final class TypeUtils {
    * @return a {@link Collection} of {@link Field fields}. May be empty but will never be {@code null}
    */
   public static Collection<Field> getAllFields(Class<?> declaringType) {
-    return getAllSuperClasses(declaringType).stream()
-        .flatMap(type -> Stream.of(type.getDeclaredFields()))
-        .collect(toList());
+    return new ArrayList<>(ClassIntrospectionCache.getAllFields(declaringType));
   }
 
   /**
@@ -86,13 +82,7 @@ public final class TypeUtils {
    * @return all the type's super classes
    */
   public static Collection<Class<?>> getAllSuperClasses(final Class<?> type) {
-    List<Class<?>> result = new LinkedList<>();
-    if (type != null && !type.equals(Object.class)) {
-      result.add(type);
-      result.addAll(getAllSuperClasses(type.getSuperclass()));
-    }
-
-    return result;
+    return new ArrayList<>(ClassIntrospectionCache.getAllSuperClasses(type));
   }
 
   /**
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.dsl.syntax.resolver;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.extension.api.dsl.syntax.DslElementSyntax;
+
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * A {@link DslSyntaxResolver} which memoizes the {@link DslElementSyntax} resolved by a delegate resolver for each component,
+ * parameter, type and parameter group.
+ * <p>
+ * Results are keyed by the identity of the resolved element, so an instance must only be used with the elements of the
+ * {@link ExtensionModel} the delegate was created for. Instances are thread-safe, even if the delegate is not: resolutions which
+ * are not yet cached are performed one at a time.
+ * <p>
+ * Instances are owned by whoever creates them, and are meant to be kept for as long as that {@link ExtensionModel} is in use.
+ * No instance is retained globally, so discarding the resolver along with the model doesn't leave anything referencing the
+ * model nor its {@link org.mule.runtime.api.dsl.DslResolvingContext}.
+ *
+ * @since 1.8
+ */
+public final class CachingDslSyntaxResolver implements DslSyntaxResolver {
+
+  private final DslSyntaxResolver delegate;
+  private final Cache<NamedObject, DslElementSyntax> components = newBuilder().weakKeys().build();
+  private final Cache<ParameterModel, DslElementSyntax> parameters = newBuilder().weakKeys().build();
+  private final Cache<MetadataType, Optional<DslElementSyntax>> types = newBuilder().weakKeys().build();
+  private final Cache<ParameterGroupModel, DslElementSyntax> inlineGroups = newBuilder().weakKeys().build();
+
+  /**
+   * Creates a new instance
+   *
+   * @param delegate the {@link DslSyntaxResolver} which performs the actual resolutions
+   */
+  public CachingDslSyntaxResolver(DslSyntaxResolver delegate) {
+    checkArgument(delegate != null, "delegate cannot be null");
+    this.delegate = delegate;
+  }
+
+  @Override
+  public DslElementSyntax resolve(NamedObject component) {
+    return components.get(component, c -> {
+      synchronized (delegate) {
+        return delegate.resolve(c);
+      }
+    });
+  }
+
+  @Override
+  public DslElementSyntax resolve(ParameterModel parameter) {
+    return parameters.get(parameter, p -> {
+      synchronized (delegate) {
+        return delegate.resolve(p);
+      }
+    });
+  }
+
+  @Override
+  public Optional<DslElementSyntax> resolve(MetadataType type) {
+    return types.get(type, t -> {
+      synchronized (delegate) {
+        return delegate.resolve(t);
+      }
+    });
+  }
+
+  @Override
+  public DslElementSyntax resolveInline(ParameterGroupModel group) {
+    return inlineGroups.get(group, g -> {
+      synchronized (delegate) {
+        return delegate.resolveInline(g);
+      }
+    });
+  }
+}
@@ -89,4 +89,23 @@ public interface DslSyntaxResolver {
     return new XmlDslSyntaxResolver(model, importTypesStrategy);
   }
 
+  /**
+   * Creates a thread-safe instance of the default implementation which memoizes its results.
+   * <p>
+   * Each invocation returns a new instance, which is owned by the caller: it is meant to be kept and reused for as long as the
+   * {@code model} is in use, so that the resolutions it performs are shared, and discarded along with the {@code model}.
+   *
+   * @param model   the {@link ExtensionModel} that provides context for resolving the component's {@link DslElementSyntax}
+   * @param context the {@link DslResolvingContext} in which the Dsl resolution takes place
+   * @throws IllegalArgumentException if the {@link ExtensionModel} declares an imported type from an {@link ExtensionModel} not
+   *                                  present in the provided {@link DslResolvingContext} or if the imported
+   *                                  {@link ExtensionModel} doesn't have any {@link ImportedTypeModel}
+   * @return a caching {@link DslSyntaxResolver}
+   * @see CachingDslSyntaxResolver
+   * @since 1.8
+   */
+  static DslSyntaxResolver getCaching(ExtensionModel model, DslResolvingContext context) {
+    return new CachingDslSyntaxResolver(getDefault(model, context));
+  }
+
 }
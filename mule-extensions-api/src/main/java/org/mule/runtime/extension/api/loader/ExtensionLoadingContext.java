@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Used for propagating state across all the components that take part into loading an {@link ExtensionModel}.
@@ -139,4 +140,21 @@ public interface ExtensionLoadingContext {
   default Optional<ArtifactCoordinates> getArtifactCoordinates() {
     return Optional.empty();
   }
+
+  /**
+   * @return the {@link Executor} on which {@link ExtensionModelValidator validators} are to be run in parallel. If empty,
+   *         validation is performed sequentially.
+   * @since 1.8
+   */
+  default Optional<Executor> getValidationExecutor() {
+    return Optional.empty();
+  }
+
+  /**
+   * @return the {@link ExtensionModelLoadingListener} to notify about the stages performed while building the model, if any.
+   * @since 1.8
+   */
+  default Optional<ExtensionModelLoadingListener> getLoadingListener() {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+
+import java.util.Optional;
+
+/**
+ * A cache of already built {@link ExtensionModel}s which an {@link ExtensionModelLoader} can use to avoid building the same
+ * model again.
+ * <p>
+ * Entries are addressed by a key which the {@link ExtensionModelLoader} computes from the contents of the extension artifact and
+ * the parameters of the {@link ExtensionModelLoadingRequest}, so two requests get the same key only if they would produce the
+ * same model. Models obtained from the cache are not validated again.
+ * <p>
+ * Implementations must be thread-safe and should never fail the loading of an extension: any problem accessing the underlying
+ * storage is to be treated as a cache miss.
+ *
+ * @since 1.8
+ */
+public interface ExtensionModelCache {
+
+  /**
+   * @param key the key under which the model was stored
+   * @return the {@link ExtensionModel} stored under the given {@code key}, or {@link Optional#empty()} if there is none.
+   */
+  Optional<ExtensionModel> get(String key);
+
+  /**
+   * Stores the given {@code extensionModel} under the given {@code key}
+   *
+   * @param key            the key under which the model is to be stored
+   * @param extensionModel the model to store
+   */
+  void put(String key, ExtensionModel extensionModel);
+}
@@ -9,6 +9,7 @@ package org.mule.runtime.extension.api.loader;
 
 import static org.mule.runtime.extension.api.loader.ExtensionLoadingContext.EXTENSION_LOADER_PROPERTY_PREFIX;
 import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelCacheKeyResolver.resolveCacheKey;
 
 import static java.lang.Thread.currentThread;
 
@@ -22,6 +23,7 @@ import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext
 import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
 
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Loader of an {@link ExtensionModel} for a Mule plugin artifact from a set of attributes read by the {@link MulePluginModel}.
@@ -95,13 +97,40 @@ public abstract class ExtensionModelLoader {
    * extra ones. The {@link #configureContextBeforeDeclaration(ExtensionLoadingContext)} allows to add custom configurations into
    * the context before the declaration begins.
    *
+   * <p>
+   * If the {@code request} is {@link ExtensionModelLoadingRequest#isPublicModelOnly() public model only} and has an
+   * {@link ExtensionModelCache}, the model is first looked up in it and only built if not found, in which case it is stored in
+   * the cache afterwards. A model obtained from the cache may not be equivalent to a built one: depending on the cache, only its
+   * public model properties may be present, and it is neither validated again nor are its problems reported.
+   *
    * @param request a {@link ExtensionModelLoadingRequest} which configures the loading operation
    * @return an {@link ExtensionModel} that represents the plugin being described
    * @throws IllegalArgumentException if there are missing entries in {@code attributes} or their type does not match the expected
    *                                  one.
    */
   public final ExtensionModel loadExtensionModel(ExtensionModelLoadingRequest request) {
-    return loadExtensionModel(new ExtensionDeclarer(), request);
+    DefaultExtensionLoadingContext ctx = new DefaultExtensionLoadingContext(new ExtensionDeclarer(), request);
+    configureContextBeforeDeclaration(ctx);
+
+    ExtensionModelCache cache = request.getExtensionModelCache();
+    if (cache == null || !request.isPublicModelOnly()) {
+      return create(ctx);
+    }
+
+    // the key is computed once the context is configured, so that everything added to it is taken into account
+    Optional<String> cacheKey = resolveCacheKey(this, factory, ctx);
+    if (!cacheKey.isPresent()) {
+      return create(ctx);
+    }
+
+    Optional<ExtensionModel> cached = cache.get(cacheKey.get());
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    ExtensionModel extensionModel = create(ctx);
+    cache.put(cacheKey.get(), extensionModel);
+    return extensionModel;
   }
 
   /**
@@ -127,8 +156,12 @@ public abstract class ExtensionModelLoader {
     ExtensionLoadingContext ctx = new DefaultExtensionLoadingContext(extensionDeclarer, request);
     configureContextBeforeDeclaration(ctx);
 
+    return create(ctx);
+  }
+
+  private ExtensionModel create(ExtensionLoadingContext ctx) {
     ClassLoader currentClassLoader = currentThread().getContextClassLoader();
-    currentThread().setContextClassLoader(request.getExtensionClassLoader());
+    currentThread().setContextClassLoader(ctx.getExtensionClassLoader());
     try {
       return doCreate(ctx);
     } finally {
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclaration;
+
+/**
+ * Receives notifications about the stages performed while turning an {@link ExtensionDeclaration} into an
+ * {@link ExtensionModel}, along with {@link ExtensionModelLoadingStatistics statistics} about how costly each of them was.
+ * <p>
+ * Useful to find out which {@link DeclarationEnricher} or {@link ExtensionModelValidator} is responsible for a slow loading, or
+ * to feed those measures into a metrics system. All methods are no-ops by default, so implementations only need to override the
+ * ones they are interested in.
+ * <p>
+ * All notifications are delivered on the thread that loads the extension, even when the validations are performed in parallel,
+ * so implementations need not be thread-safe unless they are shared by concurrent loadings.
+ *
+ * @since 1.8
+ */
+public interface ExtensionModelLoadingListener {
+
+  /**
+   * Invoked once the given {@code enricher} has been applied.
+   * <p>
+   * For {@link WalkingDeclarationEnricher walking enrichers}, this is invoked after the walk in which their delegate took part,
+   * and the statistics only account for the time spent on that delegate. In that case,
+   * {@link ExtensionModelLoadingStatistics#getItemsCount()} is the amount of declarations the delegate was notified of.
+   *
+   * @param enricher   the applied {@link DeclarationEnricher}
+   * @param statistics the statistics of the enrichment
+   */
+  default void onEnricherApplied(DeclarationEnricher enricher, ExtensionModelLoadingStatistics statistics) {}
+
+  /**
+   * Invoked once a walk over the {@link ExtensionDeclaration} has been performed, applying all the
+   * {@link WalkingDeclarationEnricher walking enrichers} of the given {@code phase}.
+   * <p>
+   * {@link ExtensionModelLoadingStatistics#getItemsCount()} is the amount of declarations visited during the walk.
+   *
+   * @param phase      the {@link DeclarationEnricherPhase} the walk belongs to
+   * @param statistics the statistics of the walk
+   */
+  default void onDeclarationWalked(DeclarationEnricherPhase phase, ExtensionModelLoadingStatistics statistics) {}
+
+  /**
+   * Invoked once all the enrichers of the given {@code phase} have been applied. Phases without enrichers are not notified.
+   * <p>
+   * {@link ExtensionModelLoadingStatistics#getItemsCount()} is the amount of enrichers applied in the phase.
+   *
+   * @param phase      the completed {@link DeclarationEnricherPhase}
+   * @param statistics the statistics of the whole phase
+   */
+  default void onEnricherPhaseCompleted(DeclarationEnricherPhase phase, ExtensionModelLoadingStatistics statistics) {}
+
+  /**
+   * Invoked once the given {@code validator} has been applied.
+   * <p>
+   * {@link ExtensionModelLoadingStatistics#getItemsCount()} is the amount of errors and warnings the validator reported.
+   *
+   * @param validator  the applied {@link ExtensionModelValidator}
+   * @param statistics the statistics of the validation
+   */
+  default void onValidatorApplied(ExtensionModelValidator validator, ExtensionModelLoadingStatistics statistics) {}
+}
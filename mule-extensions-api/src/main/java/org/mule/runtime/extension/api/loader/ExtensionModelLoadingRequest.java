@@ -7,6 +7,7 @@
 package org.mule.runtime.extension.api.loader;
 
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.api.util.Preconditions.checkState;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
@@ -19,6 +20,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Parameterizes the loading of one specific {@link ExtensionModel}
@@ -132,10 +134,88 @@ public final class ExtensionModelLoadingRequest {
       return this;
     }
 
+    /**
+     * Sets an {@link Executor} on which the {@link ExtensionModelValidator validators} are to be run in parallel.
+     * <p>
+     * Validators are still reported in a deterministic order, regardless of the order in which they finish. If not set,
+     * validation is performed sequentially on the calling thread.
+     *
+     * @param validationExecutor the {@link Executor} to validate on
+     * @return {@code this} builder
+     * @throws IllegalArgumentException if the validationExecutor is {@code null}
+     * @since 1.8
+     */
+    public Builder setValidationExecutor(Executor validationExecutor) {
+      checkArgument(validationExecutor != null, "validationExecutor cannot be null");
+      product.validationExecutor = validationExecutor;
+
+      return this;
+    }
+
+    /**
+     * Sets an {@link ExtensionModelCache} in which to look for the model before building it, and in which to store it once built.
+     * <p>
+     * Cached models are not necessarily equivalent to built ones: depending on the cache, they may only retain the
+     * {@link org.mule.runtime.api.meta.model.ModelProperty#isPublic() public} model properties, and they are not validated
+     * again. Because of that, a cache can only be set on requests which are {@link #setPublicModelOnly(boolean) public model
+     * only}.
+     * <p>
+     * Caching only applies to requests for which a content based key can be computed. That requires, among others, the extension
+     * {@link ClassLoader} to be backed by jar files and the custom parameters to be of simple types.
+     *
+     * @param extensionModelCache the cache to use
+     * @return {@code this} builder
+     * @throws IllegalArgumentException if the extensionModelCache is {@code null}
+     * @since 1.8
+     */
+    public Builder setExtensionModelCache(ExtensionModelCache extensionModelCache) {
+      checkArgument(extensionModelCache != null, "extensionModelCache cannot be null");
+      product.extensionModelCache = extensionModelCache;
+
+      return this;
+    }
+
+    /**
+     * Indicates that the caller only needs the public shape of the model (as tooling, or DSL and metadata resolution do), and
+     * not to execute its components. This allows the model to be obtained from an {@link ExtensionModelCache}, in which case
+     * non public model properties may be missing, and no validation is performed, so the problems of the extension are not
+     * reported.
+     *
+     * @param publicModelOnly whether the caller only needs the public shape of the model
+     * @return {@code this} builder
+     * @since 1.8
+     */
+    public Builder setPublicModelOnly(boolean publicModelOnly) {
+      product.publicModelOnly = publicModelOnly;
+
+      return this;
+    }
+
+    /**
+     * Sets an {@link ExtensionModelLoadingListener} to be notified about the time and resources each {@link DeclarationEnricher}
+     * and {@link ExtensionModelValidator} takes while building the model.
+     * <p>
+     * When not set, no measures are taken at all.
+     *
+     * @param loadingListener the listener to notify
+     * @return {@code this} builder
+     * @throws IllegalArgumentException if the loadingListener is {@code null}
+     * @since 1.8
+     */
+    public Builder setLoadingListener(ExtensionModelLoadingListener loadingListener) {
+      checkArgument(loadingListener != null, "loadingListener cannot be null");
+      product.loadingListener = loadingListener;
+
+      return this;
+    }
+
     /**
      * @return The built request
+     * @throws IllegalStateException if an {@link ExtensionModelCache} was set on a request which is not public model only
      */
     public ExtensionModelLoadingRequest build() {
+      checkState(product.extensionModelCache == null || product.publicModelOnly,
+                 "An extensionModelCache can only be used by publicModelOnly requests");
       return product;
     }
   }
@@ -157,6 +237,10 @@ public final class ExtensionModelLoadingRequest {
   private ArtifactCoordinates artifactCoordinates;
   private boolean ocsEnabled;
   private boolean forceExtensionValidation;
+  private Executor validationExecutor;
+  private ExtensionModelCache extensionModelCache;
+  private boolean publicModelOnly;
+  private ExtensionModelLoadingListener loadingListener;
 
   private ExtensionModelLoadingRequest(ClassLoader extensionClassLoader, DslResolvingContext dslResolvingContext) {
     checkArgument(extensionClassLoader != null, "extension classLoader cannot be null");
@@ -195,6 +279,39 @@ public final class ExtensionModelLoadingRequest {
     return forceExtensionValidation;
   }
 
+  /**
+   * @return the {@link Executor} on which to run validations in parallel, or {@code null} if validation is sequential.
+   * @since 1.8
+   */
+  public Executor getValidationExecutor() {
+    return validationExecutor;
+  }
+
+  /**
+   * @return the {@link ExtensionModelCache} to use for this request, or {@code null} if the model is to be always built.
+   * @since 1.8
+   */
+  public ExtensionModelCache getExtensionModelCache() {
+    return extensionModelCache;
+  }
+
+  /**
+   * @return whether the caller only needs the public shape of the model, so it may be obtained from an
+   *         {@link ExtensionModelCache}
+   * @since 1.8
+   */
+  public boolean isPublicModelOnly() {
+    return publicModelOnly;
+  }
+
+  /**
+   * @return the {@link ExtensionModelLoadingListener} to notify while building the model, or {@code null} if none.
+   * @since 1.8
+   */
+  public ExtensionModelLoadingListener getLoadingListener() {
+    return loadingListener;
+  }
+
   /**
    * @return an unmodifiable list of custom validators added to the ones applied by default.
    */
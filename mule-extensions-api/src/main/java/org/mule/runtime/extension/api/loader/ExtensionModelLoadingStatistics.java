@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import static java.lang.String.format;
+
+/**
+ * Measures taken on one of the stages notified to an {@link ExtensionModelLoadingListener}.
+ *
+ * @since 1.8
+ */
+public final class ExtensionModelLoadingStatistics {
+
+  /**
+   * Value of the measures that could not be taken.
+   */
+  public static final long UNKNOWN = -1;
+
+  private final String extensionName;
+  private final long elapsedNanos;
+  private final long allocatedBytes;
+  private final long itemsCount;
+
+  /**
+   * Creates a new instance
+   *
+   * @param extensionName  the name of the extension being loaded
+   * @param elapsedNanos   the wall time the stage took, in nanoseconds
+   * @param allocatedBytes the estimated amount of bytes allocated by the stage, or {@link #UNKNOWN}
+   * @param itemsCount     the amount of items processed by the stage, or {@link #UNKNOWN}
+   */
+  public ExtensionModelLoadingStatistics(String extensionName, long elapsedNanos, long allocatedBytes, long itemsCount) {
+    this.extensionName = extensionName;
+    this.elapsedNanos = elapsedNanos;
+    this.allocatedBytes = allocatedBytes;
+    this.itemsCount = itemsCount;
+  }
+
+  /**
+   * @return the name of the extension being loaded
+   */
+  public String getExtensionName() {
+    return extensionName;
+  }
+
+  /**
+   * @return the wall time the stage took, in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * The estimate is based on the bytes allocated by the thread performing the stage, so it also accounts for any other work that
+   * thread did in the meantime.
+   *
+   * @return the estimated amount of bytes allocated by the stage, or {@link #UNKNOWN} if the JVM cannot measure it
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /**
+   * What is counted depends on the stage. See {@link ExtensionModelLoadingListener} for details.
+   *
+   * @return the amount of items processed by the stage, or {@link #UNKNOWN} if not applicable
+   */
+  public long getItemsCount() {
+    return itemsCount;
+  }
+
+  @Override
+  public String toString() {
+    return format("ExtensionModelLoadingStatistics{extension=%s, elapsedNanos=%d, allocatedBytes=%d, itemsCount=%d}",
+                  extensionName, elapsedNanos, allocatedBytes, itemsCount);
+  }
+}
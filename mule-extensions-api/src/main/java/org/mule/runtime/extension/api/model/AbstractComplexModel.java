@@ -9,7 +9,9 @@ package org.mule.runtime.extension.api.model;
 import static com.google.common.collect.ImmutableList.copyOf;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 
 import org.mule.runtime.api.meta.DescribedObject;
@@ -31,7 +33,9 @@ import com.google.common.collect.Multiset;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -50,6 +54,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
   private final List<SourceModel> messageSources;
   private final DeprecationModel deprecationModel;
 
+  // Lazily built, since models may also be instantiated by reflection (i.e.: when deserialized)
+  private transient volatile Map<String, OperationModel> operationsByName;
+  private transient volatile Map<String, ConnectionProviderModel> connectionProvidersByName;
+  private transient volatile Map<String, SourceModel> messageSourcesByName;
+
   public AbstractComplexModel(String name,
                               String description,
                               List<OperationModel> operationModels,
@@ -102,7 +111,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<SourceModel> getSourceModel(String name) {
-    return findModel(messageSources, name);
+    Map<String, SourceModel> index = messageSourcesByName;
+    if (index == null) {
+      messageSourcesByName = index = indexByName(messageSources);
+    }
+    return ofNullable(index.get(name));
   }
 
   /**
@@ -110,7 +123,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<ConnectionProviderModel> getConnectionProviderModel(String name) {
-    return findModel(connectionProviders, name);
+    Map<String, ConnectionProviderModel> index = connectionProvidersByName;
+    if (index == null) {
+      connectionProvidersByName = index = indexByName(connectionProviders);
+    }
+    return ofNullable(index.get(name));
   }
 
   /**
@@ -118,7 +135,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<OperationModel> getOperationModel(String name) {
-    return findModel(operations, name);
+    Map<String, OperationModel> index = operationsByName;
+    if (index == null) {
+      operationsByName = index = indexByName(operations);
+    }
+    return ofNullable(index.get(name));
   }
 
   /**
@@ -141,6 +162,28 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
     return values.stream().filter(v -> v.getName().equals(name)).findFirst();
   }
 
+  /**
+   * Creates an index of the {@code values} by their name, meant to be used for the lookups which would otherwise be resolved
+   * through {@link #findModel(Collection, String)}. As with that method, if many items share a name the first one is the one
+   * indexed.
+   *
+   * @param values a {@link Collection} of {@link NamedObject} items
+   * @param <T>    the generic type of the {@code values} items
+   * @return an unmodifiable {@link Map} with the {@code values} by their name
+   * @since 1.8
+   */
+  protected <T extends NamedObject> Map<String, T> indexByName(Collection<T> values) {
+    if (values == null || values.isEmpty()) {
+      return emptyMap();
+    }
+
+    Map<String, T> index = new HashMap<>(values.size() * 4 / 3 + 1);
+    for (T value : values) {
+      index.putIfAbsent(value.getName(), value);
+    }
+    return unmodifiableMap(index);
+  }
+
   protected <T extends DescribedObject> List<T> toList(Collection<T> collection) {
     if (collection == null || collection.isEmpty()) {
       return emptyList();
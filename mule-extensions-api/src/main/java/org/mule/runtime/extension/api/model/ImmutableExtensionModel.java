@@ -41,6 +41,7 @@ import org.mule.runtime.api.meta.model.source.SourceModel;
 import org.mule.runtime.extension.api.exception.IllegalModelDefinitionException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -71,6 +72,10 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
   private final MuleVersion minMuleVersion;
   private final Set<String> supportedJavaVersions;
 
+  private transient volatile Map<String, ConfigurationModel> configurationsByName;
+  private transient volatile Map<String, ConstructModel> constructsByName;
+  private transient volatile Map<String, FunctionModel> functionsByName;
+
   /**
    * Creates a new instance with the given state
    *
@@ -416,7 +421,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
    */
   @Override
   public Optional<ConfigurationModel> getConfigurationModel(String name) {
-    return findModel(configurations, name);
+    Map<String, ConfigurationModel> index = configurationsByName;
+    if (index == null) {
+      configurationsByName = index = indexByName(configurations);
+    }
+    return ofNullable(index.get(name));
   }
 
   @Override
@@ -426,7 +435,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
 
   @Override
   public Optional<ConstructModel> getConstructModel(String name) {
-    return constructModels.stream().filter(c -> c.getName().equals(name)).findFirst();
+    Map<String, ConstructModel> index = constructsByName;
+    if (index == null) {
+      constructsByName = index = indexByName(constructModels);
+    }
+    return ofNullable(index.get(name));
   }
 
   /**
@@ -443,7 +456,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
    */
   @Override
   public Optional<FunctionModel> getFunctionModel(String name) {
-    return findModel(functions, name);
+    Map<String, FunctionModel> index = functionsByName;
+    if (index == null) {
+      functionsByName = index = indexByName(functions);
+    }
+    return ofNullable(index.get(name));
   }
 
 
@@ -567,7 +584,7 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
       return component;
     }
 
-    for (ConfigurationModel configurationModel : configurations) {
+    for (ConfigurationModel configurationModel : getConfigurationModels()) {
       component = doFindComponentModel(configurationModel, componentName);
       if (component.isPresent()) {
         break;
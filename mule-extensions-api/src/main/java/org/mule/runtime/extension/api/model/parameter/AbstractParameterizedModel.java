@@ -7,15 +7,23 @@
 package org.mule.runtime.extension.api.model.parameter;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Optional.ofNullable;
+
 import org.mule.runtime.api.meta.model.ModelProperty;
 import org.mule.runtime.api.meta.model.display.DisplayModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
 import org.mule.runtime.extension.api.model.AbstractNamedImmutableModel;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -27,6 +35,10 @@ public abstract class AbstractParameterizedModel extends AbstractNamedImmutableM
 
   private List<ParameterGroupModel> parameterGroupModels;
 
+  // Lazily built, since models may also be instantiated by reflection (i.e.: when deserialized)
+  private transient volatile List<ParameterModel> allParameterModels;
+  private transient volatile Map<String, ParameterModel> parameterModelsByName;
+
   /**
    * Creates a new instance
    *
@@ -54,6 +66,68 @@ public abstract class AbstractParameterizedModel extends AbstractNamedImmutableM
     return parameterGroupModels;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The flattened list is computed only once, so repeated invocations don't generate any garbage.
+   * <p>
+   * Unlike in previous versions, the returned list is shared among all the invocations and is unmodifiable. Callers which need
+   * to modify it have to copy it first.
+   *
+   * @return an unmodifiable {@link List} with all the {@link ParameterModel parameters}, in the order of their groups
+   */
+  @Override
+  public List<ParameterModel> getAllParameterModels() {
+    List<ParameterModel> parameters = allParameterModels;
+    if (parameters == null) {
+      allParameterModels = parameters = flattenParameterModels();
+    }
+    return parameters;
+  }
+
+  /**
+   * Looks for a {@link ParameterModel} of the given {@code name} in any of the {@link #getParameterGroupModels() parameter
+   * groups}. If more than one group contains a parameter with that name, the one in the first group is returned.
+   * <p>
+   * The lookup is backed by an index which is built the first time this method is invoked.
+   *
+   * @param name the name of the parameter
+   * @return an {@link Optional} {@link ParameterModel}
+   * @since 1.8
+   */
+  public Optional<ParameterModel> getParameterModel(String name) {
+    Map<String, ParameterModel> index = parameterModelsByName;
+    if (index == null) {
+      parameterModelsByName = index = indexParameterModels(getAllParameterModels());
+    }
+    return ofNullable(index.get(name));
+  }
+
+  private List<ParameterModel> flattenParameterModels() {
+    List<ParameterGroupModel> groups = getParameterGroupModels();
+    if (groups.isEmpty()) {
+      return emptyList();
+    }
+
+    List<ParameterModel> parameters = new ArrayList<>();
+    for (ParameterGroupModel group : groups) {
+      parameters.addAll(group.getParameterModels());
+    }
+    return parameters.isEmpty() ? emptyList() : unmodifiableList(parameters);
+  }
+
+  private Map<String, ParameterModel> indexParameterModels(List<ParameterModel> parameters) {
+    if (parameters.isEmpty()) {
+      return emptyMap();
+    }
+
+    Map<String, ParameterModel> index = new HashMap<>(parameters.size() * 4 / 3 + 1);
+    for (ParameterModel parameter : parameters) {
+      index.putIfAbsent(parameter.getName(), parameter);
+    }
+    return unmodifiableMap(index);
+  }
+
   @Override
   public String toString() {
     return "AbstractParameterizedModel{" +
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.property;
+
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.extension.api.annotation.source.EmitsBatches;
+import org.mule.runtime.extension.api.runtime.source.SourceCallback;
+
+import java.util.List;
+
+/**
+ * Marker {@link ModelProperty} meant to be applied on {@link SourceModel} instances. Signals that the source pushes its messages
+ * in batches, through {@link SourceCallback#handleBatch(List)}.
+ * <p>
+ * This class is stateless, whenever possible use {@link #INSTANCE} instead of creating new instances for memory efficiency.
+ *
+ * @see EmitsBatches
+ * @since 1.8
+ */
+public class BatchEmissionModelProperty implements ModelProperty {
+
+  public static final String NAME = "batchEmission";
+
+  public static final BatchEmissionModelProperty INSTANCE = new BatchEmissionModelProperty();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isPublic() {
+    return true;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o != null && getClass() == o.getClass();
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -46,4 +46,20 @@ public class InfrastructureParameterModelProperty implements ModelProperty {
   public int getSequence() {
     return sequence;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return sequence == ((InfrastructureParameterModelProperty) o).sequence;
+  }
+
+  @Override
+  public int hashCode() {
+    return sequence;
+  }
 }
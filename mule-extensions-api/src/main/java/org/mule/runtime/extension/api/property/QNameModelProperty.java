@@ -56,4 +56,23 @@ public final class QNameModelProperty implements ModelProperty {
   public boolean isPublic() {
     return true;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    // QName#equals ignores the prefix, which is relevant for the DSL
+    QName value = getValue();
+    QName thatValue = ((QNameModelProperty) o).getValue();
+    return value.equals(thatValue) && value.getPrefix().equals(thatValue.getPrefix());
+  }
+
+  @Override
+  public int hashCode() {
+    return getValue().hashCode();
+  }
 }
@@ -51,6 +51,20 @@ public class SinceMuleVersionModelProperty implements ModelProperty {
   public boolean isPublic() {
     return true;
   }
-}
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return version.toString().equals(((SinceMuleVersionModelProperty) o).version.toString());
+  }
 
+  @Override
+  public int hashCode() {
+    return version.toString().hashCode();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.property;
+
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.extension.api.annotation.execution.VirtualThreadCompatible;
+
+/**
+ * {@link ModelProperty} which indicates whether the owning {@link OperationModel} or {@link SourceModel} can be executed on
+ * virtual threads, meaning that its blocking work never pins the carrier thread.
+ * <p>
+ * When applied on an {@link org.mule.runtime.api.meta.model.ExtensionModel}, it applies to all of its blocking operations and
+ * sources which don't carry one of their own.
+ *
+ * @see VirtualThreadCompatible
+ * @since 1.8
+ */
+public class VirtualThreadCompatibleModelProperty implements ModelProperty {
+
+  public static final String NAME = "virtualThreadCompatible";
+
+  /**
+   * Instance for the components which are compatible with virtual threads
+   */
+  public static final VirtualThreadCompatibleModelProperty COMPATIBLE = new VirtualThreadCompatibleModelProperty(true);
+
+  /**
+   * Instance for the components which are not compatible with virtual threads
+   */
+  public static final VirtualThreadCompatibleModelProperty NOT_COMPATIBLE = new VirtualThreadCompatibleModelProperty(false);
+
+  private final boolean compatible;
+
+  /**
+   * @param annotation a {@link VirtualThreadCompatible} annotation
+   * @return the instance matching the given {@code annotation}
+   */
+  public static VirtualThreadCompatibleModelProperty of(VirtualThreadCompatible annotation) {
+    return annotation.value() ? COMPATIBLE : NOT_COMPATIBLE;
+  }
+
+  /**
+   * Creates a new instance. Whenever possible, use {@link #COMPATIBLE} or {@link #NOT_COMPATIBLE} instead.
+   *
+   * @param compatible whether the owning component can be executed on virtual threads
+   */
+  public VirtualThreadCompatibleModelProperty(boolean compatible) {
+    this.compatible = compatible;
+  }
+
+  /**
+   * @return whether the owning component can be executed on virtual threads
+   */
+  public boolean isCompatible() {
+    return compatible;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isPublic() {
+    return true;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return compatible == ((VirtualThreadCompatibleModelProperty) o).compatible;
+  }
+
+  @Override
+  public int hashCode() {
+    return Boolean.hashCode(compatible);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.runtime.source;
+
+import org.mule.api.annotation.NoImplement;
+import org.mule.runtime.api.event.Event;
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.List;
+
+/**
+ * Provides information about how the runtime applied back pressure on the {@link #getEvents() events} of a batch emitted through
+ * {@link SourceCallback#handleBatch(List)}.
+ * <p>
+ * The {@link #getEvents() events} and the {@link #getSourceCallbackContexts() contexts} are positionally related: the context at
+ * a given index is the one the event at that same index was pushed with.
+ *
+ * @since 1.8
+ */
+@MinMuleVersion("4.8.0")
+@NoImplement
+public interface BatchBackPressureContext {
+
+  /**
+   * @return the {@link BackPressureAction} that was applied
+   */
+  BackPressureAction getAction();
+
+  /**
+   * @return The rejected {@link Event}s
+   */
+  List<Event> getEvents();
+
+  /**
+   * @return the {@link SourceCallbackContext}s used when pushing each of the rejected messages down the flow
+   */
+  List<SourceCallbackContext> getSourceCallbackContexts();
+}
@@ -6,13 +6,18 @@
  */
 package org.mule.runtime.extension.api.runtime.source;
 
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
 import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -31,7 +36,8 @@ import java.util.function.Consumer;
 public interface PollContext<T, A> {
 
   /**
-   * The possible outcomes of submiting an item for processing through the {@link #accept(Consumer)} method
+   * The possible outcomes of submiting an item for processing through the {@link #accept(Consumer)} or
+   * {@link #acceptAll(Collection)} methods
    */
   enum PollItemStatus {
 
@@ -65,6 +71,32 @@ public interface PollContext<T, A> {
    */
   PollItemStatus accept(Consumer<PollItem<T, A>> consumer);
 
+  /**
+   * Submits many items to be processed. The runtime will supply a {@link PollItem} to each of the {@code consumers}, same as
+   * {@link #accept(Consumer)} does.
+   * <p>
+   * Sources which obtain many items on each poll should prefer this method over invoking {@link #accept(Consumer)} for each of
+   * them, since the runtime can then do the watermark and idempotency bookkeeping of the whole batch at once, instead of
+   * accessing its object stores for each item.
+   * <p>
+   * Runtimes which don't support batches submit each of the items through {@link #accept(Consumer)}.
+   *
+   * @param consumers a {@link Consumer} of a {@link PollItem} for each of the items
+   * @return the {@link PollItemStatus} of each of the items, in the iteration order of the {@code consumers}
+   * @throws IllegalArgumentException if the {@code consumers} are {@code null}
+   * @since 1.8
+   */
+  @MinMuleVersion("4.8.0")
+  default List<PollItemStatus> acceptAll(Collection<Consumer<PollItem<T, A>>> consumers) {
+    checkArgument(consumers != null, "consumers cannot be null");
+
+    List<PollItemStatus> statuses = new ArrayList<>(consumers.size());
+    for (Consumer<PollItem<T, A>> consumer : consumers) {
+      statuses.add(accept(consumer));
+    }
+    return statuses;
+  }
+
   /**
    * The current watermark value at the moment of starting the poll. If watermarking is disabled or this is the first execution,
    * the value will be {@link Optional#empty()}
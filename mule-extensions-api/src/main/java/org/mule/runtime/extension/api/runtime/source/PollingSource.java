@@ -11,6 +11,7 @@ import org.mule.runtime.api.message.Message;
 import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
+import java.util.Collection;
 import java.util.function.Consumer;
 
 /**
@@ -68,7 +69,8 @@ public abstract class PollingSource<T, A> extends Source<T, A> {
 
   /**
    * This method is responsible for obtaining the items to be dispatched and communicate them through the {@code pollContext}
-   * using the {@link PollContext#accept(Consumer)} method.
+   * using the {@link PollContext#accept(Consumer)} method, or the {@link PollContext#acceptAll(Collection)} one when many items
+   * are obtained at once.
    * <p>
    * See the {@link PollContext} documentation for more information on how to use it and the options available
    *
@@ -77,9 +79,9 @@ public abstract class PollingSource<T, A> extends Source<T, A> {
   public abstract void poll(PollContext<T, A> pollContext);
 
   /**
-   * If one of the items dispatched through {@link PollContext#accept(Consumer)} were rejected (either by watermarking,
-   * idempotency, server overload, etc.), this method is to be used to released any resources associated to the given
-   * {@code result}.
+   * If one of the items dispatched through {@link PollContext#accept(Consumer)} or {@link PollContext#acceptAll(Collection)}
+   * were rejected (either by watermarking, idempotency, server overload, etc.), this method is to be used to released any
+   * resources associated to the given {@code result}.
    *
    * @param result          a rejected item
    * @param callbackContext the associated {@link SourceCallbackContext}
@@ -6,19 +6,25 @@
  */
 package org.mule.runtime.extension.api.runtime.source;
 
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
 import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.extension.api.annotation.source.EmitsBatches;
+import org.mule.runtime.extension.api.annotation.source.OnBackPressure;
 import org.mule.runtime.extension.api.runtime.connectivity.Reconnectable;
 import org.mule.runtime.extension.api.runtime.connectivity.ReconnectionCallback;
 import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
+import java.util.List;
+
 /**
  * A callback to allow {@link Source} implementations to communicate generated messages back to the runtime so that they can be
  * processed.
  * <p>
  * Those messages will be represented as {@link Result} objects using the {@link #handle(Result)} or
- * {@link #handle(Result, SourceCallbackContext)} methods.
+ * {@link #handle(Result, SourceCallbackContext)} methods, or the {@link #handleBatch(List)} ones for many messages at once.
  *
  * @param <T> the generic type of the output values of the generated results
  * @param <A> the generic type of the attributes of the generated results
@@ -49,6 +55,51 @@ public interface SourceCallback<T, A> {
    */
   void handle(Result<T, A> result, SourceCallbackContext context);
 
+  /**
+   * Passes the given {@code results} back to the runtime for processing, each of them as a message of its own.
+   * <p>
+   * Sources which obtain many messages at once (such as the ones receiving from a broker in batches) should prefer this method
+   * over invoking {@link #handle(Result)} for each message, since the runtime can then amortize the dispatch and back pressure
+   * checks over the whole batch. Such sources are to be annotated with {@link EmitsBatches}. When back pressure is applied on a
+   * batch, an {@link OnBackPressure} method receiving a {@link BatchBackPressureContext} is notified once about all the rejected
+   * messages.
+   * <p>
+   * Runtimes which don't support batches handle each of the {@code results} as {@link #handle(Result)} does.
+   *
+   * @param results the {@link Result}s to process
+   * @throws IllegalArgumentException if {@code results} is {@code null}
+   * @since 1.8
+   */
+  @MinMuleVersion("4.8.0")
+  default void handleBatch(List<Result<T, A>> results) {
+    checkArgument(results != null, "results cannot be null");
+    results.forEach(this::handle);
+  }
+
+  /**
+   * Passes the given {@code results} back to the runtime for processing, each of them along with the
+   * {@link SourceCallbackContext} in the same position of the {@code contexts}. Other than that, it behaves as
+   * {@link #handleBatch(List)} does.
+   * <p>
+   * Runtimes which don't support batches handle each of the {@code results} as {@link #handle(Result, SourceCallbackContext)}
+   * does.
+   *
+   * @param results  the {@link Result}s to process
+   * @param contexts a {@link SourceCallbackContext} for each of the {@code results}, created through {@link #createContext()}
+   * @throws IllegalArgumentException if any of the arguments is {@code null} or their sizes differ
+   * @since 1.8
+   */
+  @MinMuleVersion("4.8.0")
+  default void handleBatch(List<Result<T, A>> results, List<SourceCallbackContext> contexts) {
+    checkArgument(results != null, "results cannot be null");
+    checkArgument(contexts != null, "contexts cannot be null");
+    checkArgument(results.size() == contexts.size(), "results and contexts must have the same size");
+
+    for (int i = 0; i < results.size(); i++) {
+      handle(results.get(i), contexts.get(i));
+    }
+  }
+
   /**
    * Any started {@link Source} must use this method to communicate the runtime that a {@link ConnectionException}was found trying
    * to produce messages.
@@ -14,6 +14,9 @@ import org.mule.sdk.api.annotation.MinMuleVersion;
  * Instances should not be reused. Each execution of a paging operation should return different instances.
  * <p>
  * Implementing this interface does not guarantee thread safeness.
+ * <p>
+ * Pages are fetched one at a time, once the consumer needs them. Providers can opt into having pages fetched ahead of the
+ * consumer, or many of them concurrently, by implementing {@link PrefetchingPagingProvider} or {@link ParallelPagingProvider}.
  *
  * @param <C> connection type expected to handle the operations.
  * @param <T> the type of the returned pages.
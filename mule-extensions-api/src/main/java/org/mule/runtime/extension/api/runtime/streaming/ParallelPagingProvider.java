@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.runtime.streaming;
+
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.List;
+
+/**
+ * A {@link PrefetchingPagingProvider} which knows how to fetch any page by its index (for example, because it is backed by an
+ * API which takes an offset), so that the runtime can fetch many of them concurrently.
+ * <p>
+ * The runtime fetches up to {@link #getMaxConcurrentPages()} pages at the same time through {@link #getPage(Object, int)}, and
+ * still hands them to the consumer in order. The first empty page marks the end of the data feed, so pages after it are
+ * discarded. {@link #getPage(Object)} is still to be implemented, so that pages can also be fetched sequentially by runtimes
+ * which don't support fetching them in parallel, or by code which treats instances as plain {@link PagingProvider}s.
+ * <p>
+ * Unlike plain {@link PagingProvider}s, implementations must support {@link #getPage(Object, int)} being invoked concurrently.
+ * When {@link #useStickyConnections()} is {@code true}, all the concurrent invocations use the same connection, so it must
+ * support that as well.
+ *
+ * @param <C> connection type expected to handle the operations.
+ * @param <T> the type of the returned pages.
+ * @since 1.8
+ */
+@MinMuleVersion("4.8.0")
+public interface ParallelPagingProvider<C, T> extends PrefetchingPagingProvider<C, T> {
+
+  /**
+   * Returns the page at the given {@code pageIndex}.
+   *
+   * @param connection The connection to be used to do the query.
+   * @param pageIndex  the zero based index of the page to fetch
+   * @return the page at the given {@code pageIndex}, or an empty list if there's no such page
+   */
+  List<T> getPage(C connection, int pageIndex);
+
+  /**
+   * @return the maximum amount of pages to fetch concurrently. Must be greater than zero
+   */
+  int getMaxConcurrentPages();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.runtime.streaming;
+
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+/**
+ * A paging provider which allows the runtime to fetch pages ahead of the consumer, so that the round trip of each page
+ * overlaps with the consumption of the previous ones.
+ * <p>
+ * Pages are still fetched one at a time and in order, through {@link #getPage(Object)}, but possibly on a different thread than
+ * the one consuming them. Implementations are not required to be thread safe, since the runtime never fetches two pages at the
+ * same time.
+ * <p>
+ * This interface extends the SDK {@link org.mule.sdk.api.runtime.streaming.PagingProvider}, so both providers implementing it
+ * and the ones implementing the legacy {@link PagingProvider} can opt into prefetching by implementing this interface as well.
+ * <p>
+ * Paged operations which declare this type (or a subtype of it) as their return type are advertised as prefetching on their
+ * model. Runtimes which don't support prefetching treat instances as plain paging providers.
+ *
+ * @param <C> connection type expected to handle the operations.
+ * @param <T> the type of the returned pages.
+ * @see ParallelPagingProvider
+ * @since 1.8
+ */
+@MinMuleVersion("4.8.0")
+public interface PrefetchingPagingProvider<C, T> extends org.mule.sdk.api.runtime.streaming.PagingProvider<C, T> {
+
+  /**
+   * @return the maximum amount of pages to fetch ahead of the consumer. Must be greater than zero
+   */
+  int getPrefetchDepth();
+}
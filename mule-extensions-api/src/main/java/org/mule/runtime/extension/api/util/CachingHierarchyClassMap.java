@@ -0,0 +1,258 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.util;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * A {@link HierarchyClassMap} which remembers the outcome of each hierarchical lookup, so that querying the same {@link Class}
+ * again doesn't require traversing its hierarchy and the entries of the map. Lookups which found no value are remembered too.
+ * <p>
+ * The remembered outcomes are weakly keyed by the queried classes, so they don't prevent them from being unloaded, and they
+ * are discarded each time the map is modified. In order to guarantee that, the {@link #keySet()}, {@link #values()} and
+ * {@link #entrySet()} views are unmodifiable.
+ * <p>
+ * This variant is intended for maps which are populated once and then queried many times. Like {@link HierarchyClassMap}, it
+ * is not safe to modify it concurrently with other operations, but concurrent lookups are safe once it is populated.
+ *
+ * @param <V> the generic type of the mapped values
+ * @since 1.8
+ */
+public class CachingHierarchyClassMap<V> extends HierarchyClassMap<V> {
+
+  private static final Resolution<?> NOT_FOUND = new Resolution<>(false, null);
+
+  private final LoadingCache<Class<?>, Resolution<V>> resolutions = newBuilder().weakKeys().build(this::resolve);
+
+  /**
+   * Creates a new instance which behaves like a {@link LinkedHashMap}
+   */
+  public CachingHierarchyClassMap() {
+    super();
+  }
+
+  /**
+   * Creates a new instance which wraps the given {@code delegate}, inheriting its rules.
+   * <p>
+   * The {@code delegate} is not to be modified other than through the new instance, or the outcome of its lookups will not be
+   * consistent with its contents.
+   *
+   * @param delegate a backing {@link Map} with predictable iteration order
+   */
+  public CachingHierarchyClassMap(Map<Class<?>, V> delegate) {
+    super(delegate);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public V get(Object key) {
+    return key instanceof Class ? resolutions.get((Class<?>) key).value : super.get(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof Class ? resolutions.get((Class<?>) key).found : super.containsKey(key);
+  }
+
+  @Override
+  public V put(Class<?> key, V value) {
+    try {
+      return super.put(key, value);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    try {
+      return super.remove(key);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public void putAll(Map<? extends Class<?>, ? extends V> m) {
+    try {
+      super.putAll(m);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public void clear() {
+    try {
+      super.clear();
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @return an unmodifiable view of the keys of this map
+   */
+  @Override
+  public Set<Class<?>> keySet() {
+    return unmodifiableSet(super.keySet());
+  }
+
+  /**
+   * @return an unmodifiable view of the values of this map
+   */
+  @Override
+  public Collection<V> values() {
+    return unmodifiableCollection(super.values());
+  }
+
+  /**
+   * @return an unmodifiable view of the entries of this map
+   */
+  @Override
+  public Set<Entry<Class<?>, V>> entrySet() {
+    return unmodifiableSet(super.entrySet());
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super Class<?>, ? super V, ? extends V> function) {
+    try {
+      super.replaceAll(function);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public V putIfAbsent(Class<?> key, V value) {
+    try {
+      return super.putIfAbsent(key, value);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    try {
+      return super.remove(key, value);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean replace(Class<?> key, V oldValue, V newValue) {
+    try {
+      return super.replace(key, oldValue, newValue);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public V replace(Class<?> key, V value) {
+    try {
+      return super.replace(key, value);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(Class<?> key, Function<? super Class<?>, ? extends V> mappingFunction) {
+    try {
+      return super.computeIfAbsent(key, mappingFunction);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public V computeIfPresent(Class<?> key, BiFunction<? super Class<?>, ? super V, ? extends V> remappingFunction) {
+    try {
+      return super.computeIfPresent(key, remappingFunction);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public V compute(Class<?> key, BiFunction<? super Class<?>, ? super V, ? extends V> remappingFunction) {
+    try {
+      return super.compute(key, remappingFunction);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public V merge(Class<?> key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    try {
+      return super.merge(key, value, remappingFunction);
+    } finally {
+      invalidate();
+    }
+  }
+
+  private void invalidate() {
+    resolutions.invalidateAll();
+  }
+
+  /**
+   * Searches the hierarchy of the given {@code type} once, yielding both the outcome of {@link #containsKey(Object)} and the
+   * value of {@link #get(Object)}.
+   */
+  private Resolution<V> resolve(Class<?> type) {
+    if (super.keySet().contains(type)) {
+      return new Resolution<>(true, super.get(type));
+    }
+
+    boolean found = false;
+    for (Class<?> searchKey = type; searchKey != null && !Object.class.equals(searchKey); searchKey = searchKey.getSuperclass()) {
+      for (Entry<Class<?>, V> entry : super.entrySet()) {
+        if (searchKey.isAssignableFrom(entry.getKey())) {
+          if (entry.getValue() != null) {
+            return new Resolution<>(true, entry.getValue());
+          }
+          // a key mapped to null is a match, but the search goes on for a value
+          found = true;
+        }
+      }
+    }
+
+    return found ? new Resolution<>(true, null) : (Resolution<V>) NOT_FOUND;
+  }
+
+  private static final class Resolution<V> {
+
+    private final boolean found;
+    private final V value;
+
+    private Resolution(boolean found, V value) {
+      this.found = found;
+      this.value = value;
+    }
+  }
+}
@@ -42,7 +42,8 @@ import java.util.function.Function;
  * </ul>
  * <p>
  * <h1>Performance considerations</h1> When there's an explicit mapping for a given key, the performance is the same as in the
- * backing map. When a deep search occurs, then the performance drops to O(n^n) (worst case).
+ * backing map. When a deep search occurs, then the performance drops to O(n^n) (worst case). For maps which are queried far more
+ * often than they are modified, consider using {@link CachingHierarchyClassMap}, which remembers the outcome of each search.
  * <h1>Other methods</h1> Other than {@link #get(Object)} and {@link #containsKey(Object)}, no other method has been overridden.
  * Behaviour will be that of the backing map.
  *
@@ -77,13 +78,14 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
    */
   @Override
   public V get(Object key) {
-    if (delegate.containsKey(key)) {
-      return delegate.get(key);
+    V value = delegate.get(key);
+    if (value != null || delegate.containsKey(key)) {
+      return value;
     }
 
     Class<?> searchKey = (Class<?>) key;
     while (searchKey != null && !Object.class.equals(searchKey)) {
-      V value = searchAssignableFrom(searchKey);
+      value = searchAssignableFrom(searchKey);
       if (value == null) {
         searchKey = searchKey.getSuperclass();
       } else {
@@ -11,10 +11,14 @@ import static java.lang.String.format;
 import static java.util.Collections.sort;
 import static java.util.Comparator.comparing;
 import static org.apache.commons.lang3.StringUtils.deleteWhitespace;
+import static org.apache.commons.lang3.StringUtils.containsIgnoreCase;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.removeEndIgnoreCase;
+import static org.apache.commons.lang3.StringUtils.startsWithIgnoreCase;
 import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
 import org.mule.metadata.api.annotation.TypeAliasAnnotation;
 import org.mule.metadata.api.annotation.TypeIdAnnotation;
 import org.mule.metadata.api.model.MetadataType;
@@ -47,6 +51,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
 
 /**
  * Extends {@link org.mule.runtime.api.util.NameUtils} with extensions oriented behavior
@@ -68,6 +74,30 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
   private static final List<Inflection> singular = new ArrayList<>();
   private static final List<String> uncountable = new ArrayList<>();
 
+  /**
+   * The last characters (in lower case) of the words that any {@link #plural} inflection other than the default one may match.
+   * Words ending with any other letter or digit get the default {@code s} suffix.
+   */
+  private static final String PLURAL_INFLECTED_ENDINGS = "defhmnosxyz";
+
+  /**
+   * The last characters (in lower case) of the words that any {@link #singular} inflection may match. Words ending with any
+   * other letter or digit are left untouched.
+   */
+  private static final String SINGULAR_INFLECTED_ENDINGS = "aeins";
+
+  /**
+   * The maximum amount of words for which the outcome of each inflection is remembered
+   */
+  private static final int INFLECTIONS_CACHE_SIZE = 4096;
+
+  private static final LoadingCache<String, String> pluralized =
+      newBuilder().maximumSize(INFLECTIONS_CACHE_SIZE).build(NameUtils::doPluralize);
+  private static final LoadingCache<String, String> singularized =
+      newBuilder().maximumSize(INFLECTIONS_CACHE_SIZE).build(NameUtils::doSingularize);
+  private static final LoadingCache<String, String> itemized =
+      newBuilder().maximumSize(INFLECTIONS_CACHE_SIZE).build(word -> hyphenize(word).concat("-item"));
+
   static {
     // plural is "singular to plural form"
     // singular is "plural to singular form"
@@ -170,6 +200,20 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
    * @return The pluralized word
    */
   public static String pluralize(String word) {
+    return isPluralizedByDefault(word) ? word.concat("s") : pluralized.get(word);
+  }
+
+  private static boolean isPluralizedByDefault(String word) {
+    // (matr|vert|ind)ix is the only plural inflection which is not anchored to the end of the word
+    return !word.isEmpty()
+        && !isUncountable(word)
+        && !mayBeInflected(word, PLURAL_INFLECTED_ENDINGS)
+        && !containsIgnoreCase(word, "matrix")
+        && !containsIgnoreCase(word, "vertix")
+        && !containsIgnoreCase(word, "indix");
+  }
+
+  private static String doPluralize(String word) {
     if (isUncountable(word)) {
       return word;
     } else {
@@ -189,6 +233,24 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
    * @return The singularized word
    */
   public static String singularize(String word) {
+    return isSingularizedAsIs(word) ? word : singularized.get(word);
+  }
+
+  private static boolean isSingularizedAsIs(String word) {
+    // ^(ox)en is the only singular inflection which is not anchored to the end of the word
+    return !word.isEmpty()
+        && !isUncountable(word)
+        && !mayBeInflected(word, SINGULAR_INFLECTED_ENDINGS)
+        && !startsWithIgnoreCase(word, "oxen");
+  }
+
+  private static boolean mayBeInflected(String word, String endings) {
+    char last = word.charAt(word.length() - 1);
+    // anything but a letter or a digit (such as a line terminator) may affect how the end of the word is matched
+    return !Character.isLetterOrDigit(last) || endings.indexOf(Character.toLowerCase(last)) != -1;
+  }
+
+  private static String doSingularize(String word) {
     if (isUncountable(word)) {
       return word;
     } else {
@@ -209,7 +271,7 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
    * @return The singularized word
    */
   public static String itemize(String word) {
-    return isBlank(word) ? word : hyphenize(word).concat("-item");
+    return isBlank(word) ? word : itemized.get(word);
   }
 
   /**
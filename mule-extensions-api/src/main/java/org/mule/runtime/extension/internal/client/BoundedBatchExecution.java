@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.client;
+
+import static java.lang.Math.min;
+
+import org.mule.runtime.extension.api.client.ExtensionsClient;
+import org.mule.runtime.extension.api.client.OperationInvocation;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes a batch of {@link OperationInvocation}s through an {@link ExtensionsClient}, keeping no more than a given amount of
+ * them in flight at any time.
+ * <p>
+ * No threads are used for this: each invocation is started once a previous one completes, on the thread that completed it.
+ * Invocations which complete synchronously are handled without growing the stack.
+ * <p>
+ * This class is not part of the API and should not be used by anyone (or anything) but the runtime. Backwards compatibility not
+ * guaranteed on this class.
+ *
+ * @param <T> The generic type of the results' payload
+ * @param <A> The generic type of the results' attribute
+ * @since 1.8
+ */
+public final class BoundedBatchExecution<T, A> {
+
+  private final ExtensionsClient client;
+  private final List<OperationInvocation> invocations;
+  private final List<CompletableFuture<Result<T, A>>> results;
+  private final AtomicInteger next = new AtomicInteger();
+  private final AtomicInteger pendingStarts = new AtomicInteger();
+
+  /**
+   * Starts executing the given {@code invocations}.
+   *
+   * @param client         the {@link ExtensionsClient} through which each invocation is executed
+   * @param invocations    the {@link OperationInvocation}s to execute
+   * @param maxConcurrency the maximum amount of invocations to have in flight at any time
+   * @param <T>            The generic type of the results' payload
+   * @param <A>            The generic type of the results' attribute
+   * @return a {@link CompletableFuture} for the {@link Result} of each of the {@code invocations}, in the same order
+   */
+  public static <T, A> List<CompletableFuture<Result<T, A>>> execute(ExtensionsClient client,
+                                                                     List<OperationInvocation> invocations,
+                                                                     int maxConcurrency) {
+    BoundedBatchExecution<T, A> execution = new BoundedBatchExecution<>(client, invocations);
+    for (int i = 0; i < min(maxConcurrency, invocations.size()); i++) {
+      execution.startNext();
+    }
+    return execution.results;
+  }
+
+  private BoundedBatchExecution(ExtensionsClient client, List<OperationInvocation> invocations) {
+    this.client = client;
+    this.invocations = invocations;
+    results = new ArrayList<>(invocations.size());
+    for (int i = 0; i < invocations.size(); i++) {
+      results.add(new CompletableFuture<>());
+    }
+  }
+
+  /**
+   * Starts the next invocation, if any. Calls performed while another one is starting invocations are queued and served by that
+   * one, so that synchronous completions don't recurse.
+   */
+  private void startNext() {
+    if (pendingStarts.getAndIncrement() != 0) {
+      return;
+    }
+
+    do {
+      int index = next.getAndIncrement();
+      if (index < invocations.size()) {
+        start(index);
+      }
+    } while (pendingStarts.decrementAndGet() != 0);
+  }
+
+  private void start(int index) {
+    OperationInvocation invocation = invocations.get(index);
+    CompletableFuture<Result<T, A>> result = results.get(index);
+
+    CompletableFuture<Result<T, A>> execution;
+    try {
+      execution = client.execute(invocation.getExtension(), invocation.getOperation(), invocation.getParameters());
+    } catch (Throwable t) {
+      execution = new CompletableFuture<>();
+      execution.completeExceptionally(t);
+    }
+
+    execution.whenComplete((value, error) -> {
+      if (error != null) {
+        result.completeExceptionally(error);
+      } else {
+        result.complete(value);
+      }
+      startNext();
+    });
+  }
+}
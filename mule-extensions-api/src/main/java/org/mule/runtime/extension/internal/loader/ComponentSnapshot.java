@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.newSetFromMap;
+
+import org.mule.runtime.api.meta.model.declaration.fluent.ComponentDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConfigurationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConnectedDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConnectionProviderDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConstructDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExecutableComponentDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.FunctionDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.OutputDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterGroupDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterizedDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.SourceDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithConstructsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithFunctionsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithOperationsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithSourcesDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithStereotypesDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.util.DeclarationWalker;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The structure of a {@link ParameterizedDeclaration} at a given point, used by the {@link IncrementalExtensionModelFactory} to
+ * detect the components which were modified in place after being built.
+ * <p>
+ * Besides the attributes of the declaration itself and of its parameters, the snapshot holds the declarations that own it, since
+ * some enrichers derive part of a component from its owners (for example, the {@code config-ref} parameter of an operation is
+ * derived from the configurations that hold it). Conversely, the snapshot of a configuration holds its connection providers,
+ * since the enrichment of a configuration depends on them (for example, whether it can be dynamic).
+ *
+ * @since 1.8
+ */
+final class ComponentSnapshot {
+
+  private final String name;
+  private final List<Object> structure = new ArrayList<>();
+  private final Set<Object> owners = newSetFromMap(new IdentityHashMap<>());
+  private final List<Object> connectionProviders = new ArrayList<>();
+
+  /**
+   * Takes a snapshot of each of the components and parameterized elements of the given {@code extensionDeclaration}.
+   *
+   * @param extensionDeclaration the declaration to snapshot
+   * @return the snapshots, by the declaration they were taken from
+   */
+  static Map<ParameterizedDeclaration, ComponentSnapshot> of(ExtensionDeclaration extensionDeclaration) {
+    Map<ParameterizedDeclaration, ComponentSnapshot> snapshots = new IdentityHashMap<>();
+    new DeclarationWalker() {
+
+      @Override
+      protected void onConfiguration(ConfigurationDeclaration declaration) {
+        snapshot(extensionDeclaration, declaration);
+      }
+
+      @Override
+      protected void onOperation(WithOperationsDeclaration owner, OperationDeclaration declaration) {
+        snapshot(owner, declaration);
+      }
+
+      @Override
+      protected void onFunction(WithFunctionsDeclaration owner, FunctionDeclaration declaration) {
+        snapshot(owner, declaration);
+      }
+
+      @Override
+      protected void onConstruct(WithConstructsDeclaration owner, ConstructDeclaration declaration) {
+        snapshot(owner, declaration);
+      }
+
+      @Override
+      protected void onConnectionProvider(ConnectedDeclaration owner, ConnectionProviderDeclaration declaration) {
+        snapshot(owner, declaration);
+      }
+
+      @Override
+      protected void onSource(WithSourcesDeclaration owner, SourceDeclaration declaration) {
+        snapshot(owner, declaration);
+      }
+
+      @Override
+      protected void onParameterGroup(ParameterizedDeclaration owner, ParameterGroupDeclaration declaration) {
+        // covers the parameterized elements which are not components, such as routes and source callbacks
+        snapshots.computeIfAbsent(owner, ComponentSnapshot::new);
+      }
+
+      private void snapshot(Object owner, ParameterizedDeclaration declaration) {
+        snapshots.computeIfAbsent(declaration, ComponentSnapshot::new).owners.add(owner);
+      }
+    }.walk(extensionDeclaration);
+
+    return snapshots;
+  }
+
+  private ComponentSnapshot(ParameterizedDeclaration<?> declaration) {
+    name = declaration.getName();
+    structure.add(declaration.getDescription());
+    structure.add(new HashSet<>(declaration.getModelProperties()));
+
+    if (declaration instanceof ConfigurationDeclaration) {
+      connectionProviders.addAll(((ConfigurationDeclaration) declaration).getConnectionProviders());
+    }
+
+    if (declaration instanceof WithStereotypesDeclaration) {
+      structure.add(((WithStereotypesDeclaration) declaration).getStereotype());
+    }
+
+    if (declaration instanceof ComponentDeclaration) {
+      ComponentDeclaration<?> component = (ComponentDeclaration<?>) declaration;
+      structure.add(new HashSet<>(component.getErrorModels()));
+      structure.add(new ArrayList<>(component.getNestedComponents()));
+    }
+
+    if (declaration instanceof ExecutableComponentDeclaration) {
+      ExecutableComponentDeclaration<?> executable = (ExecutableComponentDeclaration<?>) declaration;
+      structure.add(typeOf(executable.getOutput()));
+      structure.add(typeOf(executable.getOutputAttributes()));
+    }
+
+    for (ParameterGroupDeclaration group : declaration.getParameterGroups()) {
+      structure.add(group.getName());
+      structure.add(new ArrayList<>(group.getExclusiveParameters()));
+      for (ParameterDeclaration parameter : group.getParameters()) {
+        structure.add(asList(parameter.getName(), parameter.getType(), parameter.isRequired(), parameter.getDefaultValue(),
+                             parameter.getExpressionSupport(), parameter.getRole(),
+                             new ArrayList<>(parameter.getAllowedStereotypeModels()),
+                             new HashSet<>(parameter.getModelProperties())));
+      }
+    }
+  }
+
+  private Object typeOf(OutputDeclaration output) {
+    return output != null ? output.getType() : null;
+  }
+
+  /**
+   * @return the name of the declaration this snapshot was taken from
+   */
+  String getName() {
+    return name;
+  }
+
+  /**
+   * @param other a snapshot of the same declaration
+   * @return whether both snapshots have the same structure, owners and connection providers
+   */
+  boolean matches(ComponentSnapshot other) {
+    return structure.equals(other.structure) && owners.equals(other.owners)
+        && sameInstances(connectionProviders, other.connectionProviders);
+  }
+
+  private static boolean sameInstances(List<Object> some, List<Object> others) {
+    if (some.size() != others.size()) {
+      return false;
+    }
+    for (int i = 0; i < some.size(); i++) {
+      if (some.get(i) != others.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -11,6 +11,7 @@ import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest
 import static org.mule.runtime.extension.internal.ocs.PlatformManagedOAuthUtils.isPlatformManagedOAuthEnabled;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 
 import org.mule.runtime.api.artifact.ArtifactCoordinates;
@@ -18,6 +19,7 @@ import org.mule.runtime.api.dsl.DslResolvingContext;
 import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
 import org.mule.runtime.extension.api.loader.DeclarationEnricher;
 import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingListener;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
 import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
 
@@ -28,6 +30,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Default implementation of {@link ExtensionLoadingContext}. The fact that this class's attributes are immutable, doesn't mean
@@ -99,6 +102,14 @@ public final class DefaultExtensionLoadingContext implements ExtensionLoadingCon
     return ofNullable((T) customParameters.get(key));
   }
 
+  /**
+   * @return an unmodifiable view of all the custom parameters, both the ones of the request and the ones added to this context
+   * @since 1.8
+   */
+  public Map<String, Object> getParameters() {
+    return unmodifiableMap(customParameters);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -179,6 +190,22 @@ public final class DefaultExtensionLoadingContext implements ExtensionLoadingCon
     return ofNullable(request.getArtifactCoordinates());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<Executor> getValidationExecutor() {
+    return ofNullable(request.getValidationExecutor());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<ExtensionModelLoadingListener> getLoadingListener() {
+    return ofNullable(request.getLoadingListener());
+  }
+
   /**
    * {@inheritDoc}
    */
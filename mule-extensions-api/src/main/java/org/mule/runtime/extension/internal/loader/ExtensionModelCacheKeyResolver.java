@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.artifact.ArtifactCoordinates;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.ExtensionModelCache;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.slf4j.Logger;
+
+/**
+ * Computes the keys under which {@link ExtensionModel}s are stored in an {@link ExtensionModelCache}.
+ * <p>
+ * The key is a SHA-256 digest of everything that determines the outcome of loading an extension:
+ * <ul>
+ * <li>the loading pipeline: the versions and jars of this API and of the loader, and the enrichers and validators the
+ * {@link ExtensionModelFactory} applies to every extension</li>
+ * <li>the artifact coordinates and the contents of the jars the extension {@link ClassLoader} is backed by</li>
+ * <li>the custom parameters, enrichers and validators of the context, once the loader has configured it</li>
+ * <li>the extensions available in its {@link org.mule.runtime.api.dsl.DslResolvingContext}</li>
+ * </ul>
+ * When any of those cannot be reliably digested, no key is computed and the model is not cached.
+ * <p>
+ * This class is not part of the API and should not be used by anyone (or anything) but the runtime. Backwards compatibility not
+ * guaranteed on this class.
+ *
+ * @since 1.8
+ */
+public final class ExtensionModelCacheKeyResolver {
+
+  private static final Logger LOGGER = getLogger(ExtensionModelCacheKeyResolver.class);
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private static final int JAR_DIGESTS_CACHE_SIZE = 1024;
+
+  // keyed by path, size and modification time, so that strings are the only thing held and no class loader is pinned
+  private static final Cache<String, String> JAR_DIGESTS = newBuilder().maximumSize(JAR_DIGESTS_CACHE_SIZE).build();
+
+  /**
+   * @param loader  the loader that is to load the model
+   * @param factory the factory with which the {@code loader} builds the model
+   * @param context the context with which the model is to be loaded, already configured by the {@code loader}
+   * @return the key for the model produced by the given {@code loader} and {@code context}, or {@link Optional#empty()} if the
+   *         model should not be cached.
+   */
+  public static Optional<String> resolveCacheKey(ExtensionModelLoader loader, ExtensionModelFactory factory,
+                                                 DefaultExtensionLoadingContext context) {
+    ArtifactCoordinates coordinates = context.getArtifactCoordinates().orElse(null);
+    if (coordinates == null || !(context.getExtensionClassLoader() instanceof URLClassLoader)) {
+      return empty();
+    }
+
+    try {
+      MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+      digestPipeline(digest, loader, factory);
+      update(digest, loader.getId());
+      update(digest, coordinates.getGroupId());
+      update(digest, coordinates.getArtifactId());
+      update(digest, coordinates.getVersion());
+      update(digest, String.valueOf(context.isOCSEnabled()));
+
+      if (!digestJars(digest, (URLClassLoader) context.getExtensionClassLoader())
+          || !digestParameters(digest, context.getParameters())) {
+        return empty();
+      }
+
+      for (DeclarationEnricher enricher : context.getCustomDeclarationEnrichers()) {
+        update(digest, enricher.getClass().getName());
+      }
+      for (ExtensionModelValidator validator : context.getCustomValidators()) {
+        update(digest, validator.getClass().getName());
+      }
+
+      List<ExtensionModel> dependencies = new ArrayList<>(context.getDslResolvingContext().getExtensions());
+      dependencies.sort(comparing(ExtensionModel::getName));
+      for (ExtensionModel dependency : dependencies) {
+        update(digest, dependency.getName());
+        update(digest, dependency.getVersion());
+      }
+
+      return of(toHex(digest.digest()));
+    } catch (NoSuchAlgorithmException | IOException | URISyntaxException e) {
+      LOGGER.warn("Could not compute the cache key for extension '{}'. The model will not be cached.",
+                  coordinates.getArtifactId(), e);
+      return empty();
+    }
+  }
+
+  /**
+   * Digests the code that builds the model, so that models built by a different version of it are not reused.
+   */
+  private static void digestPipeline(MessageDigest digest, ExtensionModelLoader loader, ExtensionModelFactory factory)
+      throws NoSuchAlgorithmException, IOException, URISyntaxException {
+    update(digest, codeFingerprint(ExtensionModelFactory.class));
+    update(digest, loader.getClass().getName());
+    update(digest, codeFingerprint(loader.getClass()));
+
+    for (DeclarationEnricher enricher : factory.getDeclarationEnrichers()) {
+      update(digest, enricher.getClass().getName());
+    }
+    for (ExtensionModelValidator validator : factory.getExtensionModelValidators()) {
+      update(digest, validator.getClass().getName());
+    }
+  }
+
+  /**
+   * @return the implementation version of the given {@code type}'s package, along with the digest of the jar it was loaded from,
+   *         if any.
+   */
+  private static String codeFingerprint(Class<?> type) throws NoSuchAlgorithmException, IOException, URISyntaxException {
+    Package typePackage = type.getPackage();
+    String version = typePackage != null ? typePackage.getImplementationVersion() : null;
+
+    CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+    if (codeSource == null || codeSource.getLocation() == null || !"file".equals(codeSource.getLocation().getProtocol())) {
+      return String.valueOf(version);
+    }
+
+    File file = new File(codeSource.getLocation().toURI());
+    if (!file.isFile()) {
+      return String.valueOf(version);
+    }
+
+    return version + ":" + jarDigest(file);
+  }
+
+  private static boolean digestJars(MessageDigest digest, URLClassLoader classLoader)
+      throws NoSuchAlgorithmException, IOException, URISyntaxException {
+    for (URL url : classLoader.getURLs()) {
+      if (!"file".equals(url.getProtocol())) {
+        return false;
+      }
+
+      File file = new File(url.toURI());
+      if (!file.isFile()) {
+        // exploded folders may change without any trace in their path, so they cannot be reliably cached
+        return false;
+      }
+
+      update(digest, file.getName());
+      update(digest, jarDigest(file));
+    }
+
+    return true;
+  }
+
+  /**
+   * @return the digest of the contents of the given jar {@code file}. Digests are memoized by the path, size and modification
+   *         time of the file, since the same jars back most of the loadings, so a jar is only read again once it changes.
+   */
+  private static String jarDigest(File file) throws NoSuchAlgorithmException, IOException {
+    String fileKey = file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified();
+    String jarDigest = JAR_DIGESTS.getIfPresent(fileKey);
+    if (jarDigest == null) {
+      MessageDigest fileDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      try (InputStream content = Files.newInputStream(file.toPath())) {
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+          fileDigest.update(buffer, 0, read);
+        }
+      }
+      jarDigest = toHex(fileDigest.digest());
+      JAR_DIGESTS.put(fileKey, jarDigest);
+    }
+
+    return jarDigest;
+  }
+
+  private static boolean digestParameters(MessageDigest digest, Map<String, Object> parameters) {
+    for (Map.Entry<String, Object> parameter : new TreeMap<>(parameters).entrySet()) {
+      Object value = parameter.getValue();
+      String digestedValue;
+      if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Enum) {
+        digestedValue = value.toString();
+      } else if (value instanceof Class) {
+        digestedValue = ((Class<?>) value).getName();
+      } else {
+        // there's no way to tell if two arbitrary objects would affect the loading in the same way
+        return false;
+      }
+
+      update(digest, parameter.getKey());
+      update(digest, digestedValue);
+    }
+
+    return true;
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    digest.update(String.valueOf(value).getBytes(UTF_8));
+    // separator, so that consecutive values cannot be confused with each other
+    digest.update((byte) 0);
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder builder = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return builder.toString();
+  }
+
+  private ExtensionModelCacheKeyResolver() {}
+}
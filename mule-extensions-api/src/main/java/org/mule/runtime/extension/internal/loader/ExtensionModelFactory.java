@@ -18,17 +18,23 @@ import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.PROCESSO
 import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.SOURCE;
 import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
 import static org.mule.runtime.extension.api.util.NameUtils.alphaSortDescribedList;
+import static org.mule.runtime.extension.internal.loader.ImmutableModelInterner.intern;
+import static org.mule.runtime.extension.internal.loader.ImmutableModelInterner.internParameter;
+import static org.mule.runtime.extension.internal.loader.IncrementalBuild.FULL_BUILD;
 
 import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Comparator.comparing;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import static com.google.common.collect.ImmutableSet.of;
+import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.metadata.api.builder.BaseTypeBuilder;
 import org.mule.metadata.api.model.ObjectType;
@@ -37,6 +43,7 @@ import org.mule.runtime.api.meta.MuleVersion;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.ImportedTypeModel;
 import org.mule.runtime.api.meta.model.OutputModel;
+import org.mule.runtime.api.meta.model.ParameterDslConfiguration;
 import org.mule.runtime.api.meta.model.config.ConfigurationModel;
 import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
 import org.mule.runtime.api.meta.model.construct.ConstructModel;
@@ -64,6 +71,8 @@ import org.mule.runtime.api.meta.model.declaration.fluent.WithOperationsDeclarat
 import org.mule.runtime.api.meta.model.declaration.fluent.WithSourcesDeclaration;
 import org.mule.runtime.api.meta.model.declaration.fluent.util.DeclarationWalker;
 import org.mule.runtime.api.meta.model.deprecated.DeprecationModel;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.display.LayoutModel;
 import org.mule.runtime.api.meta.model.function.FunctionModel;
 import org.mule.runtime.api.meta.model.nested.NestableElementModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
@@ -79,6 +88,7 @@ import org.mule.runtime.extension.api.exception.IllegalParameterModelDefinitionE
 import org.mule.runtime.extension.api.loader.DeclarationEnricher;
 import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
 import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingStatistics;
 import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
 import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
@@ -122,6 +132,7 @@ import org.mule.runtime.extension.internal.loader.enricher.RedeliveryPolicyDecla
 import org.mule.runtime.extension.internal.loader.enricher.StreamingDeclarationEnricher;
 import org.mule.runtime.extension.internal.loader.enricher.TargetParameterDeclarationEnricher;
 import org.mule.runtime.extension.internal.loader.enricher.TransactionalDeclarationEnricher;
+import org.mule.runtime.extension.internal.loader.enricher.VirtualThreadCompatibilityDeclarationEnricher;
 import org.mule.runtime.extension.internal.loader.enricher.XmlDeclarationEnricher;
 import org.mule.runtime.extension.internal.loader.enricher.adapter.ConstructForwarderDecorator;
 import org.mule.runtime.extension.internal.loader.validator.BackPressureModelValidator;
@@ -143,17 +154,20 @@ import org.mule.runtime.extension.privileged.loader.ProblemsHandler;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.slf4j.Logger;
 
 /**
  * A factory that can take an {@link ExtensionDeclarer} and transform it into an actual {@link ExtensionModel}.
@@ -169,6 +183,16 @@ import com.google.common.util.concurrent.UncheckedExecutionException;
 public final class ExtensionModelFactory {
 
   public static final String PROBLEMS_HANDLER = "PROBLEMS_HANDLER";
+
+  /**
+   * Key under which the amount of walks performed over the {@link ExtensionDeclaration} while enriching it is registered as a
+   * parameter of the {@link ExtensionLoadingContext}.
+   *
+   * @since 1.8
+   */
+  public static final String DECLARATION_WALKS_COUNT = "DECLARATION_WALKS_COUNT";
+
+  private static final Logger LOGGER = getLogger(ExtensionModelFactory.class);
   private static final String AGGREGATORS_PACKAGE = "org.mule.extension.aggregator";
 
   private final List<DeclarationEnricher> declarationEnrichers;
@@ -182,13 +206,18 @@ public final class ExtensionModelFactory {
                                                    new ClassLoaderDeclarationEnricher(),
                                                    new ContentParameterDeclarationEnricher(),
                                                    new ExecutionTypeDeclarationEnricher(),
+                                                   // must be after the ExecutionTypeDeclarationEnricher, which resolves the
+                                                   // execution type it relies on
+                                                   new VirtualThreadCompatibilityDeclarationEnricher(),
+                                                   // must be before the ExtensionTypesDeclarationEnricher so that the type of the
+                                                   // expiration policy parameter is registered in the same walk
+                                                   new DynamicConfigDeclarationEnricher(),
                                                    new ExtensionTypesDeclarationEnricher(),
                                                    new XmlDeclarationEnricher(),
                                                    new TargetParameterDeclarationEnricher(),
                                                    new ExtensionsErrorsDeclarationEnricher(),
                                                    new ErrorMappingsParameterDeclarationEnricher(),
                                                    new ConnectionProviderDeclarationEnricher(),
-                                                   new DynamicConfigDeclarationEnricher(),
                                                    new ReconnectionStrategyDeclarationEnricher(),
                                                    new StreamingDeclarationEnricher(),
                                                    new OAuthDeclarationEnricher(),
@@ -221,6 +250,20 @@ public final class ExtensionModelFactory {
     testingMode = isTestingMode();
   }
 
+  /**
+   * @return the {@link DeclarationEnricher}s applied to every extension, on top of the custom ones of each context
+   */
+  List<DeclarationEnricher> getDeclarationEnrichers() {
+    return declarationEnrichers;
+  }
+
+  /**
+   * @return the {@link ExtensionModelValidator}s applied to every extension, on top of the custom ones of each context
+   */
+  List<ExtensionModelValidator> getExtensionModelValidators() {
+    return extensionModelValidators;
+  }
+
   /**
    * Transforms the given {@code extensionLoadingContext} into a valid {@link ExtensionModel} using a specifying
    * {@code describingContext}
@@ -229,15 +272,29 @@ public final class ExtensionModelFactory {
    * @return an {@link ExtensionModel}
    */
   public ExtensionModel create(ExtensionLoadingContext extensionLoadingContext) {
+    return create(extensionLoadingContext, FULL_BUILD);
+  }
 
-    enrichDeclaration(extensionLoadingContext);
+  /**
+   * Same as {@link #create(ExtensionLoadingContext)}, but skipping the enrichment and conversion of the declarations already
+   * processed by a previous build, as tracked by the given {@code incrementalBuild}.
+   *
+   * @param extensionLoadingContext a {@link ExtensionLoadingContext}, useful to specify custom settings
+   * @param incrementalBuild        tracks what was already built
+   * @return an {@link ExtensionModel}
+   * @since 1.8
+   */
+  ExtensionModel create(ExtensionLoadingContext extensionLoadingContext, IncrementalBuild incrementalBuild) {
+    ExtensionModelLoadingInstrumentation instrumentation = ExtensionModelLoadingInstrumentation.of(extensionLoadingContext);
+
+    enrichDeclaration(extensionLoadingContext, instrumentation, incrementalBuild);
 
     ExtensionModel extensionModel =
-        new FactoryDelegate().toExtension(extensionLoadingContext.getExtensionDeclarer().getDeclaration());
+        new FactoryDelegate(incrementalBuild).toExtension(extensionLoadingContext.getExtensionDeclarer().getDeclaration());
 
     if (shouldValidate(extensionLoadingContext)) {
       ProblemsReporter problemsReporter = new ProblemsReporter(extensionModel);
-      validate(extensionModel, problemsReporter, extensionLoadingContext);
+      validate(extensionModel, problemsReporter, extensionLoadingContext, instrumentation);
       getProblemsHandler(extensionLoadingContext, extensionModel).handleProblems(problemsReporter);
     }
 
@@ -249,11 +306,62 @@ public final class ExtensionModelFactory {
   }
 
   private void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter,
-                        ExtensionLoadingContext extensionLoadingContext) {
-    List<ExtensionModelValidator> validators = new LinkedList<>(extensionModelValidators);
+                        ExtensionLoadingContext extensionLoadingContext, ExtensionModelLoadingInstrumentation instrumentation) {
+    List<ExtensionModelValidator> validators = new ArrayList<>(extensionModelValidators);
     validators.addAll(extensionLoadingContext.getCustomValidators());
 
-    validators.forEach(v -> v.validate(extensionModel, problemsReporter));
+    Optional<Executor> validationExecutor = extensionLoadingContext.getValidationExecutor();
+    if (validationExecutor.isPresent()) {
+      validateInParallel(extensionModel, problemsReporter, validators, validationExecutor.get(), instrumentation);
+    } else {
+      validators.forEach(v -> instrumentation.applyValidator(v, extensionModel, problemsReporter));
+    }
+  }
+
+  /**
+   * Runs each validator on the given {@code executor}, each one reporting into its own {@link ProblemsReporter}. Once all are
+   * done, the found problems are merged into {@code problemsReporter} following the order of {@code validators}, so the
+   * outcome is the same as with a sequential validation. The same goes for the notifications of the {@code instrumentation}.
+   */
+  private void validateInParallel(ExtensionModel extensionModel, ProblemsReporter problemsReporter,
+                                  List<ExtensionModelValidator> validators, Executor executor,
+                                  ExtensionModelLoadingInstrumentation instrumentation) {
+    final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+    List<CompletableFuture<ProblemsReporter>> results = new ArrayList<>(validators.size());
+    // each slot is written by a single task and only read once that task has been joined
+    ExtensionModelLoadingStatistics[] statistics = new ExtensionModelLoadingStatistics[validators.size()];
+    for (int i = 0; i < validators.size(); i++) {
+      final ExtensionModelValidator validator = validators.get(i);
+      final int index = i;
+      results.add(supplyAsync(() -> {
+        Thread thread = currentThread();
+        ClassLoader originalClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(contextClassLoader);
+        try {
+          ProblemsReporter validatorReporter = new ProblemsReporter(extensionModel);
+          statistics[index] = instrumentation.measureValidator(validator, extensionModel, validatorReporter);
+          return validatorReporter;
+        } finally {
+          thread.setContextClassLoader(originalClassLoader);
+        }
+      }, executor));
+    }
+
+    for (int i = 0; i < results.size(); i++) {
+      ProblemsReporter validatorReporter;
+      try {
+        validatorReporter = results.get(i).join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new MuleRuntimeException(e.getCause());
+      }
+
+      validatorReporter.getErrors().forEach(problemsReporter::addError);
+      validatorReporter.getWarnings().forEach(problemsReporter::addWarning);
+      instrumentation.validatorApplied(validators.get(i), statistics[i]);
+    }
   }
 
   private void validateMuleVersion(ExtensionDeclaration extensionDeclaration) {
@@ -271,7 +379,8 @@ public final class ExtensionModelFactory {
     }
   }
 
-  private void enrichDeclaration(ExtensionLoadingContext extensionLoadingContext) {
+  private void enrichDeclaration(ExtensionLoadingContext extensionLoadingContext,
+                                 ExtensionModelLoadingInstrumentation instrumentation, IncrementalBuild incrementalBuild) {
     final int enricherCount = declarationEnrichers.size() + extensionLoadingContext.getCustomDeclarationEnrichers().size();
     List<DeclarationEnricher> enrichers = new ArrayList<>(enricherCount);
     enrichers.addAll(extensionLoadingContext.getCustomDeclarationEnrichers());
@@ -279,26 +388,43 @@ public final class ExtensionModelFactory {
     enrichers.sort(comparing(DeclarationEnricher::getExecutionPhase));
 
     List<DeclarationEnricherWalkDelegate> walkDelegates = new ArrayList<>(enricherCount);
+    int walksCount = 0;
 
     DeclarationEnricherPhase currentPhase = DeclarationEnricherPhase.values()[0];
+    instrumentation.enricherPhaseStarted();
     for (DeclarationEnricher enricher : enrichers) {
       DeclarationEnricherPhase enricherPhase = enricher.getExecutionPhase();
       if (currentPhase != enricherPhase) {
-        processEnricherWalkDelegates(extensionLoadingContext, walkDelegates);
+        if (processEnricherWalkDelegates(extensionLoadingContext, walkDelegates, currentPhase, instrumentation,
+                                         incrementalBuild)) {
+          walksCount++;
+        }
         walkDelegates.clear();
+        instrumentation.enricherPhaseCompleted(currentPhase);
         currentPhase = enricherPhase;
+        instrumentation.enricherPhaseStarted();
       }
 
       if (enricher instanceof WalkingDeclarationEnricher) {
-        ((WalkingDeclarationEnricher) enricher).getWalkDelegate(extensionLoadingContext).ifPresent(walkDelegates::add);
+        instrumentation.getWalkDelegate((WalkingDeclarationEnricher) enricher, extensionLoadingContext)
+            .ifPresent(walkDelegates::add);
       } else if (isAggregatorEnricher(enricher)) {
-        applyEnricherWithProxyDeclaration(extensionLoadingContext, enricher);
+        instrumentation.applyEnricher(enricher, () -> applyEnricherWithProxyDeclaration(extensionLoadingContext, enricher));
       } else {
-        enricher.enrich(extensionLoadingContext);
+        instrumentation.applyEnricher(enricher, () -> enricher.enrich(extensionLoadingContext));
       }
     }
 
-    processEnricherWalkDelegates(extensionLoadingContext, walkDelegates);
+    if (processEnricherWalkDelegates(extensionLoadingContext, walkDelegates, currentPhase, instrumentation, incrementalBuild)) {
+      walksCount++;
+    }
+    instrumentation.enricherPhaseCompleted(currentPhase);
+
+    extensionLoadingContext.addParameter(DECLARATION_WALKS_COUNT, walksCount);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Extension '{}' declaration enriched with {} walks",
+                   extensionLoadingContext.getExtensionDeclarer().getDeclaration().getName(), walksCount);
+    }
   }
 
   /**
@@ -330,54 +456,102 @@ public final class ExtensionModelFactory {
     return oldConstructs;
   }
 
-  private void processEnricherWalkDelegates(ExtensionLoadingContext extensionLoadingContext,
-                                            List<DeclarationEnricherWalkDelegate> walkDelegates) {
-    if (!walkDelegates.isEmpty()) {
-      new DeclarationWalker() {
+  /**
+   * Walks the declaration once, applying all the given {@code walkDelegates} on each visited element which the
+   * {@code incrementalBuild} didn't already enrich.
+   *
+   * @return whether a walk was actually performed
+   */
+  private boolean processEnricherWalkDelegates(ExtensionLoadingContext extensionLoadingContext,
+                                               List<DeclarationEnricherWalkDelegate> walkDelegates,
+                                               DeclarationEnricherPhase phase,
+                                               ExtensionModelLoadingInstrumentation instrumentation,
+                                               IncrementalBuild incrementalBuild) {
+    if (walkDelegates.isEmpty()) {
+      return false;
+    }
+
+    instrumentation.walk(phase, () -> walkDeclaration(extensionLoadingContext, walkDelegates, incrementalBuild));
+    return true;
+  }
 
-        @Override
-        protected void onConfiguration(ConfigurationDeclaration declaration) {
+  /**
+   * @return the amount of elements on which the {@code walkDelegates} were applied
+   */
+  private int walkDeclaration(ExtensionLoadingContext extensionLoadingContext,
+                              List<DeclarationEnricherWalkDelegate> walkDelegates,
+                              IncrementalBuild incrementalBuild) {
+    int[] visited = {0};
+    new DeclarationWalker() {
+
+      // parameters are tracked through their owner, so that they are enriched along with it
+      private boolean shouldEnrich(Object declaration) {
+        if (incrementalBuild.shouldEnrich(declaration)) {
+          visited[0]++;
+          return true;
+        }
+        return false;
+      }
+
+      @Override
+      protected void onConfiguration(ConfigurationDeclaration declaration) {
+        if (shouldEnrich(declaration)) {
           walkDelegates.forEach(d -> d.onConfiguration(declaration));
         }
+      }
 
-        @Override
-        protected void onOperation(WithOperationsDeclaration owner, OperationDeclaration declaration) {
+      @Override
+      protected void onOperation(WithOperationsDeclaration owner, OperationDeclaration declaration) {
+        if (shouldEnrich(declaration)) {
           walkDelegates.forEach(d -> d.onOperation(owner, declaration));
         }
+      }
 
-        @Override
-        protected void onFunction(WithFunctionsDeclaration owner, FunctionDeclaration declaration) {
+      @Override
+      protected void onFunction(WithFunctionsDeclaration owner, FunctionDeclaration declaration) {
+        if (shouldEnrich(declaration)) {
           walkDelegates.forEach(d -> d.onFunction(owner, declaration));
         }
+      }
 
-        @Override
-        protected void onConstruct(WithConstructsDeclaration owner, ConstructDeclaration declaration) {
+      @Override
+      protected void onConstruct(WithConstructsDeclaration owner, ConstructDeclaration declaration) {
+        if (shouldEnrich(declaration)) {
           walkDelegates.forEach(d -> d.onConstruct(owner, declaration));
         }
+      }
 
-        @Override
-        protected void onConnectionProvider(ConnectedDeclaration owner, ConnectionProviderDeclaration declaration) {
+      @Override
+      protected void onConnectionProvider(ConnectedDeclaration owner, ConnectionProviderDeclaration declaration) {
+        if (shouldEnrich(declaration)) {
           walkDelegates.forEach(d -> d.onConnectionProvider(owner, declaration));
         }
+      }
 
-        @Override
-        protected void onSource(WithSourcesDeclaration owner, SourceDeclaration declaration) {
+      @Override
+      protected void onSource(WithSourcesDeclaration owner, SourceDeclaration declaration) {
+        if (shouldEnrich(declaration)) {
           walkDelegates.forEach(d -> d.onSource(owner, declaration));
         }
+      }
 
-        @Override
-        protected void onParameterGroup(ParameterizedDeclaration owner, ParameterGroupDeclaration declaration) {
+      @Override
+      protected void onParameterGroup(ParameterizedDeclaration owner, ParameterGroupDeclaration declaration) {
+        if (shouldEnrich(owner)) {
           walkDelegates.forEach(d -> d.onParameterGroup(owner, declaration));
         }
+      }
 
-        @Override
-        protected void onParameter(ParameterizedDeclaration owner, ParameterGroupDeclaration parameterGroup,
-                                   ParameterDeclaration declaration) {
+      @Override
+      protected void onParameter(ParameterizedDeclaration owner, ParameterGroupDeclaration parameterGroup,
+                                 ParameterDeclaration declaration) {
+        if (shouldEnrich(owner)) {
           walkDelegates.forEach(d -> d.onParameter(owner, parameterGroup, declaration));
         }
-      }.walk(extensionLoadingContext.getExtensionDeclarer().getDeclaration());
-      walkDelegates.forEach(DeclarationEnricherWalkDelegate::onWalkFinished);
-    }
+      }
+    }.walk(extensionLoadingContext.getExtensionDeclarer().getDeclaration());
+    walkDelegates.forEach(DeclarationEnricherWalkDelegate::onWalkFinished);
+    return visited[0];
   }
 
   private boolean isExpression(String value) {
@@ -387,6 +561,11 @@ public final class ExtensionModelFactory {
   private class FactoryDelegate {
 
     private final Cache<ParameterizedDeclaration, ParameterizedModel> modelCache = CacheBuilder.newBuilder().build();
+    private final IncrementalBuild incrementalBuild;
+
+    private FactoryDelegate(IncrementalBuild incrementalBuild) {
+      this.incrementalBuild = incrementalBuild;
+    }
 
     private ExtensionModel toExtension(ExtensionDeclaration extensionDeclaration) {
       validateMuleVersion(extensionDeclaration);
@@ -416,6 +595,7 @@ public final class ExtensionModelFactory {
                                       extensionDeclaration.getMinMuleVersion().orElse(null),
                                       resolveSupportedJavaVersions(extensionDeclaration));
 
+      incrementalBuild.modelsBuilt(modelCache.asMap());
       return extensionModel;
     }
 
@@ -440,7 +620,10 @@ public final class ExtensionModelFactory {
     private <T extends ParameterizedModel> T fromCache(ParameterizedDeclaration declaration,
                                                        Supplier<ParameterizedModel> supplier) {
       try {
-        return (T) modelCache.get(declaration, supplier::get);
+        return (T) modelCache.get(declaration, () -> {
+          ParameterizedModel model = incrementalBuild.getReusableModel(declaration);
+          return model != null ? model : supplier.get();
+        });
       } catch (UncheckedExecutionException e) {
         if (e.getCause() instanceof RuntimeException) {
           throw (RuntimeException) e.getCause();
@@ -469,7 +652,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getConfigStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return intern(stereotypeModel);
       }
 
       return CONFIG;
@@ -530,7 +713,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getSourceStereotypes(SourceDeclaration declaration) {
       if (declaration.getStereotype() != null) {
-        return declaration.getStereotype();
+        return intern(declaration.getStereotype());
       }
 
       return SOURCE;
@@ -555,7 +738,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getProcessorStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return intern(stereotypeModel);
       }
 
       return PROCESSOR;
@@ -683,7 +866,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getConnectionStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return intern(stereotypeModel);
       }
 
       return CONNECTION;
@@ -715,8 +898,8 @@ public final class ExtensionModelFactory {
                                               toParameters(declaration.getParameters()),
                                               toExclusiveParametersModels(declaration),
                                               declaration.isShowInDsl(),
-                                              declaration.getDisplayModel(),
-                                              declaration.getLayoutModel(),
+                                              intern(declaration.getDisplayModel()),
+                                              intern(declaration.getLayoutModel()),
                                               declaration.getModelProperties());
     }
 
@@ -753,26 +936,35 @@ public final class ExtensionModelFactory {
         }
       }
 
-      return new ImmutableParameterModel(parameter.getName(),
-                                         parameter.getDescription(),
-                                         parameter.getType(),
-                                         parameter.hasDynamicType(),
-                                         parameter.isRequired(),
-                                         parameter.isConfigOverride(),
-                                         parameter.isComponentId(),
-                                         parameter.getExpressionSupport(),
-                                         parameter.getDefaultValue(),
-                                         parameter.getRole(),
-                                         parameter.getDslConfiguration(),
-                                         parameter.getDisplayModel(),
-                                         parameter.getLayoutModel(),
-                                         parameter.getValueProviderModel(),
-                                         parameter.getAllowedStereotypeModels(),
-                                         parameter.getModelProperties(),
-                                         parameter.getDeprecation().orElse(null),
-                                         parameter.getSemanticTerms(),
-                                         parameter.getFieldValueProviderModels(),
-                                         parameter.getMinMuleVersion().orElse(null));
+      ParameterDslConfiguration dslConfiguration = intern(parameter.getDslConfiguration());
+      DisplayModel displayModel = intern(parameter.getDisplayModel());
+      LayoutModel layoutModel = intern(parameter.getLayoutModel());
+      List<StereotypeModel> allowedStereotypes = parameter.getAllowedStereotypeModels().stream()
+          .map(ImmutableModelInterner::intern)
+          .collect(toList());
+      DeprecationModel deprecation = parameter.getDeprecation().orElse(null);
+      MuleVersion minMuleVersion = parameter.getMinMuleVersion().orElse(null);
+
+      return internParameter(new ImmutableParameterModel(parameter.getName(),
+                                                         parameter.getDescription(),
+                                                         parameter.getType(),
+                                                         parameter.hasDynamicType(),
+                                                         parameter.isRequired(),
+                                                         parameter.isConfigOverride(),
+                                                         parameter.isComponentId(),
+                                                         parameter.getExpressionSupport(),
+                                                         defaultValue,
+                                                         parameter.getRole(),
+                                                         dslConfiguration,
+                                                         displayModel,
+                                                         layoutModel,
+                                                         parameter.getValueProviderModel(),
+                                                         allowedStereotypes,
+                                                         parameter.getModelProperties(),
+                                                         deprecation,
+                                                         parameter.getSemanticTerms(),
+                                                         parameter.getFieldValueProviderModels(),
+                                                         minMuleVersion));
     }
 
     private List<FunctionModel> toFunctions(List<FunctionDeclaration> expressionFunctions) {
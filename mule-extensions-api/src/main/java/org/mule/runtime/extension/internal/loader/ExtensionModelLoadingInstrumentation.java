@@ -0,0 +1,449 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingStatistics.UNKNOWN;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.lang.invoke.MethodHandles.publicLookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConfigurationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConnectedDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConnectionProviderDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConstructDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.FunctionDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterGroupDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterizedDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.SourceDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithConstructsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithFunctionsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithOperationsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithSourcesDeclaration;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingListener;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingStatistics;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
+import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher.DeclarationEnricherWalkDelegate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Takes the measures notified to the {@link ExtensionModelLoadingListener} of an {@link ExtensionLoadingContext} while an
+ * {@link ExtensionModelFactory} builds its model.
+ * <p>
+ * When the context has no listener, {@link #NO_INSTRUMENTATION} is used, which just performs each stage without taking any
+ * measure. Instances are not thread-safe and are to be used for a single model.
+ *
+ * @since 1.8
+ */
+final class ExtensionModelLoadingInstrumentation {
+
+  private static final Logger LOGGER = getLogger(ExtensionModelLoadingInstrumentation.class);
+
+  static final ExtensionModelLoadingInstrumentation NO_INSTRUMENTATION = new ExtensionModelLoadingInstrumentation(null, null);
+
+  private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+  private static final MethodHandle GET_THREAD_ALLOCATED_BYTES = resolveGetThreadAllocatedBytes();
+  private static final long MEASUREMENT_ALLOCATED_BYTES = measureOwnAllocation();
+
+  /**
+   * @param extensionLoadingContext the context of the model being built
+   * @return the instrumentation to use for the given {@code extensionLoadingContext}
+   */
+  static ExtensionModelLoadingInstrumentation of(ExtensionLoadingContext extensionLoadingContext) {
+    return extensionLoadingContext.getLoadingListener()
+        .map(listener -> new ExtensionModelLoadingInstrumentation(listener,
+                                                                  extensionLoadingContext.getExtensionDeclarer()
+                                                                      .getDeclaration().getName()))
+        .orElse(NO_INSTRUMENTATION);
+  }
+
+  private final ExtensionModelLoadingListener listener;
+  private final String extensionName;
+  private final List<MeteredWalkDelegate> walkDelegates = new ArrayList<>();
+
+  private Measurement phaseMeasurement;
+  private int phaseEnrichersCount;
+
+  private ExtensionModelLoadingInstrumentation(ExtensionModelLoadingListener listener, String extensionName) {
+    this.listener = listener;
+    this.extensionName = extensionName;
+  }
+
+  /**
+   * @return whether measures are being taken
+   */
+  boolean isEnabled() {
+    return listener != null;
+  }
+
+  /**
+   * Starts measuring a new {@link DeclarationEnricherPhase}
+   */
+  void enricherPhaseStarted() {
+    if (isEnabled()) {
+      phaseMeasurement = start();
+      phaseEnrichersCount = 0;
+    }
+  }
+
+  /**
+   * Notifies the completion of the given {@code phase}, if any enricher was applied on it.
+   *
+   * @param phase the completed phase
+   */
+  void enricherPhaseCompleted(DeclarationEnricherPhase phase) {
+    if (isEnabled() && phaseEnrichersCount > 0) {
+      listener.onEnricherPhaseCompleted(phase, phaseMeasurement.stop(phaseEnrichersCount));
+    }
+  }
+
+  /**
+   * Applies the given {@code enricher} through the given {@code enrichment}, measuring it.
+   *
+   * @param enricher   the enricher to apply
+   * @param enrichment the actual application of the enricher
+   */
+  void applyEnricher(DeclarationEnricher enricher, Runnable enrichment) {
+    if (!isEnabled()) {
+      enrichment.run();
+      return;
+    }
+
+    phaseEnrichersCount++;
+    Measurement measurement = start();
+    enrichment.run();
+    listener.onEnricherApplied(enricher, measurement.stop(UNKNOWN));
+  }
+
+  /**
+   * Obtains the walk delegate of the given {@code enricher}. When enabled, the returned delegate measures the time spent on each
+   * of its callbacks, which is notified once the walk it takes part in is {@link #walk(DeclarationEnricherPhase, IntSupplier)
+   * performed}.
+   *
+   * @param enricher                the enricher to obtain the delegate from
+   * @param extensionLoadingContext the context of the model being built
+   * @return the delegate of the given {@code enricher}, if any
+   */
+  Optional<DeclarationEnricherWalkDelegate> getWalkDelegate(WalkingDeclarationEnricher enricher,
+                                                            ExtensionLoadingContext extensionLoadingContext) {
+    if (!isEnabled()) {
+      return enricher.getWalkDelegate(extensionLoadingContext);
+    }
+
+    phaseEnrichersCount++;
+    Measurement measurement = start();
+    Optional<DeclarationEnricherWalkDelegate> delegate = enricher.getWalkDelegate(extensionLoadingContext);
+    if (!delegate.isPresent()) {
+      listener.onEnricherApplied(enricher, measurement.stop(0));
+      return delegate;
+    }
+
+    MeteredWalkDelegate meteredDelegate = new MeteredWalkDelegate(enricher, delegate.get(), measurement);
+    walkDelegates.add(meteredDelegate);
+    return Optional.of(meteredDelegate);
+  }
+
+  /**
+   * Performs a walk over the declaration, measuring it.
+   *
+   * @param phase the phase the walk belongs to
+   * @param walk  the actual walk, which returns the amount of visited declarations
+   */
+  void walk(DeclarationEnricherPhase phase, IntSupplier walk) {
+    if (!isEnabled()) {
+      walk.getAsInt();
+      return;
+    }
+
+    Measurement measurement = start();
+    int visited = walk.getAsInt();
+    listener.onDeclarationWalked(phase, measurement.stop(visited));
+
+    walkDelegates.forEach(delegate -> listener.onEnricherApplied(delegate.enricher, delegate.getStatistics()));
+    walkDelegates.clear();
+  }
+
+  /**
+   * Applies the given {@code validator}, measuring it.
+   *
+   * @param validator        the validator to apply
+   * @param extensionModel   the model to validate
+   * @param problemsReporter the reporter in which problems are to be reported
+   */
+  void applyValidator(ExtensionModelValidator validator, ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
+    if (!isEnabled()) {
+      validator.validate(extensionModel, problemsReporter);
+      return;
+    }
+
+    int previousProblems = countProblems(problemsReporter);
+    Measurement measurement = start();
+    validator.validate(extensionModel, problemsReporter);
+    listener.onValidatorApplied(validator, measurement.stop(countProblems(problemsReporter) - previousProblems));
+  }
+
+  /**
+   * Applies the given {@code validator} on the current thread, measuring it without notifying the listener, so that the
+   * {@link ExtensionModelLoadingStatistics} can be handed over to the loading thread and
+   * {@link #validatorApplied(ExtensionModelValidator, ExtensionModelLoadingStatistics) notified} from there.
+   *
+   * @param validator        the validator to apply
+   * @param extensionModel   the model to validate
+   * @param problemsReporter a reporter exclusive for the given {@code validator}
+   * @return the statistics of the validation, or {@code null} if not enabled
+   */
+  ExtensionModelLoadingStatistics measureValidator(ExtensionModelValidator validator, ExtensionModel extensionModel,
+                                                   ProblemsReporter problemsReporter) {
+    if (!isEnabled()) {
+      validator.validate(extensionModel, problemsReporter);
+      return null;
+    }
+
+    Measurement measurement = start();
+    validator.validate(extensionModel, problemsReporter);
+    return measurement.stop(countProblems(problemsReporter));
+  }
+
+  /**
+   * Notifies the listener about a validator applied through
+   * {@link #measureValidator(ExtensionModelValidator, ExtensionModel, ProblemsReporter)}
+   *
+   * @param validator  the applied validator
+   * @param statistics the statistics of the validation
+   */
+  void validatorApplied(ExtensionModelValidator validator, ExtensionModelLoadingStatistics statistics) {
+    if (isEnabled()) {
+      listener.onValidatorApplied(validator, statistics);
+    }
+  }
+
+  private Measurement start() {
+    return new Measurement(nanoTime(), currentThreadAllocatedBytes());
+  }
+
+  private static int countProblems(ProblemsReporter problemsReporter) {
+    return problemsReporter.getErrors().size() + problemsReporter.getWarnings().size();
+  }
+
+  private static long currentThreadAllocatedBytes() {
+    if (GET_THREAD_ALLOCATED_BYTES == null) {
+      return UNKNOWN;
+    }
+
+    try {
+      return (long) GET_THREAD_ALLOCATED_BYTES.invokeExact(THREAD_MX_BEAN, currentThread().getId());
+    } catch (Throwable e) {
+      return UNKNOWN;
+    }
+  }
+
+  /**
+   * @return the bytes allocated by the current thread since {@code startAllocatedBytes} was obtained, not counting what
+   *         obtaining the allocated bytes itself allocates
+   */
+  private static long allocatedSince(long startAllocatedBytes) {
+    if (startAllocatedBytes == UNKNOWN) {
+      return UNKNOWN;
+    }
+
+    long allocatedBytes = currentThreadAllocatedBytes();
+    return allocatedBytes == UNKNOWN ? UNKNOWN : max(0, allocatedBytes - startAllocatedBytes - MEASUREMENT_ALLOCATED_BYTES);
+  }
+
+  /**
+   * Depending on the JVM, obtaining the allocated bytes of a thread allocates some bytes itself. That amount is measured once,
+   * so that it is not attributed to what is being measured.
+   */
+  private static long measureOwnAllocation() {
+    if (GET_THREAD_ALLOCATED_BYTES == null) {
+      return 0;
+    }
+
+    long allocatedBytes = Long.MAX_VALUE;
+    for (int i = 0; i < 16; i++) {
+      long start = currentThreadAllocatedBytes();
+      long end = currentThreadAllocatedBytes();
+      if (start == UNKNOWN || end == UNKNOWN) {
+        return 0;
+      }
+      allocatedBytes = min(allocatedBytes, end - start);
+    }
+    return allocatedBytes;
+  }
+
+  /**
+   * The allocated bytes per thread are only exposed by the HotSpot specific {@code com.sun.management.ThreadMXBean}, which is
+   * looked up reflectively so that this keeps working on JVMs which don't provide it. It is invoked through a
+   * {@link MethodHandle}, so that taking a measure doesn't box its argument and result.
+   */
+  private static MethodHandle resolveGetThreadAllocatedBytes() {
+    try {
+      Class<?> hotspotThreadMXBean = Class.forName("com.sun.management.ThreadMXBean");
+      if (!hotspotThreadMXBean.isInstance(THREAD_MX_BEAN)) {
+        return null;
+      }
+
+      Method method = hotspotThreadMXBean.getMethod("getThreadAllocatedBytes", long.class);
+      MethodHandle handle = publicLookup().unreflect(method).asType(methodType(long.class, ThreadMXBean.class, long.class));
+      if ((long) handle.invokeExact(THREAD_MX_BEAN, currentThread().getId()) == UNKNOWN) {
+        return null;
+      }
+      return handle;
+    } catch (Throwable e) {
+      LOGGER.debug("Allocated bytes per thread cannot be measured on this JVM", e);
+      return null;
+    }
+  }
+
+  private final class Measurement {
+
+    private final long startNanos;
+    private final long startAllocatedBytes;
+
+    private Measurement(long startNanos, long startAllocatedBytes) {
+      this.startNanos = startNanos;
+      this.startAllocatedBytes = startAllocatedBytes;
+    }
+
+    private ExtensionModelLoadingStatistics stop(long itemsCount) {
+      return new ExtensionModelLoadingStatistics(extensionName, nanoTime() - startNanos, allocatedSince(startAllocatedBytes),
+                                                 itemsCount);
+    }
+  }
+
+  /**
+   * Forwards all callbacks to the delegate of a {@link WalkingDeclarationEnricher}, accumulating the time spent and the bytes
+   * allocated on them. Since the callbacks are invoked for every declaration in the walk, the measures are accumulated as raw
+   * values, without allocating anything per callback which would be accounted as allocated by the delegate.
+   */
+  private final class MeteredWalkDelegate extends DeclarationEnricherWalkDelegate {
+
+    private final DeclarationEnricher enricher;
+    private final DeclarationEnricherWalkDelegate delegate;
+
+    private long elapsedNanos;
+    private long allocatedBytes;
+    private long itemsCount;
+
+    private long callbackStartNanos;
+    private long callbackStartAllocatedBytes;
+
+    private MeteredWalkDelegate(DeclarationEnricher enricher, DeclarationEnricherWalkDelegate delegate,
+                                Measurement delegateCreation) {
+      this.enricher = enricher;
+      this.delegate = delegate;
+      ExtensionModelLoadingStatistics creation = delegateCreation.stop(0);
+      elapsedNanos = creation.getElapsedNanos();
+      allocatedBytes = creation.getAllocatedBytes();
+    }
+
+    @Override
+    public void onConfiguration(ConfigurationDeclaration declaration) {
+      callbackStarted();
+      delegate.onConfiguration(declaration);
+      callbackFinished(1);
+    }
+
+    @Override
+    public void onOperation(WithOperationsDeclaration owner, OperationDeclaration declaration) {
+      callbackStarted();
+      delegate.onOperation(owner, declaration);
+      callbackFinished(1);
+    }
+
+    @Override
+    public void onFunction(WithFunctionsDeclaration owner, FunctionDeclaration model) {
+      callbackStarted();
+      delegate.onFunction(owner, model);
+      callbackFinished(1);
+    }
+
+    @Override
+    public void onConstruct(WithConstructsDeclaration owner, ConstructDeclaration declaration) {
+      callbackStarted();
+      delegate.onConstruct(owner, declaration);
+      callbackFinished(1);
+    }
+
+    @Override
+    public void onConnectionProvider(ConnectedDeclaration owner, ConnectionProviderDeclaration declaration) {
+      callbackStarted();
+      delegate.onConnectionProvider(owner, declaration);
+      callbackFinished(1);
+    }
+
+    @Override
+    public void onSource(WithSourcesDeclaration owner, SourceDeclaration declaration) {
+      callbackStarted();
+      delegate.onSource(owner, declaration);
+      callbackFinished(1);
+    }
+
+    @Override
+    public void onParameterGroup(ParameterizedDeclaration owner, ParameterGroupDeclaration declaration) {
+      callbackStarted();
+      delegate.onParameterGroup(owner, declaration);
+      callbackFinished(1);
+    }
+
+    @Override
+    public void onParameter(ParameterizedDeclaration owner, ParameterGroupDeclaration parameterGroup,
+                            ParameterDeclaration declaration) {
+      callbackStarted();
+      delegate.onParameter(owner, parameterGroup, declaration);
+      callbackFinished(1);
+    }
+
+    @Override
+    public void onWalkFinished() {
+      callbackStarted();
+      delegate.onWalkFinished();
+      callbackFinished(0);
+    }
+
+    private void callbackStarted() {
+      callbackStartNanos = nanoTime();
+      callbackStartAllocatedBytes = allocatedBytes == UNKNOWN ? UNKNOWN : currentThreadAllocatedBytes();
+    }
+
+    private void callbackFinished(int items) {
+      elapsedNanos += nanoTime() - callbackStartNanos;
+      if (allocatedBytes != UNKNOWN) {
+        long callbackAllocatedBytes = allocatedSince(callbackStartAllocatedBytes);
+        allocatedBytes = callbackAllocatedBytes == UNKNOWN ? UNKNOWN : allocatedBytes + callbackAllocatedBytes;
+      }
+      itemsCount += items;
+    }
+
+    private ExtensionModelLoadingStatistics getStatistics() {
+      return new ExtensionModelLoadingStatistics(extensionName, elapsedNanos, allocatedBytes, itemsCount);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static com.google.common.collect.Interners.newWeakInterner;
+
+import static java.util.Arrays.asList;
+
+import org.mule.runtime.api.meta.MuleVersion;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.display.LayoutModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+import org.mule.runtime.extension.api.model.parameter.ImmutableParameterModel;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.Interner;
+
+/**
+ * Shares equal immutable sub-models among all the components of all the extensions built by an {@link ExtensionModelFactory},
+ * so that the many equal infrastructure parameters added to each component don't retain a copy each.
+ * <p>
+ * Value objects such as {@link DisplayModel}, {@link LayoutModel} or {@link StereotypeModel} are interned through their own
+ * {@code equals}. {@link ImmutableParameterModel}s are compared only by name, so they are instead shared when everything they
+ * are built from is equal. Either way, everything is weakly held, so nothing is retained once no model uses it.
+ * <p>
+ * Parameters are indexed by weak references to the parameters themselves, and what they are built from is read back from them
+ * when comparing. This way the index never retains their types or model properties, which may pin the class loader of the
+ * extension that declared them, not even before the entries of collected parameters are purged.
+ *
+ * @since 1.8
+ */
+final class ImmutableModelInterner {
+
+  private static final Interner<Object> VALUES = newWeakInterner();
+  private static final Map<ParameterKey, ParameterKey> PARAMETERS = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<ParameterModel> COLLECTED_PARAMETERS = new ReferenceQueue<>();
+
+  /**
+   * @param value an immutable value, with a proper {@code equals} and {@code hashCode}
+   * @return an instance equal to the given {@code value}, shared among all the models
+   */
+  static <T> T intern(T value) {
+    return value == null ? null : (T) VALUES.intern(value);
+  }
+
+  /**
+   * @param parameter a newly built parameter
+   * @return a {@link ParameterModel} built from the same state as the given {@code parameter}, shared among all the equal
+   *         parameters. That is the given {@code parameter} itself if no equal one exists.
+   */
+  static ParameterModel internParameter(ParameterModel parameter) {
+    purgeCollectedParameters();
+
+    List<Object> definition = definitionOf(parameter);
+    ParameterKey lookup = new ParameterKey(parameter, definition);
+    while (true) {
+      ParameterKey existing = PARAMETERS.get(lookup);
+      if (existing == null) {
+        ParameterKey key = new ParameterKey(parameter, definition.hashCode(), COLLECTED_PARAMETERS);
+        existing = PARAMETERS.putIfAbsent(key, key);
+        if (existing == null) {
+          return parameter;
+        }
+      }
+
+      ParameterModel shared = existing.get();
+      if (shared != null) {
+        return shared;
+      }
+      // collected since it was found, so it is no longer equal to anything
+      PARAMETERS.remove(existing, existing);
+    }
+  }
+
+  private static void purgeCollectedParameters() {
+    Reference<? extends ParameterModel> collected;
+    while ((collected = COLLECTED_PARAMETERS.poll()) != null) {
+      PARAMETERS.remove(collected, collected);
+    }
+  }
+
+  /**
+   * @return everything the given {@code parameter} is built from
+   */
+  private static List<Object> definitionOf(ParameterModel parameter) {
+    return asList(parameter.getName(), parameter.getDescription(), parameter.getType(), parameter.hasDynamicType(),
+                  parameter.isRequired(), parameter.isOverrideFromConfig(), parameter.isComponentId(),
+                  parameter.getExpressionSupport(), parameter.getDefaultValue(), parameter.getRole(),
+                  parameter.getDslConfiguration(), parameter.getDisplayModel().orElse(null),
+                  parameter.getLayoutModel().orElse(null), parameter.getValueProviderModel().orElse(null),
+                  parameter.getAllowedStereotypes(), new HashSet<>(parameter.getModelProperties()),
+                  parameter.getDeprecationModel().orElse(null), parameter.getSemanticTerms(),
+                  parameter.getFieldValueProviderModels(),
+                  parameter.getMinMuleVersion().map(MuleVersion::toString).orElse(null));
+  }
+
+  /**
+   * Weakly refers to an interned parameter. The {@code definition} is only kept by the keys used for lookups, which are
+   * discarded afterwards, so the keys in the index only hold the parameter weakly. A key of a collected parameter is only equal
+   * to itself.
+   */
+  private static final class ParameterKey extends WeakReference<ParameterModel> {
+
+    private final int hash;
+    private final List<Object> definition;
+
+    private ParameterKey(ParameterModel parameter, List<Object> definition) {
+      super(parameter);
+      this.hash = definition.hashCode();
+      this.definition = definition;
+    }
+
+    private ParameterKey(ParameterModel parameter, int hash, ReferenceQueue<ParameterModel> queue) {
+      super(parameter, queue);
+      this.hash = hash;
+      this.definition = null;
+    }
+
+    private List<Object> getDefinition() {
+      if (definition != null) {
+        return definition;
+      }
+      ParameterModel parameter = get();
+      return parameter != null ? definitionOf(parameter) : null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ParameterKey) || hash != ((ParameterKey) obj).hash) {
+        return false;
+      }
+
+      List<Object> thisDefinition = getDefinition();
+      return thisDefinition != null && thisDefinition.equals(((ParameterKey) obj).getDefinition());
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private ImmutableModelInterner() {}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.newSetFromMap;
+
+import org.mule.runtime.api.meta.model.declaration.fluent.ConfigurationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterizedDeclaration;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks what an {@link ExtensionModelFactory} can skip when building a model out of a declaration it already built before.
+ * <p>
+ * Declarations are tracked by identity: the ones that were already notified to the enrichers in the previous build are not
+ * notified again, and the models built for them are reused. {@link ConfigurationDeclaration configurations} are always rebuilt,
+ * since the components they hold may have changed. Declarations modified in place are not detected here, but by the
+ * {@link IncrementalExtensionModelFactory} before starting the build.
+ * <p>
+ * {@link #FULL_BUILD} tracks nothing and is used for regular builds. Instances are not thread-safe.
+ *
+ * @since 1.8
+ */
+final class IncrementalBuild {
+
+  static final IncrementalBuild FULL_BUILD = new IncrementalBuild(emptySet(), emptyMap(), false);
+
+  private final Set<Object> previouslyEnriched;
+  private final Map<ParameterizedDeclaration, ParameterizedModel> previousModels;
+  private final boolean tracking;
+
+  private final Set<Object> enriched;
+  private Map<ParameterizedDeclaration, ParameterizedModel> builtModels = emptyMap();
+
+  /**
+   * Creates a new instance
+   *
+   * @param previouslyEnriched the declarations which were enriched in the previous build
+   * @param previousModels     the models built for each declaration in the previous build
+   */
+  IncrementalBuild(Set<Object> previouslyEnriched, Map<ParameterizedDeclaration, ParameterizedModel> previousModels) {
+    this(previouslyEnriched, previousModels, true);
+  }
+
+  private IncrementalBuild(Set<Object> previouslyEnriched, Map<ParameterizedDeclaration, ParameterizedModel> previousModels,
+                           boolean tracking) {
+    this.previouslyEnriched = previouslyEnriched;
+    this.previousModels = previousModels;
+    this.tracking = tracking;
+    enriched = tracking ? newSetFromMap(new IdentityHashMap<>()) : emptySet();
+  }
+
+  /**
+   * Registers the given {@code declaration} as part of this build.
+   *
+   * @param declaration a declaration found while walking the extension
+   * @return whether the enrichers are to be notified about the given {@code declaration}
+   */
+  boolean shouldEnrich(Object declaration) {
+    if (!tracking) {
+      return true;
+    }
+
+    enriched.add(declaration);
+    return !previouslyEnriched.contains(declaration);
+  }
+
+  /**
+   * @param declaration a declaration about to be turned into a model
+   * @return the model built for the given {@code declaration} in the previous build, or {@code null} if it is to be built.
+   */
+  ParameterizedModel getReusableModel(ParameterizedDeclaration declaration) {
+    if (declaration instanceof ConfigurationDeclaration) {
+      return null;
+    }
+
+    return previousModels.get(declaration);
+  }
+
+  /**
+   * Registers the models built in this build, so that they can be reused by the next one.
+   *
+   * @param models the built models, by the declaration they were built from
+   */
+  void modelsBuilt(Map<ParameterizedDeclaration, ParameterizedModel> models) {
+    if (tracking) {
+      builtModels = new IdentityHashMap<>(models);
+    }
+  }
+
+  /**
+   * @return the declarations found by this build, which the next one doesn't need to enrich again
+   */
+  Set<Object> getEnrichedDeclarations() {
+    return enriched;
+  }
+
+  /**
+   * @return the models built by this build, which the next one can reuse
+   */
+  Map<ParameterizedDeclaration, ParameterizedModel> getBuiltModels() {
+    return builtModels;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterizedDeclaration;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds {@link ExtensionModel}s out of an {@link ExtensionDeclaration} which is repeatedly modified and rebuilt, as design time
+ * tooling does, redoing only the work related to what changed since the previous build.
+ * <p>
+ * Changes are tracked by identity: each component declaration (operations, sources, constructs, functions, connection providers
+ * and configurations) present in the previous build is considered unchanged, so {@link WalkingDeclarationEnricher walking
+ * enrichers} are not notified about it nor its parameters again, and the model built for it is reused. Thus, components can be
+ * added and removed freely, but changing an already built one requires replacing it with a newly declared one. Modifying it in
+ * place is not supported, since applying the enrichers again on an already enriched declaration would enrich it twice.
+ * <p>
+ * To avoid returning a stale model, a {@link ComponentSnapshot structural snapshot} of each component is taken after every build
+ * and compared on the next one. A build fails with an {@link IllegalStateException} when a component was modified in place, or
+ * when the declarations that own it changed (for example, an already built operation was added to a new configuration), since
+ * the enrichment of those components depends on their owners. Likewise, it fails when the connection providers of an already
+ * built configuration changed, since the enrichment of the configuration depends on them. A declaration whose build failed may have been partially enriched,
+ * so it cannot be built again either. In both cases, the extension has to be declared again.
+ * <p>
+ * Enrichers which are not {@link WalkingDeclarationEnricher walking} ones are applied on every build, so they need to be
+ * idempotent, as the default ones are. Validation, when enabled, is always performed on the whole model.
+ * <p>
+ * A build is performed from scratch when a different {@link ExtensionDeclaration} than in the previous build is given.
+ * <p>
+ * This class is not part of the API and should not be used by anyone (or anything) but the runtime. Backwards compatibility not
+ * guaranteed on this class.
+ *
+ * @since 1.8
+ */
+public final class IncrementalExtensionModelFactory {
+
+  private final ExtensionModelFactory extensionModelFactory;
+
+  private ExtensionDeclaration previousDeclaration;
+  private Set<Object> enrichedDeclarations = emptySet();
+  private Map<ParameterizedDeclaration, ParameterizedModel> builtModels = emptyMap();
+  private Map<ParameterizedDeclaration, ComponentSnapshot> snapshots = emptyMap();
+  private ExtensionDeclaration untrustedDeclaration;
+
+  public IncrementalExtensionModelFactory() {
+    this(new ExtensionModelFactory());
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param extensionModelFactory the factory to build the models with
+   */
+  public IncrementalExtensionModelFactory(ExtensionModelFactory extensionModelFactory) {
+    checkArgument(extensionModelFactory != null, "extensionModelFactory cannot be null");
+    this.extensionModelFactory = extensionModelFactory;
+  }
+
+  /**
+   * Transforms the given {@code extensionLoadingContext} into a valid {@link ExtensionModel}, reusing the work done by the
+   * previous invocation for the declarations that didn't change since then.
+   *
+   * @param extensionLoadingContext a {@link ExtensionLoadingContext}, useful to specify custom settings
+   * @return an {@link ExtensionModel}
+   * @throws IllegalStateException if an already built component was modified in place, or if a previous build of the same
+   *                               declaration failed
+   */
+  public synchronized ExtensionModel create(ExtensionLoadingContext extensionLoadingContext) {
+    ExtensionDeclaration declaration = extensionLoadingContext.getExtensionDeclarer().getDeclaration();
+    if (declaration == untrustedDeclaration) {
+      throw new IllegalStateException(format("A previous build of extension '%s' failed, so its declaration may have been "
+          + "partially enriched. Declare the extension again to build it", declaration.getName()));
+    }
+    if (declaration != previousDeclaration) {
+      discard();
+    } else {
+      checkUnchanged(declaration);
+    }
+
+    IncrementalBuild incrementalBuild = new IncrementalBuild(enrichedDeclarations, builtModels);
+    ExtensionModel extensionModel;
+    try {
+      extensionModel = extensionModelFactory.create(extensionLoadingContext, incrementalBuild);
+    } catch (RuntimeException e) {
+      // the declaration may have been partially enriched, so it cannot be trusted anymore
+      discard();
+      untrustedDeclaration = declaration;
+      throw e;
+    }
+
+    previousDeclaration = declaration;
+    enrichedDeclarations = incrementalBuild.getEnrichedDeclarations();
+    builtModels = incrementalBuild.getBuiltModels();
+    snapshots = ComponentSnapshot.of(declaration);
+    return extensionModel;
+  }
+
+  private void checkUnchanged(ExtensionDeclaration declaration) {
+    ComponentSnapshot.of(declaration).forEach((component, current) -> {
+      ComponentSnapshot previous = snapshots.get(component);
+      if (previous != null && !previous.matches(current)) {
+        throw new IllegalStateException(format("Component '%s' of extension '%s' was modified after being built, either itself "
+            + "or the declarations that own it. Declare a new component instead of modifying it, or declare the extension again",
+                                               current.getName(), declaration.getName()));
+      }
+    });
+  }
+
+  /**
+   * Discards the models built so far, so that the next build converts every component into a new model.
+   * <p>
+   * The enrichment already applied on the previously built {@link ExtensionDeclaration} cannot be undone, so it is still
+   * tracked: building that same declaration again doesn't enrich its components twice, and still fails if any of them was
+   * modified in place.
+   */
+  public synchronized void reset() {
+    builtModels = emptyMap();
+  }
+
+  private void discard() {
+    previousDeclaration = null;
+    enrichedDeclarations = emptySet();
+    builtModels = emptyMap();
+    snapshots = emptyMap();
+  }
+}
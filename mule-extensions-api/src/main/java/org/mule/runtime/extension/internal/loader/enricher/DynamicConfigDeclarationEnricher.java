@@ -10,19 +10,23 @@ import static org.mule.runtime.extension.api.loader.DeclarationEnricherPhase.STR
 import static org.mule.runtime.extension.api.util.ExtensionModelUtils.acceptsExpressions;
 import static org.mule.runtime.extension.internal.loader.util.InfrastructureParameterBuilder.addExpirationPolicy;
 
+import static java.util.Optional.of;
+
 import org.mule.runtime.api.meta.model.declaration.fluent.ConfigurationDeclaration;
 import org.mule.runtime.api.meta.model.declaration.fluent.ParameterizedDeclaration;
-import org.mule.runtime.extension.api.loader.DeclarationEnricher;
 import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
 import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
 import org.mule.runtime.extension.api.runtime.ExpirationPolicy;
 
+import java.util.Optional;
+
 /**
  * Adds an {@link ExpirationPolicy} parameter to all configs which might be used in a dynamic way
  *
  * @since 1.0
  */
-public class DynamicConfigDeclarationEnricher implements DeclarationEnricher {
+public class DynamicConfigDeclarationEnricher implements WalkingDeclarationEnricher {
 
   @Override
   public DeclarationEnricherPhase getExecutionPhase() {
@@ -30,10 +34,14 @@ public class DynamicConfigDeclarationEnricher implements DeclarationEnricher {
   }
 
   @Override
-  public void enrich(ExtensionLoadingContext extensionLoadingContext) {
-    extensionLoadingContext.getExtensionDeclarer().getDeclaration().getConfigurations().forEach(config -> {
-      if (canBeDynamic(config)) {
-        addExpirationPolicy(config);
+  public Optional<DeclarationEnricherWalkDelegate> getWalkDelegate(ExtensionLoadingContext extensionLoadingContext) {
+    return of(new DeclarationEnricherWalkDelegate() {
+
+      @Override
+      public void onConfiguration(ConfigurationDeclaration config) {
+        if (canBeDynamic(config)) {
+          addExpirationPolicy(config);
+        }
       }
     });
   }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader.enricher;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.meta.model.operation.ExecutionType.BLOCKING;
+import static org.mule.runtime.extension.api.loader.DeclarationEnricherPhase.POST_STRUCTURE;
+
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.SourceDeclaration;
+import org.mule.runtime.api.meta.model.operation.ExecutionType;
+import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.IdempotentDeclarationEnricherWalkDelegate;
+import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
+import org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty;
+
+import java.util.Optional;
+
+/**
+ * Propagates the {@link VirtualThreadCompatibleModelProperty} of an extension to all of its sources and its
+ * {@link ExecutionType#BLOCKING blocking} operations which don't carry one of their own. Operations of other execution types
+ * don't block, so they have no use for virtual threads.
+ * <p>
+ * Runs after the {@link ExecutionTypeDeclarationEnricher}, so that the execution type of all the operations is already
+ * resolved.
+ *
+ * @since 1.8
+ */
+public final class VirtualThreadCompatibilityDeclarationEnricher implements WalkingDeclarationEnricher {
+
+  @Override
+  public DeclarationEnricherPhase getExecutionPhase() {
+    return POST_STRUCTURE;
+  }
+
+  @Override
+  public Optional<DeclarationEnricherWalkDelegate> getWalkDelegate(ExtensionLoadingContext extensionLoadingContext) {
+    ExtensionDeclaration extensionDeclaration = extensionLoadingContext.getExtensionDeclarer().getDeclaration();
+    Optional<VirtualThreadCompatibleModelProperty> extensionProperty =
+        extensionDeclaration.getModelProperty(VirtualThreadCompatibleModelProperty.class);
+    if (!extensionProperty.isPresent()) {
+      return empty();
+    }
+
+    VirtualThreadCompatibleModelProperty property = extensionProperty.get();
+    return of(new IdempotentDeclarationEnricherWalkDelegate() {
+
+      @Override
+      protected void onOperation(OperationDeclaration declaration) {
+        if (declaration.getExecutionType() == BLOCKING
+            && !declaration.getModelProperty(VirtualThreadCompatibleModelProperty.class).isPresent()) {
+          declaration.addModelProperty(property);
+        }
+      }
+
+      @Override
+      protected void onSource(SourceDeclaration declaration) {
+        if (!declaration.getModelProperty(VirtualThreadCompatibleModelProperty.class).isPresent()) {
+          declaration.addModelProperty(property);
+        }
+      }
+    });
+  }
+}
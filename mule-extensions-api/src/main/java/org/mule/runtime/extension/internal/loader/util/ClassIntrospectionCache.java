@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader.util;
+
+import static org.mule.runtime.extension.api.declaration.type.TypeUtils.isParameter;
+import static org.mule.runtime.extension.api.declaration.type.TypeUtils.isParameterGroup;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import org.mule.runtime.api.meta.ExpressionSupport;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps, for each introspected {@link Class}, the outcome of the reflective lookups that the extension loading performs
+ * repeatedly on it: its hierarchy, its fields, which of them are parameters, and the values of the annotations which may be
+ * present in either their legacy or their SDK flavour (such as the alias or the expression support).
+ * <p>
+ * The information is kept in a {@link ClassValue}, so it doesn't prevent the introspected classes from being unloaded.
+ * <p>
+ * This class is not part of the API and should not be used by anyone (or anything) but the runtime. Backwards compatibility not
+ * guaranteed on this class.
+ *
+ * @since 1.8
+ */
+public final class ClassIntrospectionCache {
+
+  private static final ClassValue<Hierarchy> HIERARCHIES = new ClassValue<Hierarchy>() {
+
+    @Override
+    protected Hierarchy computeValue(Class<?> type) {
+      return new Hierarchy(type);
+    }
+  };
+
+  private static final ClassValue<DeclaredFields> DECLARED_FIELDS = new ClassValue<DeclaredFields>() {
+
+    @Override
+    protected DeclaredFields computeValue(Class<?> type) {
+      return new DeclaredFields();
+    }
+  };
+
+  private static final ClassValue<String> ALIASES = new ClassValue<String>() {
+
+    @Override
+    protected String computeValue(Class<?> type) {
+      return JavaParserUtils.getAlias(type, type::getSimpleName);
+    }
+  };
+
+  private ClassIntrospectionCache() {}
+
+  /**
+   * @param type a type
+   * @return an unmodifiable list with the given {@code type} and all its super classes, without including {@link Object}
+   */
+  public static List<Class<?>> getAllSuperClasses(Class<?> type) {
+    return isIntrospectable(type) ? HIERARCHIES.get(type).superClasses : emptyList();
+  }
+
+  /**
+   * @param type a type
+   * @return an unmodifiable list with the fields of the given {@code type} and its super classes
+   */
+  public static List<Field> getAllFields(Class<?> type) {
+    return isIntrospectable(type) ? HIERARCHIES.get(type).allFields : emptyList();
+  }
+
+  /**
+   * @param type a type
+   * @return an unmodifiable list with the fields of the given {@code type} and its super classes which are parameters or
+   *         parameter groups
+   */
+  public static List<Field> getParameterFields(Class<?> type) {
+    return isIntrospectable(type) ? HIERARCHIES.get(type).parameterFields : emptyList();
+  }
+
+  /**
+   * @param type a type
+   * @return the alias of the given {@code type}, as defined by any of the {@code @Alias} annotations
+   */
+  public static String getAlias(Class<?> type) {
+    return ALIASES.get(type);
+  }
+
+  /**
+   * @param field a field
+   * @return the alias of the given {@code field}, as defined by any of the {@code @Alias} annotations
+   */
+  public static String getAlias(Field field) {
+    return DECLARED_FIELDS.get(field.getDeclaringClass()).aliases
+        .computeIfAbsent(field.getName(), name -> JavaParserUtils.getAlias(field, field::getName));
+  }
+
+  /**
+   * @param field a field
+   * @return the {@link ExpressionSupport} defined for the given {@code field}, if defined. {@link Optional#empty()} otherwise.
+   */
+  public static Optional<ExpressionSupport> getExpressionSupport(Field field) {
+    return DECLARED_FIELDS.get(field.getDeclaringClass()).expressionSupports
+        .computeIfAbsent(field.getName(), name -> JavaParserUtils.resolveExpressionSupport(field));
+  }
+
+  private static boolean isIntrospectable(Class<?> type) {
+    return type != null && !type.equals(Object.class);
+  }
+
+  private static final class Hierarchy {
+
+    private final List<Class<?>> superClasses;
+    private final List<Field> allFields;
+    private final List<Field> parameterFields;
+
+    private Hierarchy(Class<?> type) {
+      List<Class<?>> superClasses = new ArrayList<>();
+      superClasses.add(type);
+      List<Field> allFields = new ArrayList<>(asList(type.getDeclaredFields()));
+
+      // the hierarchy is built on top of the one of the super class, which is introspected only once as well
+      Class<?> superClass = type.getSuperclass();
+      superClasses.addAll(getAllSuperClasses(superClass));
+      allFields.addAll(getAllFields(superClass));
+
+      List<Field> parameterFields = new ArrayList<>();
+      for (Field field : allFields) {
+        if (isParameter(field) || isParameterGroup(field)) {
+          parameterFields.add(field);
+        }
+      }
+
+      this.superClasses = unmodifiableList(superClasses);
+      this.allFields = unmodifiableList(allFields);
+      this.parameterFields = unmodifiableList(parameterFields);
+    }
+  }
+
+  /**
+   * The values resolved for the fields declared by a class, by field name. Each value is resolved the first time it is requested,
+   * so a field with an invalid definition does not prevent the values of the other fields from being resolved. Since a value is
+   * only kept when resolved successfully, looking it up again fails again.
+   */
+  private static final class DeclaredFields {
+
+    private final Map<String, String> aliases = new ConcurrentHashMap<>();
+    private final Map<String, Optional<ExpressionSupport>> expressionSupports = new ConcurrentHashMap<>();
+  }
+}
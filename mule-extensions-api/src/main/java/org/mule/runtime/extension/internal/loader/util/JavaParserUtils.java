@@ -45,7 +45,7 @@ public final class JavaParserUtils {
    * @return the field's alias, as defined by any of the {@code @Alias} annotations
    */
   public static String getAlias(Field field) {
-    return getAlias(field::getAnnotation, field::getName);
+    return ClassIntrospectionCache.getAlias(field);
   }
 
   /**
@@ -53,7 +53,7 @@ public final class JavaParserUtils {
    * @return the class alias, as defined by any of the {@code @Alias} annotations
    */
   public static String getAlias(Class<?> clazz) {
-    return getAlias(clazz::getAnnotation, clazz::getSimpleName);
+    return ClassIntrospectionCache.getAlias(clazz);
   }
 
   /**
@@ -98,6 +98,12 @@ public final class JavaParserUtils {
    * @return the {@link ExpressionSupport} defined for the element, if defined. {@link Optional#empty()} otherwise.
    */
   public static Optional<ExpressionSupport> getExpressionSupport(AnnotatedElement element) {
+    return element instanceof Field
+        ? ClassIntrospectionCache.getExpressionSupport((Field) element)
+        : resolveExpressionSupport(element);
+  }
+
+  static Optional<ExpressionSupport> resolveExpressionSupport(AnnotatedElement element) {
     return mapReduceAnnotation(element::getAnnotation,
                                Expression.class,
                                org.mule.sdk.api.annotation.Expression.class,
@@ -8,27 +8,75 @@ package org.mule.runtime.extension.internal.property;
 
 import org.mule.runtime.api.meta.model.ModelProperty;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.extension.api.runtime.streaming.ParallelPagingProvider;
+import org.mule.runtime.extension.api.runtime.streaming.PrefetchingPagingProvider;
 
 /**
  * A marker {@link ModelProperty} to signal that the owning {@link OperationModel} is paged.
+ * <p>
+ * It also tells whether the pages of the operation can be {@link PrefetchingPagingProvider prefetched} or
+ * {@link ParallelPagingProvider fetched in parallel}, so that runtimes can get ready for it.
  *
  * @since 1.0
  */
 public class PagedOperationModelProperty implements ModelProperty {
 
+  public static final String NAME = "paged";
+
+  private final boolean prefetching;
+  private final boolean parallel;
+
+  /**
+   * Creates a new instance for an operation which pages can only be fetched one at a time.
+   */
+  public PagedOperationModelProperty() {
+    this(false, false);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param prefetching whether the pages of the operation can be fetched ahead of the consumer
+   * @param parallel    whether many pages of the operation can be fetched concurrently. Implies {@code prefetching}
+   * @since 1.8
+   */
+  public PagedOperationModelProperty(boolean prefetching, boolean parallel) {
+    this.prefetching = prefetching || parallel;
+    this.parallel = parallel;
+  }
+
+  /**
+   * @return whether the operation returns a {@link PrefetchingPagingProvider}
+   * @since 1.8
+   */
+  public boolean isPrefetching() {
+    return prefetching;
+  }
+
+  /**
+   * @return whether the operation returns a {@link ParallelPagingProvider}
+   * @since 1.8
+   */
+  public boolean isParallel() {
+    return parallel;
+  }
+
   /**
    * @return {@code paged}
    */
   @Override
   public String getName() {
-    return "paged";
+    return NAME;
   }
 
   /**
-   * @return {@code false}
+   * Only the properties of operations which pages can be prefetched are serialized, so that the representation of the rest of
+   * the paged operations is the same as before prefetching was supported.
+   *
+   * @return whether the pages of the operation can be prefetched
    */
   @Override
   public boolean isPublic() {
-    return false;
+    return prefetching;
   }
 }
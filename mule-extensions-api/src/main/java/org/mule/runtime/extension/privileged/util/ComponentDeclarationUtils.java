@@ -19,6 +19,8 @@ import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.tx.TransactionType;
 import org.mule.runtime.extension.api.ExtensionConstants;
+import org.mule.runtime.extension.api.runtime.streaming.ParallelPagingProvider;
+import org.mule.runtime.extension.api.runtime.streaming.PrefetchingPagingProvider;
 import org.mule.runtime.extension.internal.property.NoConnectivityErrorModelProperty;
 import org.mule.runtime.extension.internal.property.NoErrorMappingModelProperty;
 import org.mule.runtime.extension.internal.property.NoReconnectionStrategyModelProperty;
@@ -113,6 +115,19 @@ public final class ComponentDeclarationUtils {
     declarer.withModelProperty(new PagedOperationModelProperty());
   }
 
+  /**
+   * Marks that the component being declared by the {@code declarer} is paged, and whether its pages can be fetched ahead of the
+   * consumer or concurrently.
+   *
+   * @param declarer    the declarer of the component to mark.
+   * @param prefetching whether the component returns a {@link PrefetchingPagingProvider}
+   * @param parallel    whether the component returns a {@link ParallelPagingProvider}
+   * @since 1.8
+   */
+  public static void asPagedOperation(ComponentDeclarer declarer, boolean prefetching, boolean parallel) {
+    declarer.withModelProperty(new PagedOperationModelProperty(prefetching, parallel));
+  }
+
   /**
    * @param componentModel the component to check for.
    * @return whether {@code componentModel} may not have a configuring transactionalAction.
@@ -137,6 +152,28 @@ public final class ComponentDeclarationUtils {
     return componentModel.getModelProperty(PagedOperationModelProperty.class).isPresent();
   }
 
+  /**
+   * @param componentModel the component to check for.
+   * @return whether {@code componentModel} is paged and its pages can be fetched ahead of the consumer.
+   * @since 1.8
+   */
+  public static boolean isPrefetchingPagedOperation(ComponentModel componentModel) {
+    return componentModel.getModelProperty(PagedOperationModelProperty.class)
+        .map(PagedOperationModelProperty::isPrefetching)
+        .orElse(false);
+  }
+
+  /**
+   * @param componentModel the component to check for.
+   * @return whether {@code componentModel} is paged and many of its pages can be fetched concurrently.
+   * @since 1.8
+   */
+  public static boolean isParallelPagedOperation(ComponentModel componentModel) {
+    return componentModel.getModelProperty(PagedOperationModelProperty.class)
+        .map(PagedOperationModelProperty::isParallel)
+        .orElse(false);
+  }
+
   /**
    * @param paramModel the parameter to check for.
    * @return whether {@code paramModel} is the parameter considered to inject the value of the Transactional Action.
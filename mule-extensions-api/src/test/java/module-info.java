@@ -34,6 +34,7 @@ module org.mule.runtime.extensions.api.test {
   requires jsonassert;
 
   exports org.mule.runtime.extension.api.test;
+  exports org.mule.runtime.extension.api.test.client;
   exports org.mule.runtime.extension.api.test.declaration;
   exports org.mule.runtime.extension.api.test.declaration.fluent;
   exports org.mule.runtime.extension.api.test.declaration.fluent.util;
@@ -49,6 +50,7 @@ module org.mule.runtime.extensions.api.test {
   exports org.mule.runtime.extension.api.test.internal.loader.validator;
   exports org.mule.runtime.extension.api.test.internal.semantic;
   exports org.mule.runtime.extension.api.test.mimetype;
+  exports org.mule.runtime.extension.api.test.model;
   exports org.mule.runtime.extension.api.test.runtime;
   exports org.mule.runtime.extension.api.test.runtime.operation;
   exports org.mule.runtime.extension.api.test.runtime.parameters;
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.client;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import org.mule.runtime.extension.api.client.ExtensionsClient;
+import org.mule.runtime.extension.api.client.OperationInvocation;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ExtensionsClientTestCase {
+
+  private static final String EXTENSION = "extension";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private ExtensionsClient client;
+
+  @Before
+  public void before() {
+    client = mock(ExtensionsClient.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+  }
+
+  @Test
+  @Description("No more than the given amount of invocations are in flight at any time")
+  public void executeAllBoundsConcurrency() throws Exception {
+    List<CompletableFuture<Result<Object, Object>>> executions = new ArrayList<>();
+    doAnswer(inv -> {
+      CompletableFuture<Result<Object, Object>> execution = new CompletableFuture<>();
+      executions.add(execution);
+      return execution;
+    }).when(client).execute(anyString(), anyString(), any(Consumer.class));
+
+    List<CompletableFuture<Result<Object, Object>>> results = client.executeAll(invocations(4), 2);
+    assertThat(results, hasSize(4));
+    assertThat(executions, hasSize(2));
+
+    Result<Object, Object> result = Result.builder().output("first").build();
+    executions.get(0).complete(result);
+    assertThat(results.get(0).get(), is(sameInstance(result)));
+    assertThat(executions, hasSize(3));
+
+    executions.get(2).complete(result);
+    executions.get(1).complete(result);
+    assertThat(executions, hasSize(4));
+    assertThat(results.get(3).isDone(), is(false));
+  }
+
+  @Test
+  @Description("Invocations which complete synchronously don't make the stack grow")
+  public void executeAllSynchronously() {
+    doAnswer(inv -> completedFuture(Result.builder().output(inv.getArgument(1)).build()))
+        .when(client).execute(anyString(), anyString(), any(Consumer.class));
+
+    List<CompletableFuture<Result<Object, Object>>> results = client.executeAll(invocations(10000), 1);
+
+    assertThat(results, hasSize(10000));
+    for (int i = 0; i < results.size(); i++) {
+      assertThat(results.get(i).join().getOutput(), is("operation" + i));
+    }
+  }
+
+  @Test
+  @Description("The failure of an invocation doesn't prevent the rest from being executed")
+  public void executeAllWithFailure() throws Exception {
+    doAnswer(inv -> completedFuture(Result.builder().output(inv.getArgument(1)).build()))
+        .when(client).execute(anyString(), anyString(), any(Consumer.class));
+    IllegalStateException failure = new IllegalStateException();
+    doThrow(failure).when(client).execute(anyString(), eq("operation0"), any(Consumer.class));
+
+    List<CompletableFuture<Result<Object, Object>>> results = client.executeAll(invocations(2), 1);
+
+    assertThat(results.get(1).get().getOutput(), is("operation1"));
+    expectedException.expect(ExecutionException.class);
+    expectedException.expectCause(is(sameInstance(failure)));
+    results.get(0).get();
+  }
+
+  @Test
+  public void executeAllWithoutConcurrency() {
+    expectedException.expect(IllegalArgumentException.class);
+    client.executeAll(invocations(1), 0);
+  }
+
+  private List<OperationInvocation> invocations(int count) {
+    List<OperationInvocation> invocations = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      invocations.add(OperationInvocation.of(EXTENSION, "operation" + i, parameters -> parameters.withConfigRef("config")));
+    }
+    return invocations;
+  }
+}
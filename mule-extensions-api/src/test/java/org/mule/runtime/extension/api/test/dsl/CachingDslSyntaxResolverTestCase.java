@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.dsl;
+
+import static java.util.Optional.of;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.extension.api.dsl.syntax.DslElementSyntax;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.CachingDslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CachingDslSyntaxResolverTestCase {
+
+  private DslSyntaxResolver delegate;
+  private DslSyntaxResolver resolver;
+
+  @Before
+  public void before() {
+    delegate = mock(DslSyntaxResolver.class);
+    when(delegate.resolve(any(NamedObject.class))).thenAnswer(inv -> mock(DslElementSyntax.class));
+    when(delegate.resolve(any(ParameterModel.class))).thenAnswer(inv -> mock(DslElementSyntax.class));
+    when(delegate.resolve(any(MetadataType.class))).thenAnswer(inv -> of(mock(DslElementSyntax.class)));
+    when(delegate.resolveInline(any(ParameterGroupModel.class))).thenAnswer(inv -> mock(DslElementSyntax.class));
+
+    resolver = new CachingDslSyntaxResolver(delegate);
+  }
+
+  @Test
+  @Description("Each element is resolved through the delegate only once")
+  public void resolutionsAreMemoized() {
+    NamedObject component = mock(NamedObject.class);
+    ParameterModel parameter = mock(ParameterModel.class);
+    MetadataType type = mock(MetadataType.class);
+    ParameterGroupModel group = mock(ParameterGroupModel.class);
+
+    assertThat(resolver.resolve(component), is(sameInstance(resolver.resolve(component))));
+    assertThat(resolver.resolve(parameter), is(sameInstance(resolver.resolve(parameter))));
+    assertThat(resolver.resolve(type), is(resolver.resolve(type)));
+    assertThat(resolver.resolveInline(group), is(sameInstance(resolver.resolveInline(group))));
+
+    verify(delegate, times(1)).resolve(component);
+    verify(delegate, times(1)).resolve(parameter);
+    verify(delegate, times(1)).resolve(type);
+    verify(delegate, times(1)).resolveInline(group);
+  }
+
+  @Test
+  @Description("Elements which are equal but not the same instance are resolved separately")
+  public void resolutionsAreKeyedByIdentity() {
+    ParameterModel parameter = mock(ParameterModel.class);
+    ParameterModel otherParameter = mock(ParameterModel.class);
+
+    assertThat(resolver.resolve(parameter), is(not(sameInstance(resolver.resolve(otherParameter)))));
+  }
+
+  @Test
+  public void concurrentResolutions() throws Exception {
+    ParameterModel parameter = mock(ParameterModel.class);
+
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<DslElementSyntax>> results = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        results.add(executor.submit(() -> resolver.resolve(parameter)));
+      }
+
+      DslElementSyntax expected = resolver.resolve(parameter);
+      for (Future<DslElementSyntax> result : results) {
+        assertThat(result.get(), is(sameInstance(expected)));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(delegate, times(1)).resolve(parameter);
+  }
+}
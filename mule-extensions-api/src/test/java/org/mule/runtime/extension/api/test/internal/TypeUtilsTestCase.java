@@ -6,13 +6,22 @@
  */
 package org.mule.runtime.extension.api.test.internal;
 
+import static org.mule.runtime.api.meta.ExpressionSupport.REQUIRED;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import org.mule.runtime.extension.api.annotation.Alias;
+import org.mule.runtime.extension.api.annotation.Expression;
 import org.mule.runtime.extension.api.annotation.param.Parameter;
 import org.mule.runtime.extension.api.annotation.param.ParameterGroup;
 import org.mule.runtime.extension.api.declaration.type.TypeUtils;
+import org.mule.runtime.extension.internal.loader.util.JavaParserUtils;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
@@ -31,6 +40,39 @@ public class TypeUtilsTestCase {
   }
 
 
+  @Test
+  public void getParameterFieldsIncludesSuperClasses() {
+    Collection<Field> fields = TypeUtils.getParameterFields(ChildTestObject.class);
+
+    assertThat(fields.stream().map(Field::getName).collect(toList()),
+               containsInAnyOrder("name", "description", "group", "childName"));
+  }
+
+  @Test
+  public void getAllSuperClasses() {
+    assertThat(TypeUtils.getAllSuperClasses(ChildTestObject.class), contains(ChildTestObject.class, TestObject.class));
+  }
+
+  @Test
+  public void introspectionReturnsIndependentCollections() {
+    TypeUtils.getAllFields(TestObject.class).clear();
+    assertThat(TypeUtils.getAllFields(TestObject.class), hasSize(3));
+  }
+
+  @Test
+  public void aliases() throws Exception {
+    assertThat(JavaParserUtils.getAlias(ChildTestObject.class), is("child"));
+    assertThat(JavaParserUtils.getAlias(ChildTestObject.class.getDeclaredField("childName")), is("aliasedName"));
+    assertThat(JavaParserUtils.getAlias(TestObject.class.getDeclaredField("name")), is("name"));
+  }
+
+  @Test
+  public void expressionSupports() throws Exception {
+    assertThat(JavaParserUtils.getExpressionSupport(ChildTestObject.class.getDeclaredField("childName")), is(of(REQUIRED)));
+    assertThat(JavaParserUtils.getExpressionSupport(TestObject.class.getDeclaredField("name")), is(empty()));
+  }
+
+
   public static class TestObject {
 
     @Parameter
@@ -44,6 +86,16 @@ public class TypeUtilsTestCase {
   }
 
 
+  @Alias("child")
+  public static class ChildTestObject extends TestObject {
+
+    @Parameter
+    @Alias("aliasedName")
+    @Expression(REQUIRED)
+    private String childName;
+  }
+
+
   public static class TestParameterGroup {
 
     @Parameter
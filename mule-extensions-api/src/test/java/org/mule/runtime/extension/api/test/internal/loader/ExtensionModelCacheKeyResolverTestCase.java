@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelCacheKeyResolver.resolveCacheKey;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.write;
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.artifact.ArtifactCoordinates;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import io.qameta.allure.Description;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExtensionModelCacheKeyResolverTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ExtensionModelLoader loader = new TestLoader();
+  private final ExtensionModelFactory factory = new ExtensionModelFactory();
+  private final ArtifactCoordinates coordinates = mock(ArtifactCoordinates.class);
+
+  private File jar;
+  private URLClassLoader classLoader;
+
+  @Before
+  public void before() throws Exception {
+    when(coordinates.getGroupId()).thenReturn("org.mule.test");
+    when(coordinates.getArtifactId()).thenReturn("test-extension");
+    when(coordinates.getVersion()).thenReturn("1.0.0");
+
+    jar = temporaryFolder.newFile("extension.jar");
+    writeJar(jar, "original");
+    classLoader = new URLClassLoader(new URL[] {jar.toURI().toURL()}, null);
+  }
+
+  @After
+  public void after() throws IOException {
+    classLoader.close();
+  }
+
+  @Test
+  @Description("The same inputs always resolve to the same key")
+  public void sameInputsSameKey() {
+    assertThat(keyFor(request().build()), equalTo(keyFor(request().build())));
+  }
+
+  @Test
+  @Description("Changing the content of the jars of the extension changes the key")
+  public void jarContentChangesKey() throws Exception {
+    Optional<String> original = keyFor(request().build());
+    long lastModified = jar.lastModified();
+    writeJar(jar, "modified");
+    // as it would be when rewritten later on, even on file systems with a coarse timestamp resolution
+    jar.setLastModified(lastModified + 2000);
+
+    assertThat(keyFor(request().build()), is(not(original)));
+  }
+
+  @Test
+  @Description("Jars are digested only once for as long as their size and modification time stay the same")
+  public void unchangedJarsNotDigestedAgain() throws Exception {
+    Optional<String> original = keyFor(request().build());
+    long lastModified = jar.lastModified();
+    write(jar.toPath(), new byte[(int) jar.length()]);
+    jar.setLastModified(lastModified);
+
+    assertThat(keyFor(request().build()), is(original));
+  }
+
+  @Test
+  @Description("Parameters added to the context after the request was built are part of the key")
+  public void contextParametersChangeKey() {
+    DefaultExtensionLoadingContext context = context(request().build());
+    Optional<String> original = resolveCacheKey(loader, factory, context);
+    context.addParameter("configured", "value");
+
+    assertThat(resolveCacheKey(loader, factory, context), is(not(original)));
+  }
+
+  @Test
+  @Description("Enrichers added to the context are part of the key")
+  public void contextEnrichersChangeKey() {
+    DefaultExtensionLoadingContext context = context(request().build());
+    Optional<String> original = resolveCacheKey(loader, factory, context);
+    context.addCustomDeclarationEnricher(new TestEnricher());
+
+    assertThat(resolveCacheKey(loader, factory, context), is(not(original)));
+  }
+
+  @Test
+  public void differentLoaderChangesKey() {
+    ExtensionModelLoadingRequest request = request().build();
+
+    assertThat(resolveCacheKey(new TestLoader() {}, factory, context(request)), is(not(keyFor(request))));
+  }
+
+  @Test
+  public void noKeyWithoutCoordinates() {
+    assertThat(keyFor(builder(classLoader, getDefault(emptySet())).build()), is(Optional.empty()));
+  }
+
+  @Test
+  public void noKeyForNonUrlClassLoader() {
+    ExtensionModelLoadingRequest request = builder(new ClassLoader(null) {}, getDefault(emptySet()))
+        .setArtifactCoordinates(coordinates)
+        .build();
+
+    assertThat(keyFor(request), is(Optional.empty()));
+  }
+
+  @Test
+  @Description("Exploded folders may change without any trace, so no key is computed for them")
+  public void noKeyForFolders() throws Exception {
+    try (URLClassLoader folderClassLoader =
+        new URLClassLoader(new URL[] {temporaryFolder.newFolder().toURI().toURL()}, null)) {
+      ExtensionModelLoadingRequest request = builder(folderClassLoader, getDefault(emptySet()))
+          .setArtifactCoordinates(coordinates)
+          .build();
+
+      assertThat(keyFor(request), is(Optional.empty()));
+    }
+  }
+
+  @Test
+  @Description("There's no way to tell whether arbitrary objects affect the loading in the same way, so no key is computed")
+  public void noKeyForComplexParameters() {
+    assertThat(keyFor(request().addParameter("complex", new Object()).build()), is(Optional.empty()));
+  }
+
+  private ExtensionModelLoadingRequest.Builder request() {
+    return builder(classLoader, getDefault(emptySet())).setArtifactCoordinates(coordinates);
+  }
+
+  private Optional<String> keyFor(ExtensionModelLoadingRequest request) {
+    return resolveCacheKey(loader, factory, context(request));
+  }
+
+  private DefaultExtensionLoadingContext context(ExtensionModelLoadingRequest request) {
+    return new DefaultExtensionLoadingContext(new ExtensionDeclarer(), request);
+  }
+
+  private static void writeJar(File jar, String content) throws IOException {
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("content.txt"));
+      out.write(content.getBytes(UTF_8));
+      out.closeEntry();
+    }
+  }
+
+  private static class TestLoader extends ExtensionModelLoader {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {}
+  }
+
+  private static class TestEnricher implements DeclarationEnricher {
+
+    @Override
+    public DeclarationEnricherPhase getExecutionPhase() {
+      return DeclarationEnricherPhase.POST_STRUCTURE;
+    }
+
+    @Override
+    public void enrich(ExtensionLoadingContext extensionLoadingContext) {}
+  }
+}
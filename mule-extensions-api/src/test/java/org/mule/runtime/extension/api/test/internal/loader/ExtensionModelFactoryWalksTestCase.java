@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.DECLARATION_WALKS_COUNT;
+
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.mule.metadata.api.builder.WithAnnotation;
+import org.mule.metadata.api.model.BooleanType;
+import org.mule.metadata.java.api.annotation.ClassInformationAnnotation;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer;
+import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+
+import io.qameta.allure.Description;
+import org.junit.Test;
+
+public class ExtensionModelFactoryWalksTestCase {
+
+  private final TestWebServiceConsumerDeclarer reference = new TestWebServiceConsumerDeclarer() {
+
+    @Override
+    protected BooleanType getBooleanType() {
+      return super.withType(typeBuilder.booleanType(), Boolean.class).build();
+    }
+
+    @Override
+    protected <T extends WithAnnotation<?>> T withType(T builder, Class<?> type) {
+      return (T) super.withType(builder, type)
+          .with(new ClassInformationAnnotation(type));
+    }
+  };
+
+  @Test
+  @Description("The built-in enrichers are applied with at most one walk over the declaration per enricher phase")
+  public void atMostOneWalkPerPhase() {
+    ExtensionDeclarer declarer = new ExtensionDeclarer();
+    reference.declareOn(declarer);
+    ExtensionLoadingContext context =
+        new DefaultExtensionLoadingContext(declarer, builder(getClass().getClassLoader(), getDefault(emptySet())).build());
+
+    new ExtensionModelFactory().create(context);
+
+    int walks = context.<Integer>getParameter(DECLARATION_WALKS_COUNT).get();
+    assertThat(walks, greaterThan(0));
+    assertThat(walks, lessThanOrEqualTo(DeclarationEnricherPhase.values().length));
+  }
+}
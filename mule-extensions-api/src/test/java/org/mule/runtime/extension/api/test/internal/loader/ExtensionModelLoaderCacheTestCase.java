@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+import static java.util.Optional.ofNullable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.metadata.api.builder.WithAnnotation;
+import org.mule.metadata.api.model.BooleanType;
+import org.mule.metadata.java.api.annotation.ClassInformationAnnotation;
+import org.mule.runtime.api.artifact.ArtifactCoordinates;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelCache;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.JarOutputStream;
+
+import io.qameta.allure.Description;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExtensionModelLoaderCacheTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final InMemoryCache cache = new InMemoryCache();
+  private final ArtifactCoordinates coordinates = mock(ArtifactCoordinates.class);
+
+  private URLClassLoader classLoader;
+
+  @Before
+  public void before() throws Exception {
+    when(coordinates.getGroupId()).thenReturn("org.mule.test");
+    when(coordinates.getArtifactId()).thenReturn("test-extension");
+    when(coordinates.getVersion()).thenReturn("1.0.0");
+
+    File jar = temporaryFolder.newFile("extension.jar");
+    new JarOutputStream(new FileOutputStream(jar)).close();
+    classLoader = new URLClassLoader(new URL[] {jar.toURI().toURL()}, null);
+  }
+
+  @After
+  public void after() throws IOException {
+    classLoader.close();
+  }
+
+  @Test
+  @Description("On a miss, the model is built and stored in the cache")
+  public void miss() {
+    CountingLoader loader = new CountingLoader(null);
+    ExtensionModel model = loader.loadExtensionModel(request().build());
+
+    assertThat(loader.declarations, is(1));
+    assertThat(cache.entries, is(aMapWithSize(1)));
+    assertThat(cache.entries.values().iterator().next(), is(sameInstance(model)));
+  }
+
+  @Test
+  @Description("On a hit, the cached model is returned without declaring the extension")
+  public void hit() {
+    ExtensionModel model = new CountingLoader(null).loadExtensionModel(request().build());
+
+    CountingLoader loader = new CountingLoader(null);
+    assertThat(loader.loadExtensionModel(request().build()), is(sameInstance(model)));
+    assertThat(loader.declarations, is(0));
+  }
+
+  @Test
+  @Description("What the loader configures on the context before declaring the extension is part of the key")
+  public void configuredContextIsPartOfTheKey() {
+    ExtensionModel model = new CountingLoader("first").loadExtensionModel(request().build());
+
+    CountingLoader loader = new CountingLoader("second");
+    assertThat(loader.loadExtensionModel(request().build()), is(not(sameInstance(model))));
+    assertThat(loader.declarations, is(1));
+    assertThat(cache.entries, is(aMapWithSize(2)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  @Description("Cached models may be partial, so using a cache requires the caller to only need the public model")
+  public void cacheRequiresPublicModelOnly() {
+    builder(classLoader, getDefault(emptySet())).setExtensionModelCache(cache).build();
+  }
+
+  private ExtensionModelLoadingRequest.Builder request() {
+    return builder(classLoader, getDefault(emptySet()))
+        .setArtifactCoordinates(coordinates)
+        .setExtensionModelCache(cache)
+        .setPublicModelOnly(true);
+  }
+
+  private static class CountingLoader extends ExtensionModelLoader {
+
+    private final String configuredParameter;
+    private int declarations;
+
+    private CountingLoader(String configuredParameter) {
+      this.configuredParameter = configuredParameter;
+    }
+
+    @Override
+    public String getId() {
+      return "counting";
+    }
+
+    @Override
+    protected void configureContextBeforeDeclaration(ExtensionLoadingContext context) {
+      if (configuredParameter != null) {
+        context.addParameter("configured", configuredParameter);
+      }
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      declarations++;
+      new TestWebServiceConsumerDeclarer() {
+
+        @Override
+        protected BooleanType getBooleanType() {
+          return super.withType(typeBuilder.booleanType(), Boolean.class).build();
+        }
+
+        @Override
+        protected <T extends WithAnnotation<?>> T withType(T builder, Class<?> type) {
+          return (T) super.withType(builder, type)
+              .with(new ClassInformationAnnotation(type));
+        }
+      }.declareOn(context.getExtensionDeclarer());
+    }
+  }
+
+  private static class InMemoryCache implements ExtensionModelCache {
+
+    private final Map<String, ExtensionModel> entries = new HashMap<>();
+
+    @Override
+    public Optional<ExtensionModel> get(String key) {
+      return ofNullable(entries.get(key));
+    }
+
+    @Override
+    public void put(String key, ExtensionModel extensionModel) {
+      entries.put(key, extensionModel);
+    }
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.extension.api.loader.DeclarationEnricherPhase.POST_STRUCTURE;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.DECLARATION_WALKS_COUNT;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.PROBLEMS_HANDLER;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptySet;
+import static java.util.Optional.of;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import org.mule.metadata.api.builder.WithAnnotation;
+import org.mule.metadata.api.model.BooleanType;
+import org.mule.metadata.java.api.annotation.ClassInformationAnnotation;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingListener;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingStatistics;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.Problem;
+import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
+import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+import org.mule.runtime.extension.privileged.loader.ProblemsHandler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import io.qameta.allure.Description;
+import org.junit.After;
+import org.junit.Test;
+
+public class ExtensionModelLoadingListenerTestCase {
+
+  private final ExecutorService executor = newFixedThreadPool(2);
+  private final TestWebServiceConsumerDeclarer reference = new TestWebServiceConsumerDeclarer() {
+
+    @Override
+    protected BooleanType getBooleanType() {
+      return super.withType(typeBuilder.booleanType(), Boolean.class).build();
+    }
+
+    @Override
+    protected <T extends WithAnnotation<?>> T withType(T builder, Class<?> type) {
+      return (T) super.withType(builder, type)
+          .with(new ClassInformationAnnotation(type));
+    }
+  };
+
+  private final RecordingListener listener = new RecordingListener();
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @Description("Every enricher, walk and phase is notified to the listener along with its statistics")
+  public void enrichmentNotified() {
+    DeclarationEnricher plainEnricher = new PlainEnricher();
+    DeclarationEnricher walkingEnricher = new NoOpWalkingEnricher();
+    ExtensionLoadingContext context = createContext(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .addEnricher(plainEnricher)
+        .addEnricher(walkingEnricher)
+        .setLoadingListener(listener));
+
+    new ExtensionModelFactory().create(context);
+
+    assertThat(listener.enrichers.get(plainEnricher).getItemsCount(), is(ExtensionModelLoadingStatistics.UNKNOWN));
+    assertThat(listener.enrichers.get(walkingEnricher).getItemsCount(),
+               is(listener.walks.get(POST_STRUCTURE).getItemsCount()));
+    assertThat(listener.walks.size(), equalTo(context.<Integer>getParameter(DECLARATION_WALKS_COUNT).get()));
+    listener.walks.values().forEach(walk -> assertThat(walk.getItemsCount(), greaterThan(0L)));
+
+    long enrichersInPhases = listener.phases.stream().mapToLong(ExtensionModelLoadingStatistics::getItemsCount).sum();
+    assertThat(enrichersInPhases, is((long) listener.enrichers.size()));
+    listener.allStatistics().forEach(statistics -> {
+      assertThat(statistics.getExtensionName(), equalTo(context.getExtensionDeclarer().getDeclaration().getName()));
+      assertThat(statistics.getElapsedNanos(), greaterThanOrEqualTo(0L));
+    });
+  }
+
+  @Test
+  @Description("Validators are notified along with the amount of problems they found")
+  public void validationNotified() {
+    ExtensionModelValidator validator = new WarningValidator();
+    ExtensionLoadingContext context = createContext(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .setForceExtensionValidation(true)
+        .addParameter(PROBLEMS_HANDLER, (ProblemsHandler) problemsReporter -> {
+        })
+        .addValidator(validator)
+        .setLoadingListener(listener));
+
+    new ExtensionModelFactory().create(context);
+
+    assertThat(listener.validators.get(validator).getItemsCount(), is(2L));
+  }
+
+  @Test
+  @Description("Validators running in parallel are notified on the loading thread, in the order they were registered")
+  public void parallelValidationNotifiedInOrder() {
+    ExtensionModelValidator first = new WarningValidator();
+    ExtensionModelValidator second = new WarningValidator();
+    ExtensionLoadingContext context = createContext(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .setForceExtensionValidation(true)
+        .addParameter(PROBLEMS_HANDLER, (ProblemsHandler) problemsReporter -> {
+        })
+        .setValidationExecutor(executor)
+        .addValidator(first)
+        .addValidator(second)
+        .setLoadingListener(listener));
+
+    new ExtensionModelFactory().create(context);
+
+    List<ExtensionModelValidator> notified = new ArrayList<>(listener.validators.keySet());
+    assertThat(notified.subList(notified.size() - 2, notified.size()), contains(sameInstance(first), sameInstance(second)));
+    assertThat(listener.validators.get(second).getItemsCount(), is(2L));
+    assertThat(listener.threads, contains(currentThread()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullListener() {
+    builder(getClass().getClassLoader(), getDefault(emptySet())).setLoadingListener(null);
+  }
+
+  private ExtensionLoadingContext createContext(ExtensionModelLoadingRequest.Builder requestBuilder) {
+    ExtensionDeclarer declarer = new ExtensionDeclarer();
+    reference.declareOn(declarer);
+    return new DefaultExtensionLoadingContext(declarer, requestBuilder.build());
+  }
+
+  private static class RecordingListener implements ExtensionModelLoadingListener {
+
+    private final Map<DeclarationEnricher, ExtensionModelLoadingStatistics> enrichers = new LinkedHashMap<>();
+    private final Map<DeclarationEnricherPhase, ExtensionModelLoadingStatistics> walks = new LinkedHashMap<>();
+    private final List<ExtensionModelLoadingStatistics> phases = new ArrayList<>();
+    private final Map<ExtensionModelValidator, ExtensionModelLoadingStatistics> validators = new LinkedHashMap<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    @Override
+    public void onEnricherApplied(DeclarationEnricher enricher, ExtensionModelLoadingStatistics statistics) {
+      enrichers.put(enricher, statistics);
+    }
+
+    @Override
+    public void onDeclarationWalked(DeclarationEnricherPhase phase, ExtensionModelLoadingStatistics statistics) {
+      walks.put(phase, statistics);
+    }
+
+    @Override
+    public void onEnricherPhaseCompleted(DeclarationEnricherPhase phase, ExtensionModelLoadingStatistics statistics) {
+      phases.add(statistics);
+    }
+
+    @Override
+    public void onValidatorApplied(ExtensionModelValidator validator, ExtensionModelLoadingStatistics statistics) {
+      validators.put(validator, statistics);
+      if (!threads.contains(currentThread())) {
+        threads.add(currentThread());
+      }
+    }
+
+    private List<ExtensionModelLoadingStatistics> allStatistics() {
+      List<ExtensionModelLoadingStatistics> all = new ArrayList<>(enrichers.values());
+      all.addAll(walks.values());
+      all.addAll(phases);
+      all.addAll(validators.values());
+      return all;
+    }
+  }
+
+  private static class PlainEnricher implements DeclarationEnricher {
+
+    @Override
+    public DeclarationEnricherPhase getExecutionPhase() {
+      return POST_STRUCTURE;
+    }
+
+    @Override
+    public void enrich(ExtensionLoadingContext extensionLoadingContext) {}
+  }
+
+  private static class NoOpWalkingEnricher implements WalkingDeclarationEnricher {
+
+    @Override
+    public DeclarationEnricherPhase getExecutionPhase() {
+      return POST_STRUCTURE;
+    }
+
+    @Override
+    public Optional<DeclarationEnricherWalkDelegate> getWalkDelegate(ExtensionLoadingContext extensionLoadingContext) {
+      return of(new DeclarationEnricherWalkDelegate());
+    }
+  }
+
+  private static class WarningValidator implements ExtensionModelValidator {
+
+    @Override
+    public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
+      problemsReporter.addWarning(new Problem(model, "first"));
+      problemsReporter.addWarning(new Problem(model, "second"));
+    }
+  }
+}
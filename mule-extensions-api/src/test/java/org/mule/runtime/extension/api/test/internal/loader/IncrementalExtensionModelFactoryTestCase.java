@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.ExpressionSupport.SUPPORTED;
+import static org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer.CONFIG_NAME;
+import static org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer.CONNECTION_PROVIDER_NAME;
+import static org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer.CONSUMER;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.mule.metadata.api.ClassTypeLoader;
+import org.mule.metadata.api.builder.WithAnnotation;
+import org.mule.metadata.api.model.BooleanType;
+import org.mule.metadata.java.api.annotation.ClassInformationAnnotation;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConfigurationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConnectionProviderDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterDeclaration;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer;
+import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
+import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.IncrementalExtensionModelFactory;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IncrementalExtensionModelFactoryTestCase {
+
+  private static final String ADDED_OPERATION = "addedOperation";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ClassTypeLoader typeLoader = ExtensionsTypeLoaderFactory.getDefault().createTypeLoader();
+  private final TestWebServiceConsumerDeclarer reference = new TestWebServiceConsumerDeclarer() {
+
+    @Override
+    protected BooleanType getBooleanType() {
+      return super.withType(typeBuilder.booleanType(), Boolean.class).build();
+    }
+
+    @Override
+    protected <T extends WithAnnotation<?>> T withType(T builder, Class<?> type) {
+      return (T) super.withType(builder, type)
+          .with(new ClassInformationAnnotation(type));
+    }
+  };
+
+  private final IncrementalExtensionModelFactory factory = new IncrementalExtensionModelFactory();
+  private ExtensionDeclarer declarer;
+
+  @Before
+  public void before() {
+    declarer = declare();
+  }
+
+  @Test
+  @Description("Rebuilding an unchanged declaration reuses the models of all of its components")
+  public void unchangedComponentsReused() {
+    ExtensionModel first = build(declarer);
+    ExtensionModel second = build(declarer);
+
+    assertThat(second.getOperationModel(CONSUMER).get(), is(sameInstance(first.getOperationModel(CONSUMER).get())));
+    assertThat(second.getConnectionProviderModel(CONNECTION_PROVIDER_NAME).get(),
+               is(sameInstance(first.getConnectionProviderModel(CONNECTION_PROVIDER_NAME).get())));
+  }
+
+  @Test
+  @Description("An operation added after a build is enriched and built, without enriching the already built ones again")
+  public void addedOperationEnriched() {
+    ExtensionModel first = build(declarer);
+    OperationDeclaration consumer = operationDeclaration(CONSUMER);
+    int consumerParameters = consumer.getAllParameters().size();
+
+    OperationDeclarer added = declarer.withOperation(ADDED_OPERATION).describedAs("added");
+    added.withOutput().ofType(typeLoader.load(String.class));
+    added.withOutputAttributes().ofType(typeLoader.load(void.class));
+    ExtensionModel second = build(declarer);
+
+    assertThat(operationDeclaration(ADDED_OPERATION).getStereotype(), is(notNullValue()));
+    assertThat(second.getOperationModel(ADDED_OPERATION).isPresent(), is(true));
+    assertThat(consumer.getAllParameters().size(), is(consumerParameters));
+    assertThat(second.getOperationModel(CONSUMER).get(), is(sameInstance(first.getOperationModel(CONSUMER).get())));
+  }
+
+  @Test
+  @Description("A different declaration is built from scratch")
+  public void differentDeclarationBuiltFromScratch() {
+    OperationModel first = build(declarer).getOperationModel(CONSUMER).get();
+    OperationModel second = build(declare()).getOperationModel(CONSUMER).get();
+
+    assertThat(second, is(not(sameInstance(first))));
+  }
+
+  @Test
+  @Description("Reset makes the next build of the same declaration convert every component again, without enriching it twice")
+  public void reset() {
+    OperationModel first = build(declarer).getOperationModel(CONSUMER).get();
+    int consumerParameters = operationDeclaration(CONSUMER).getAllParameters().size();
+    factory.reset();
+    OperationModel second = build(declarer).getOperationModel(CONSUMER).get();
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(second.getAllParameterModels().size(), is(first.getAllParameterModels().size()));
+    assertThat(operationDeclaration(CONSUMER).getAllParameters().size(), is(consumerParameters));
+  }
+
+  @Test
+  @Description("A component modified in place after being built fails the next build instead of reusing its stale model")
+  public void componentModifiedInPlaceFails() {
+    build(declarer);
+    operationDeclaration(CONSUMER).getDefaultParameterGroup().addParameter(new ParameterDeclaration("addedParameter"));
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage(CONSUMER);
+    build(declarer);
+  }
+
+  @Test
+  @Description("An already built component added to a new owner fails the next build, since its enrichment depends on its owners")
+  public void componentAddedToNewOwnerFails() {
+    build(declarer);
+    declarer.withConfig("addedConfig").getDeclaration().addOperation(operationDeclaration(CONSUMER));
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage(CONSUMER);
+    build(declarer);
+  }
+
+  @Test
+  @Description("A connection provider added to an already built configuration fails the next build, since the enrichment of the "
+      + "configuration depends on its providers")
+  public void connectionProviderAddedToBuiltConfigurationFails() {
+    build(declarer);
+
+    ParameterDeclaration dynamicParameter = new ParameterDeclaration("host");
+    dynamicParameter.setType(typeLoader.load(String.class), false);
+    dynamicParameter.setExpressionSupport(SUPPORTED);
+    ConnectionProviderDeclaration dynamicProvider = new ConnectionProviderDeclaration("dynamicConnection");
+    dynamicProvider.getDefaultParameterGroup().addParameter(dynamicParameter);
+    configurationDeclaration(CONFIG_NAME).addConnectionProvider(dynamicProvider);
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage(CONFIG_NAME);
+    build(declarer);
+  }
+
+  @Test
+  @Description("A declaration which failed to build may be partially enriched, so it is not built again")
+  public void failedDeclarationNotBuiltAgain() {
+    DefaultExtensionLoadingContext failingContext = loadingContext(declarer);
+    failingContext.addCustomDeclarationEnricher(context -> {
+      throw new IllegalArgumentException("failed");
+    });
+    try {
+      factory.create(failingContext);
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+
+    expectedException.expect(IllegalStateException.class);
+    build(declarer);
+  }
+
+  @Test
+  @Description("Declaring the extension again after a component was modified in place builds it from scratch")
+  public void declaredAgainAfterModification() {
+    OperationModel first = build(declarer).getOperationModel(CONSUMER).get();
+    operationDeclaration(CONSUMER).getDefaultParameterGroup().addParameter(new ParameterDeclaration("addedParameter"));
+    try {
+      build(declarer);
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    OperationModel second = build(declare()).getOperationModel(CONSUMER).get();
+    assertThat(second, is(not(sameInstance(first))));
+  }
+
+  private ExtensionDeclarer declare() {
+    ExtensionDeclarer extensionDeclarer = new ExtensionDeclarer();
+    reference.declareOn(extensionDeclarer);
+    return extensionDeclarer;
+  }
+
+  private ExtensionModel build(ExtensionDeclarer extensionDeclarer) {
+    return factory.create(loadingContext(extensionDeclarer));
+  }
+
+  private DefaultExtensionLoadingContext loadingContext(ExtensionDeclarer extensionDeclarer) {
+    return new DefaultExtensionLoadingContext(extensionDeclarer,
+                                              builder(getClass().getClassLoader(), getDefault(emptySet())).build());
+  }
+
+  private OperationDeclaration operationDeclaration(String name) {
+    return declarer.getDeclaration().getOperations().stream()
+        .filter(operation -> operation.getName().equals(name))
+        .findFirst()
+        .get();
+  }
+
+  private ConfigurationDeclaration configurationDeclaration(String name) {
+    return declarer.getDeclaration().getConfigurations().stream()
+        .filter(configuration -> configuration.getName().equals(name))
+        .findFirst()
+        .get();
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.PROBLEMS_HANDLER;
+
+import static java.lang.Thread.currentThread;
+import static java.lang.Thread.sleep;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.mule.metadata.api.builder.WithAnnotation;
+import org.mule.metadata.api.model.BooleanType;
+import org.mule.metadata.java.api.annotation.ClassInformationAnnotation;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.Problem;
+import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.privileged.loader.ProblemsHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import io.qameta.allure.Description;
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelExtensionModelValidationTestCase {
+
+  private static final int VALIDATORS_COUNT = 10;
+  private static final String PROBLEM_PREFIX = "problem ";
+
+  private final ExecutorService executor = newFixedThreadPool(4);
+  private final TestWebServiceConsumerDeclarer reference = new TestWebServiceConsumerDeclarer() {
+
+    @Override
+    protected BooleanType getBooleanType() {
+      return super.withType(typeBuilder.booleanType(), Boolean.class).build();
+    }
+
+    @Override
+    protected <T extends WithAnnotation<?>> T withType(T builder, Class<?> type) {
+      return (T) super.withType(builder, type)
+          .with(new ClassInformationAnnotation(type));
+    }
+  };
+
+  private final ExtensionModelLoader loader = new ExtensionModelLoader() {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      reference.declareOn(context.getExtensionDeclarer());
+    }
+  };
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @Description("Problems found by validators running in parallel are reported in the same order as a sequential validation")
+  public void problemsReportedInValidatorsOrder() {
+    List<ProblemsReporter> reporters = new ArrayList<>();
+    ExtensionModelLoadingRequest.Builder requestBuilder = builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .setForceExtensionValidation(true)
+        .setValidationExecutor(executor)
+        .addParameter(PROBLEMS_HANDLER, (ProblemsHandler) reporters::add);
+
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < VALIDATORS_COUNT; i++) {
+      requestBuilder.addValidator(new DelayedValidator(i));
+      expected.add(problemMessage(i));
+    }
+
+    loader.loadExtensionModel(requestBuilder.build());
+
+    assertThat(reporters.size(), is(1));
+    ProblemsReporter problemsReporter = reporters.get(0);
+    assertThat(testProblemMessages(problemsReporter.getErrors()), equalTo(expected));
+    assertThat(testProblemMessages(problemsReporter.getWarnings()), equalTo(expected));
+  }
+
+  private List<String> testProblemMessages(List<Problem> problems) {
+    return problems.stream()
+        .map(Problem::getMessage)
+        .filter(message -> message.startsWith(PROBLEM_PREFIX))
+        .collect(toList());
+  }
+
+  private static String problemMessage(int index) {
+    return PROBLEM_PREFIX + index;
+  }
+
+  /**
+   * Validator which takes longer the earlier it is registered, so that validators finish in reverse order.
+   */
+  private static class DelayedValidator implements ExtensionModelValidator {
+
+    private final int index;
+
+    private DelayedValidator(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
+      try {
+        sleep((VALIDATORS_COUNT - index) * 10L);
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+      }
+      problemsReporter.addError(new Problem(model, problemMessage(index)));
+      problemsReporter.addWarning(new Problem(model, problemMessage(index)));
+    }
+  }
+}
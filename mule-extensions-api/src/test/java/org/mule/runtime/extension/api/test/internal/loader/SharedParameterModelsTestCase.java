@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer.CONSUMER;
+import static org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer.OPERATION;
+import static org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer.SERVICE;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.lang.System.gc;
+import static java.lang.Thread.sleep;
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.mule.metadata.api.builder.WithAnnotation;
+import org.mule.metadata.api.model.BooleanType;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.metadata.java.api.annotation.ClassInformationAnnotation;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.test.meta.model.tck.TestWebServiceConsumerDeclarer;
+import org.mule.runtime.extension.api.property.InfrastructureParameterModelProperty;
+import org.mule.runtime.extension.api.property.QNameModelProperty;
+import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+
+import java.lang.ref.WeakReference;
+
+import javax.xml.namespace.QName;
+
+import io.qameta.allure.Description;
+import org.junit.Test;
+
+public class SharedParameterModelsTestCase {
+
+  private final TestWebServiceConsumerDeclarer reference = new TestWebServiceConsumerDeclarer() {
+
+    @Override
+    protected BooleanType getBooleanType() {
+      return super.withType(typeBuilder.booleanType(), Boolean.class).build();
+    }
+
+    @Override
+    protected <T extends WithAnnotation<?>> T withType(T builder, Class<?> type) {
+      return (T) super.withType(builder, type)
+          .with(new ClassInformationAnnotation(type));
+    }
+  };
+
+  private final ExtensionModelFactory factory = new ExtensionModelFactory();
+
+  @Test
+  @Description("Equal parameters of extensions built from different declarations share the same model")
+  public void equalParametersShared() {
+    ExtensionModel first = build();
+    ExtensionModel second = build();
+
+    assertThat(getParameter(second, OPERATION), is(sameInstance(getParameter(first, OPERATION))));
+    assertThat(getParameter(second, SERVICE), is(sameInstance(getParameter(first, SERVICE))));
+  }
+
+  @Test
+  @Description("Different parameters don't share a model")
+  public void differentParametersNotShared() {
+    ExtensionModel extensionModel = build();
+
+    assertThat(getParameter(extensionModel, OPERATION), is(not(sameInstance(getParameter(extensionModel, SERVICE)))));
+  }
+
+  @Test
+  @Description("What shared parameters are built from is not retained once no extension uses them, since it may pin the class "
+      + "loader of the extension")
+  public void sharedParametersNotRetained() throws InterruptedException {
+    WeakReference<MetadataType> type =
+        new WeakReference<>(getParameter(build(new TestWebServiceConsumerDeclarer()), OPERATION).getType());
+
+    for (int i = 0; i < 50 && type.get() != null; i++) {
+      gc();
+      sleep(20);
+    }
+
+    assertThat(type.get(), is(nullValue()));
+  }
+
+  @Test
+  @Description("The model properties of infrastructure parameters are compared by value, so that such parameters can be shared")
+  public void infrastructurePropertiesEquality() {
+    assertThat(new InfrastructureParameterModelProperty(3), equalTo(new InfrastructureParameterModelProperty(3)));
+    assertThat(new InfrastructureParameterModelProperty(3), not(equalTo(new InfrastructureParameterModelProperty(4))));
+
+    QNameModelProperty qName = new QNameModelProperty(new QName("urn:test", "name", "test"));
+    assertThat(qName, equalTo(new QNameModelProperty(new QName("urn:test", "name", "test"))));
+    assertThat(qName.hashCode(), equalTo(new QNameModelProperty(new QName("urn:test", "name", "test")).hashCode()));
+    assertThat(qName, not(equalTo(new QNameModelProperty(new QName("urn:test", "name", "other")))));
+  }
+
+  private ExtensionModel build() {
+    return build(reference);
+  }
+
+  private ExtensionModel build(TestWebServiceConsumerDeclarer consumerDeclarer) {
+    ExtensionDeclarer declarer = new ExtensionDeclarer();
+    consumerDeclarer.declareOn(declarer);
+    return factory.create(new DefaultExtensionLoadingContext(declarer,
+                                                             builder(getClass().getClassLoader(), getDefault(emptySet()))
+                                                                 .build()));
+  }
+
+  private ParameterModel getParameter(ExtensionModel extensionModel, String name) {
+    return extensionModel.getOperationModel(CONSUMER).get().getAllParameterModels().stream()
+        .filter(parameter -> parameter.getName().equals(name))
+        .findFirst()
+        .get();
+  }
+}
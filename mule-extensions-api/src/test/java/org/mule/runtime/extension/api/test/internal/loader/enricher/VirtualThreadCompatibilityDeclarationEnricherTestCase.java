@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader.enricher;
+
+import static org.mule.runtime.api.meta.model.operation.ExecutionType.BLOCKING;
+import static org.mule.runtime.api.meta.model.operation.ExecutionType.CPU_LITE;
+import static org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty.COMPATIBLE;
+import static org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty.NOT_COMPATIBLE;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.meta.model.declaration.fluent.BaseDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.SourceDeclaration;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.property.VirtualThreadCompatibleModelProperty;
+import org.mule.runtime.extension.internal.loader.enricher.VirtualThreadCompatibilityDeclarationEnricher;
+
+import java.util.Optional;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VirtualThreadCompatibilityDeclarationEnricherTestCase {
+
+  private final VirtualThreadCompatibilityDeclarationEnricher enricher = new VirtualThreadCompatibilityDeclarationEnricher();
+
+  private ExtensionDeclarer declarer;
+  private ExtensionLoadingContext extensionLoadingContext;
+  private OperationDeclaration blockingOperation;
+  private OperationDeclaration nonBlockingOperation;
+  private OperationDeclaration optedOutOperation;
+  private SourceDeclaration source;
+
+  @Before
+  public void before() {
+    declarer = new ExtensionDeclarer().named("virtualThreads");
+    blockingOperation = declarer.withOperation("blocking").getDeclaration();
+    blockingOperation.setExecutionType(BLOCKING);
+    nonBlockingOperation = declarer.withOperation("nonBlocking").getDeclaration();
+    nonBlockingOperation.setExecutionType(CPU_LITE);
+    optedOutOperation = declarer.withOperation("optedOut").withModelProperty(NOT_COMPATIBLE).getDeclaration();
+    optedOutOperation.setExecutionType(BLOCKING);
+    source = declarer.withMessageSource("source").getDeclaration();
+
+    extensionLoadingContext = mock(ExtensionLoadingContext.class);
+    when(extensionLoadingContext.getExtensionDeclarer()).thenReturn(declarer);
+  }
+
+  @Test
+  @Description("The compatibility of the extension is propagated to its blocking operations and sources")
+  public void propagateExtensionCompatibility() {
+    declarer.withModelProperty(COMPATIBLE);
+    enricher.enrich(extensionLoadingContext);
+
+    assertThat(compatibility(blockingOperation), is(of(true)));
+    assertThat(compatibility(source), is(of(true)));
+    assertThat(compatibility(nonBlockingOperation), is(empty()));
+  }
+
+  @Test
+  @Description("Components which declare their own compatibility keep it")
+  public void componentCompatibilityOverridesExtensionOne() {
+    declarer.withModelProperty(COMPATIBLE);
+    enricher.enrich(extensionLoadingContext);
+
+    assertThat(compatibility(optedOutOperation), is(of(false)));
+  }
+
+  @Test
+  public void noExtensionCompatibility() {
+    enricher.enrich(extensionLoadingContext);
+
+    assertThat(compatibility(blockingOperation), is(empty()));
+    assertThat(compatibility(source), is(empty()));
+  }
+
+  private Optional<Boolean> compatibility(BaseDeclaration<?> declaration) {
+    return declaration.getModelProperty(VirtualThreadCompatibleModelProperty.class)
+        .map(VirtualThreadCompatibleModelProperty::isCompatible);
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.model;
+
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import io.qameta.allure.Description;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ComplexModelLookupTestCase {
+
+  private static final int THREADS = 8;
+
+  private ExecutorService executor;
+
+  private OperationModel operation;
+  private OperationModel shadowedOperation;
+  private SourceModel source;
+  private SourceModel shadowedSource;
+  private ConnectionProviderModel connectionProvider;
+  private ConnectionProviderModel shadowedConnectionProvider;
+  private ConfigurationModel configuration;
+  private ConfigurationModel shadowedConfiguration;
+  private ConstructModel construct;
+  private ConstructModel shadowedConstruct;
+  private FunctionModel function;
+  private FunctionModel shadowedFunction;
+
+  @Before
+  public void before() {
+    executor = newFixedThreadPool(THREADS);
+
+    operation = named(OperationModel.class, "operation");
+    shadowedOperation = named(OperationModel.class, "operation");
+    source = named(SourceModel.class, "source");
+    shadowedSource = named(SourceModel.class, "source");
+    connectionProvider = named(ConnectionProviderModel.class, "connection");
+    shadowedConnectionProvider = named(ConnectionProviderModel.class, "connection");
+    configuration = named(ConfigurationModel.class, "config");
+    shadowedConfiguration = named(ConfigurationModel.class, "config");
+    construct = named(ConstructModel.class, "construct");
+    shadowedConstruct = named(ConstructModel.class, "construct");
+    function = named(FunctionModel.class, "function");
+    shadowedFunction = named(FunctionModel.class, "function");
+  }
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @Description("When names clash the first component wins, as it did when the components were scanned in order")
+  public void firstComponentWithDuplicateNameWins() {
+    ExtensionModel extensionModel = extensionModel();
+
+    assertThat(extensionModel.getOperationModel("operation").get(), is(sameInstance(operation)));
+    assertThat(extensionModel.getSourceModel("source").get(), is(sameInstance(source)));
+    assertThat(extensionModel.getConnectionProviderModel("connection").get(), is(sameInstance(connectionProvider)));
+    assertThat(extensionModel.getConfigurationModel("config").get(), is(sameInstance(configuration)));
+    assertThat(extensionModel.getConstructModel("construct").get(), is(sameInstance(construct)));
+    assertThat(extensionModel.getFunctionModel("function").get(), is(sameInstance(function)));
+  }
+
+  @Test
+  public void missingComponents() {
+    ExtensionModel extensionModel = extensionModel();
+
+    assertThat(extensionModel.getOperationModel("missing").isPresent(), is(false));
+    assertThat(extensionModel.getSourceModel("missing").isPresent(), is(false));
+    assertThat(extensionModel.getConnectionProviderModel("missing").isPresent(), is(false));
+    assertThat(extensionModel.getConfigurationModel("missing").isPresent(), is(false));
+    assertThat(extensionModel.getConstructModel("missing").isPresent(), is(false));
+    assertThat(extensionModel.getFunctionModel("missing").isPresent(), is(false));
+  }
+
+  @Test
+  public void noComponents() {
+    ExtensionModel extensionModel = new ImmutableExtensionModel("empty", "", "1.0", "MuleSoft", COMMUNITY, emptyList(),
+                                                                emptyList(), emptyList(), emptyList(), emptyList(),
+                                                                emptyList(), DisplayModel.builder().build(),
+                                                                XmlDslModel.builder().build(), emptySet(), emptySet(),
+                                                                emptySet(), emptySet(), emptySet(), emptySet(), emptySet(),
+                                                                emptySet(), emptySet(), emptySet());
+
+    assertThat(extensionModel.getOperationModel("operation").isPresent(), is(false));
+    assertThat(extensionModel.getConfigurationModel("config").isPresent(), is(false));
+  }
+
+  @Test
+  @Description("Threads racing to build the index of a model on its first lookup all find the same components")
+  public void concurrentFirstLookups() throws Exception {
+    assertConcurrentFirstLookups(model -> model.getOperationModel("operation").get(), operation);
+    assertConcurrentFirstLookups(model -> model.getSourceModel("source").get(), source);
+    assertConcurrentFirstLookups(model -> model.getConnectionProviderModel("connection").get(), connectionProvider);
+    assertConcurrentFirstLookups(model -> model.getConfigurationModel("config").get(), configuration);
+    assertConcurrentFirstLookups(model -> model.getConstructModel("construct").get(), construct);
+    assertConcurrentFirstLookups(model -> model.getFunctionModel("function").get(), function);
+  }
+
+  private void assertConcurrentFirstLookups(Function<ExtensionModel, NamedObject> lookup, NamedObject expected)
+      throws Exception {
+    for (int i = 0; i < 50; i++) {
+      ExtensionModel extensionModel = extensionModel();
+      CountDownLatch start = new CountDownLatch(1);
+
+      List<Future<NamedObject>> lookups = new ArrayList<>();
+      for (int thread = 0; thread < THREADS; thread++) {
+        lookups.add(executor.submit(() -> {
+          start.await();
+          return lookup.apply(extensionModel);
+        }));
+      }
+      start.countDown();
+
+      for (Future<NamedObject> result : lookups) {
+        assertThat(result.get(), is(sameInstance(expected)));
+      }
+    }
+  }
+
+  private ExtensionModel extensionModel() {
+    return new ImmutableExtensionModel("lookup", "", "1.0", "MuleSoft", COMMUNITY,
+                                       asList(configuration, shadowedConfiguration),
+                                       asList(operation, shadowedOperation),
+                                       asList(connectionProvider, shadowedConnectionProvider),
+                                       asList(source, shadowedSource),
+                                       asList(function, shadowedFunction),
+                                       asList(construct, shadowedConstruct),
+                                       DisplayModel.builder().build(), XmlDslModel.builder().build(), emptySet(), emptySet(),
+                                       emptySet(), emptySet(), emptySet(), emptySet(), emptySet(), emptySet(), emptySet(),
+                                       emptySet());
+  }
+
+  private <T extends NamedObject> T named(Class<T> type, String name) {
+    T model = mock(type);
+    when(model.getName()).thenReturn(name);
+    return model;
+  }
+}
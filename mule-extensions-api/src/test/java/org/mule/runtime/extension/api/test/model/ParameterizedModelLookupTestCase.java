@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.model;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.extension.api.model.source.ImmutableSourceCallbackModel;
+
+import java.util.List;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParameterizedModelLookupTestCase {
+
+  private ParameterModel first;
+  private ParameterModel second;
+  private ParameterModel shadowed;
+  private ImmutableSourceCallbackModel model;
+
+  @Before
+  public void before() {
+    first = parameter("first");
+    second = parameter("second");
+    shadowed = parameter("first");
+
+    model = new ImmutableSourceCallbackModel("callback", "", asList(group(first, second), group(shadowed)), null, emptySet());
+  }
+
+  @Test
+  @Description("The flattened parameters are computed once and keep the group order")
+  public void allParameterModelsAreCached() {
+    List<ParameterModel> parameters = model.getAllParameterModels();
+
+    assertThat(parameters, contains(first, second, shadowed));
+    assertThat(model.getAllParameterModels(), is(sameInstance(parameters)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void allParameterModelsAreImmutable() {
+    model.getAllParameterModels().add(parameter("other"));
+  }
+
+  @Test
+  @Description("Parameters are found by name, the first group taking precedence when names clash")
+  public void lookupByName() {
+    assertThat(model.getParameterModel("second").get(), is(sameInstance(second)));
+    assertThat(model.getParameterModel("first").get(), is(sameInstance(first)));
+    assertThat(model.getParameterModel("missing").isPresent(), is(false));
+  }
+
+  @Test
+  public void noParameters() {
+    ImmutableSourceCallbackModel emptyModel = new ImmutableSourceCallbackModel("callback", "", emptyList(), null, emptySet());
+
+    assertThat(emptyModel.getAllParameterModels(), is(empty()));
+    assertThat(emptyModel.getParameterModel("first").isPresent(), is(false));
+  }
+
+  private ParameterModel parameter(String name) {
+    ParameterModel parameter = mock(ParameterModel.class);
+    when(parameter.getName()).thenReturn(name);
+    return parameter;
+  }
+
+  private ParameterGroupModel group(ParameterModel... parameters) {
+    ParameterGroupModel group = mock(ParameterGroupModel.class);
+    when(group.getParameterModels()).thenReturn(asList(parameters));
+    return group;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.runtime;
+
+import static java.util.Collections.singletonList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.extension.api.runtime.streaming.ParallelPagingProvider;
+import org.mule.runtime.extension.api.runtime.streaming.PrefetchingPagingProvider;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelPagingProviderTestCase {
+
+  private ParallelPagingProvider<Object, String> pagingProvider;
+
+  @Before
+  public void before() {
+    pagingProvider = mock(ParallelPagingProvider.class);
+  }
+
+  @Test
+  @Description("Parallel providers also implement sequential fetching, for runtimes which treat them as plain paging providers")
+  public void sequentialFetchingImplemented() throws NoSuchMethodException {
+    assertThat(ParallelPagingProvider.class.getMethod("getPage", Object.class).isDefault(), is(false));
+  }
+
+  @Test
+  public void fetchByIndex() {
+    Object connection = new Object();
+    when(pagingProvider.getPage(connection, 1)).thenReturn(singletonList("second"));
+
+    assertThat(pagingProvider.getPage(connection, 1), contains("second"));
+  }
+
+  @Test
+  @Description("Providers implementing the SDK paging provider can opt into prefetching, as well as the legacy ones")
+  public void prefetchingProvidersAreSdkPagingProviders() {
+    PrefetchingPagingProvider<Object, String> prefetchingProvider = mock(PrefetchingPagingProvider.class);
+
+    assertThat(prefetchingProvider, instanceOf(org.mule.sdk.api.runtime.streaming.PagingProvider.class));
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.runtime;
+
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.ACCEPTED;
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.FILTERED_BY_WATERMARK;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.mule.runtime.extension.api.runtime.source.PollContext;
+import org.mule.runtime.extension.api.runtime.source.PollContext.PollItem;
+import org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.InOrder;
+
+public class PollContextTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private PollContext<String, Object> pollContext;
+
+  @Before
+  public void before() {
+    pollContext = mock(PollContext.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+  }
+
+  @Test
+  @Description("Runtimes without batch support accept each item in order, reporting the status of each of them")
+  public void acceptAll() {
+    Consumer<PollItem<String, Object>> first = item -> item.setId("first");
+    Consumer<PollItem<String, Object>> second = item -> item.setId("second");
+    when(pollContext.accept(any())).thenReturn(ACCEPTED, FILTERED_BY_WATERMARK);
+
+    List<PollItemStatus> statuses = pollContext.acceptAll(asList(first, second));
+
+    assertThat(statuses, contains(ACCEPTED, FILTERED_BY_WATERMARK));
+    InOrder inOrder = inOrder(pollContext);
+    inOrder.verify(pollContext).accept(first);
+    inOrder.verify(pollContext).accept(second);
+  }
+
+  @Test
+  public void acceptAllNull() {
+    expectedException.expect(IllegalArgumentException.class);
+    pollContext.acceptAll(null);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.runtime;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.source.SourceCallback;
+import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
+
+import java.util.List;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.InOrder;
+
+public class SourceCallbackTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private SourceCallback<String, Object> callback;
+  private Result<String, Object> first;
+  private Result<String, Object> second;
+
+  @Before
+  public void before() {
+    callback = mock(SourceCallback.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+    first = Result.<String, Object>builder().output("first").build();
+    second = Result.<String, Object>builder().output("second").build();
+  }
+
+  @Test
+  @Description("Runtimes without batch support handle each message of a batch in order")
+  public void handleBatch() {
+    callback.handleBatch(asList(first, second));
+
+    InOrder inOrder = inOrder(callback);
+    inOrder.verify(callback).handle(first);
+    inOrder.verify(callback).handle(second);
+  }
+
+  @Test
+  @Description("Runtimes without batch support handle each message of a batch along with the context in its same position")
+  public void handleBatchWithContexts() {
+    SourceCallbackContext firstContext = mock(SourceCallbackContext.class);
+    SourceCallbackContext secondContext = mock(SourceCallbackContext.class);
+
+    callback.handleBatch(asList(first, second), asList(firstContext, secondContext));
+
+    InOrder inOrder = inOrder(callback);
+    inOrder.verify(callback).handle(first, firstContext);
+    inOrder.verify(callback).handle(second, secondContext);
+  }
+
+  @Test
+  public void handleNullBatch() {
+    expectedException.expect(IllegalArgumentException.class);
+    callback.handleBatch(null);
+  }
+
+  @Test
+  public void handleBatchWithMismatchingContexts() {
+    List<SourceCallbackContext> contexts = singletonList(mock(SourceCallbackContext.class));
+
+    expectedException.expect(IllegalArgumentException.class);
+    callback.handleBatch(asList(first, second), contexts);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.util;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.mule.runtime.extension.api.util.CachingHierarchyClassMap;
+import org.mule.runtime.extension.api.util.HierarchyClassMap;
+
+import org.junit.Test;
+
+public class CachingHierarchyClassMapTestCase extends HierarchyClassMapTestCase {
+
+  @Override
+  protected HierarchyClassMap<Object> createMap() {
+    return new CachingHierarchyClassMap<>();
+  }
+
+  @Test
+  public void negativeLookupInvalidatedOnPut() {
+    map.clear();
+    assertThat(map.containsKey(Dog.class), is(false));
+    assertThat(map.get(Dog.class), is(nullValue()));
+
+    map.put(RabidDog.class, new RabidDog());
+    assertThat(map.containsKey(Dog.class), is(true));
+    assertThat(map.get(Dog.class), is(instanceOf(RabidDog.class)));
+  }
+
+  @Test
+  public void positiveLookupInvalidatedOnRemove() {
+    map.remove(Dog.class);
+    assertThat(map.get(Dog.class), is(instanceOf(RabidDog.class)));
+
+    map.remove(RabidDog.class);
+    assertThat(map.containsKey(Dog.class), is(false));
+    assertThat(map.get(Dog.class), is(nullValue()));
+  }
+
+  @Test
+  public void keyMappedToNull() {
+    map.clear();
+    map.put(RabidDog.class, null);
+
+    assertThat(map.containsKey(Dog.class), is(true));
+    assertThat(map.get(Dog.class), is(nullValue()));
+    assertThat(map.containsKey(String.class), is(false));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void viewsAreUnmodifiable() {
+    map.keySet().remove(Dog.class);
+  }
+}
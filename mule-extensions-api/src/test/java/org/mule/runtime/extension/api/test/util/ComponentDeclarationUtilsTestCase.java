@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.util;
+
+import static org.mule.runtime.extension.privileged.util.ComponentDeclarationUtils.asPagedOperation;
+import static org.mule.runtime.extension.privileged.util.ComponentDeclarationUtils.isPagedOperation;
+import static org.mule.runtime.extension.privileged.util.ComponentDeclarationUtils.isParallelPagedOperation;
+import static org.mule.runtime.extension.privileged.util.ComponentDeclarationUtils.isPrefetchingPagedOperation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.meta.model.ComponentModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclarer;
+import org.mule.runtime.extension.internal.property.PagedOperationModelProperty;
+
+import io.qameta.allure.Description;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ComponentDeclarationUtilsTestCase {
+
+  private OperationDeclarer operation;
+
+  @Before
+  public void before() {
+    operation = new ExtensionDeclarer().named("paging").withOperation("list");
+  }
+
+  @Test
+  public void notPaged() {
+    ComponentModel model = model();
+
+    assertThat(isPagedOperation(model), is(false));
+    assertThat(isPrefetchingPagedOperation(model), is(false));
+    assertThat(isParallelPagedOperation(model), is(false));
+  }
+
+  @Test
+  @Description("Pages of paged operations are fetched one at a time, unless they opt into something else")
+  public void paged() {
+    asPagedOperation(operation);
+    ComponentModel model = model();
+
+    assertThat(isPagedOperation(model), is(true));
+    assertThat(isPrefetchingPagedOperation(model), is(false));
+    assertThat(isParallelPagedOperation(model), is(false));
+  }
+
+  @Test
+  public void prefetchingPaged() {
+    asPagedOperation(operation, true, false);
+    ComponentModel model = model();
+
+    assertThat(isPagedOperation(model), is(true));
+    assertThat(isPrefetchingPagedOperation(model), is(true));
+    assertThat(isParallelPagedOperation(model), is(false));
+  }
+
+  @Test
+  @Description("Fetching pages in parallel implies fetching them ahead of the consumer")
+  public void parallelImpliesPrefetching() {
+    asPagedOperation(operation, false, true);
+    ComponentModel model = model();
+
+    assertThat(isPagedOperation(model), is(true));
+    assertThat(isPrefetchingPagedOperation(model), is(true));
+    assertThat(isParallelPagedOperation(model), is(true));
+  }
+
+  @Test
+  @Description("Only the paged property of prefetching operations is serialized, so the one of the rest is unchanged")
+  public void onlyPrefetchingPropertyIsPublic() {
+    assertThat(new PagedOperationModelProperty().isPublic(), is(false));
+    assertThat(new PagedOperationModelProperty(true, false).isPublic(), is(true));
+    assertThat(new PagedOperationModelProperty(false, true).isPublic(), is(true));
+  }
+
+  private ComponentModel model() {
+    ComponentModel model = mock(ComponentModel.class);
+    when(model.getModelProperty(PagedOperationModelProperty.class))
+        .thenReturn(operation.getDeclaration().getModelProperty(PagedOperationModelProperty.class));
+    return model;
+  }
+}
@@ -19,11 +19,16 @@ import org.junit.Test;
 
 public class HierarchyClassMapTestCase {
 
-  private HierarchyClassMap<Object> map = new HierarchyClassMap<>();
-  private Class[] keys = new Class[] {Dog.class, RabidDog.class, Human.class};
+  protected HierarchyClassMap<Object> map;
+  protected Class[] keys = new Class[] {Dog.class, RabidDog.class, Human.class};
+
+  protected HierarchyClassMap<Object> createMap() {
+    return new HierarchyClassMap<>();
+  }
 
   @Before
   public void before() throws Exception {
+    map = createMap();
     for (Class<?> key : keys) {
       map.put(key, key.newInstance());
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.util;
+
+import static org.mule.runtime.extension.api.util.NameUtils.hyphenize;
+import static org.mule.runtime.extension.api.util.NameUtils.itemize;
+import static org.mule.runtime.extension.api.util.NameUtils.pluralize;
+import static org.mule.runtime.extension.api.util.NameUtils.singularize;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.qameta.allure.Description;
+import org.junit.Test;
+
+public class NameUtilsInflectionTestCase {
+
+  @Test
+  @Description("Words not matched by any specific inflection get the default plural without going through the inflections")
+  public void pluralizeByDefault() {
+    assertThat(pluralize("url"), is("urls"));
+    assertThat(pluralize("timeout"), is("timeouts"));
+    assertThat(pluralize("Config"), is("Configs"));
+    assertThat(pluralize(""), is("s"));
+  }
+
+  @Test
+  public void pluralizeWithInflections() {
+    assertThat(pluralize("header"), is("headers"));
+    assertThat(pluralize("box"), is("boxes"));
+    assertThat(pluralize("category"), is("categories"));
+    assertThat(pluralize("address"), is("addresses"));
+    assertThat(pluralize("alias"), is("aliases"));
+    assertThat(pluralize("person"), is("people"));
+    assertThat(pluralize("matrixConfig"), is("matricesConfig"));
+  }
+
+  @Test
+  @Description("Words not matched by any inflection are singularized as is without going through the inflections")
+  public void singularizeAsIs() {
+    assertThat(singularize("attachment"), is("attachment"));
+    assertThat(singularize("Url"), is("Url"));
+  }
+
+  @Test
+  public void singularizeWithInflections() {
+    assertThat(singularize("urls"), is("url"));
+    assertThat(singularize("categories"), is("category"));
+    assertThat(singularize("addresses"), is("address"));
+    assertThat(singularize("people"), is("person"));
+    assertThat(singularize("data"), is("datum"));
+  }
+
+  @Test
+  public void inflectionsAreStable() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(pluralize("category"), is("categories"));
+      assertThat(singularize("categories"), is("category"));
+      assertThat(itemize("myParameter"), is(hyphenize("myParameter") + "-item"));
+    }
+  }
+}